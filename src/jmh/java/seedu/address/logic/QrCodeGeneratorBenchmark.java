@@ -0,0 +1,75 @@
+package seedu.address.logic;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.zxing.WriterException;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.util.SyntheticDataUtil;
+
+/**
+ * Measures generating the QR code of a person, which is done the first time the person is displayed.
+ * The QR codes are written to a temporary folder, which is deleted once the benchmark ends.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QrCodeGeneratorBenchmark {
+
+    private static final int PERSON_COUNT = 100;
+
+    private Path qrCodeFolder;
+    private Person[] persons;
+    private int nextPerson;
+
+    /**
+     * Creates the persons to generate QR codes for, and the folder to write them to.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        this.qrCodeFolder = Files.createTempDirectory("qrcodes");
+        this.persons = new Person[PERSON_COUNT];
+        for (int i = 0; i < PERSON_COUNT; i++) {
+            this.persons[i] = SyntheticDataUtil.getSyntheticPerson(i);
+        }
+    }
+
+    /**
+     * Generates the QR code of the next person.
+     */
+    @Benchmark
+    public void generateQrCode() throws WriterException, IOException {
+        Person person = this.persons[this.nextPerson];
+        QrCodeGenerator.generateQrCode(person, QrCodeGenerator.getQrCodePath(person, this.qrCodeFolder));
+        this.nextPerson = (this.nextPerson + 1) % PERSON_COUNT;
+    }
+
+    /**
+     * Deletes the generated QR codes and their folder.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        for (Person person : this.persons) {
+            Files.deleteIfExists(QrCodeGenerator.getQrCodePath(person, this.qrCodeFolder));
+        }
+        Files.deleteIfExists(this.qrCodeFolder);
+    }
+}
@@ -0,0 +1,72 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.parser.CliSyntax.ALL_PREFIXES;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.messages.AddCommandMessages;
+import seedu.address.logic.messages.EditCommandMessages;
+import seedu.address.logic.messages.FindCommandMessages;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Measures parsing of user input into commands, which is done for every command entered.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParserBenchmark {
+
+    private static final String ADD_ARGUMENTS = " n/Alex Yeoh p/87438807 e/alexyeoh@example.com"
+            + " a/Blk 30 Geylang Street 29, #06-40 w/80 h/192.5 nt/Likes to swim t/friends t/gym";
+    private static final String FIND_ARGUMENTS = " n/alex t/friends w/60, 80";
+    private static final String EDIT_ARGUMENTS = " 1 p/91234567 nt/Prefers morning sessions t/colleagues";
+
+    private final AddressBookParser parser = new AddressBookParser();
+
+    /**
+     * Parses an add command that sets every field.
+     */
+    @Benchmark
+    public Command parseAddCommand() throws ParseException {
+        return this.parser.parseCommand(AddCommandMessages.COMMAND_WORD + ADD_ARGUMENTS);
+    }
+
+    /**
+     * Parses a find command that searches by name, tag and weight range.
+     */
+    @Benchmark
+    public Command parseFindCommand() throws ParseException {
+        return this.parser.parseCommand(FindCommandMessages.COMMAND_WORD + FIND_ARGUMENTS);
+    }
+
+    /**
+     * Parses an edit command that changes a few fields.
+     */
+    @Benchmark
+    public Command parseEditCommand() throws ParseException {
+        return this.parser.parseCommand(EditCommandMessages.COMMAND_WORD + EDIT_ARGUMENTS);
+    }
+
+    /**
+     * Tokenizes the arguments of an add command that sets every field.
+     */
+    @Benchmark
+    public ArgumentMultimap tokenizeAddArguments() {
+        return ArgumentTokenizer.tokenize(ADD_ARGUMENTS, ALL_PREFIXES);
+    }
+}
@@ -0,0 +1,92 @@
+package seedu.address.model.person;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.util.SyntheticDataUtil;
+
+/**
+ * Measures the mutations that commands make to the list of persons of a synthetic roster.
+ * Each benchmark leaves the list as it found it.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UniquePersonListBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int rosterSize;
+
+    private List<Person> persons;
+    private UniquePersonList personList;
+    private Person newPerson;
+    private Person middlePerson;
+    private Person editedMiddlePerson;
+
+    /**
+     * Creates the roster, a person outside it, and an edited copy of the person in the middle of it.
+     */
+    @Setup
+    public void setUp() {
+        this.persons = new ArrayList<>(SyntheticDataUtil.getSyntheticAddressBook(this.rosterSize).getPersonList());
+        this.personList = new UniquePersonList();
+        this.personList.setPersons(this.persons);
+        this.newPerson = SyntheticDataUtil.getSyntheticPerson(this.rosterSize);
+
+        this.middlePerson = this.persons.get(this.rosterSize / 2);
+        this.editedMiddlePerson = new Person(this.middlePerson.getName(), this.middlePerson.getPhone(),
+                this.middlePerson.getEmail(), this.middlePerson.getAddress(), this.middlePerson.getWeights(),
+                this.middlePerson.getHeight(), new Note("Edited"), this.middlePerson.getTags(),
+                this.middlePerson.getExerciseSet());
+    }
+
+    /**
+     * Adds a person to the end of the list and removes it again, as the add and delete commands do.
+     */
+    @Benchmark
+    public void addAndRemovePerson() {
+        this.personList.add(this.newPerson);
+        this.personList.remove(this.newPerson);
+    }
+
+    /**
+     * Replaces the person in the middle of the list and restores it, as the edit command does.
+     */
+    @Benchmark
+    public void setPerson() {
+        this.personList.setPerson(this.middlePerson, this.editedMiddlePerson);
+        this.personList.setPerson(this.editedMiddlePerson, this.middlePerson);
+    }
+
+    /**
+     * Checks whether a person is in the list, as done for each person added.
+     */
+    @Benchmark
+    public boolean containsPerson() {
+        return this.personList.contains(this.newPerson);
+    }
+
+    /**
+     * Replaces every person in the list, as loading and clearing the address book do.
+     */
+    @Benchmark
+    public void setPersons() {
+        this.personList.setPersons(this.persons);
+    }
+}
@@ -0,0 +1,96 @@
+package seedu.address.model.person.predicates;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.commons.core.Range;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSearchIndex;
+import seedu.address.model.util.SampleDataUtil;
+import seedu.address.model.util.SyntheticDataUtil;
+
+/**
+ * Measures filtering a synthetic roster with the predicates of the find command.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CombinedPredicatesBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int rosterSize;
+
+    private List<Person> persons;
+    private PersonSearchIndex searchIndex;
+    private CombinedPredicates namePredicate;
+    private CombinedPredicates nameTagAndWeightPredicate;
+
+    /**
+     * Creates the roster and the predicates to filter it with.
+     */
+    @Setup
+    public void setUp() {
+        AddressBook addressBook = SyntheticDataUtil.getSyntheticAddressBook(this.rosterSize);
+        this.persons = new ArrayList<>(addressBook.getPersonList());
+        this.searchIndex = addressBook.getSearchIndex();
+        this.namePredicate = new CombinedPredicates(new NameContainsSubstringPredicate("yeoh"));
+        this.nameTagAndWeightPredicate = new CombinedPredicates(new NameContainsSubstringPredicate("a"),
+                new TagSetContainsAllTagsPredicate(SampleDataUtil.getTagSet("friends")),
+                new WeightMapContainsWeightRangePredicate(new Range(70f, 75f)));
+
+        // Builds the name and weight indexes, so that the benchmarks measure searching them
+        this.nameTagAndWeightPredicate.findCandidates(this.searchIndex);
+        this.namePredicate.findCandidates(this.searchIndex);
+    }
+
+    /**
+     * Counts the persons whose name contains a substring.
+     */
+    @Benchmark
+    public long filterByName() {
+        return this.persons.stream().filter(this.namePredicate).count();
+    }
+
+    /**
+     * Counts the persons whose name contains a substring, only testing the candidates found in the search index.
+     */
+    @Benchmark
+    public long filterByNameWithIndex() {
+        return this.namePredicate.findCandidates(this.searchIndex).get().stream().filter(this.namePredicate).count();
+    }
+
+    /**
+     * Counts the persons whose name contains a substring, who have a tag and who have a weight within a range.
+     */
+    @Benchmark
+    public long filterByNameTagAndWeight() {
+        return this.persons.stream().filter(this.nameTagAndWeightPredicate).count();
+    }
+
+    /**
+     * Counts the persons whose name contains a substring, who have a tag and who have a weight within a range, only
+     * testing the candidates found in the search index.
+     */
+    @Benchmark
+    public long filterByNameTagAndWeightWithIndex() {
+        return this.nameTagAndWeightPredicate.findCandidates(this.searchIndex).get().stream()
+                .filter(this.nameTagAndWeightPredicate).count();
+    }
+}
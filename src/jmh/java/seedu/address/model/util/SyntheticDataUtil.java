@@ -0,0 +1,67 @@
+package seedu.address.model.util;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.TreeMap;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.exercise.Exercise;
+import seedu.address.model.exercise.ExerciseSet;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Height;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Note;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.weight.Weight;
+
+/**
+ * Contains utility methods for populating {@code AddressBook} with any number of synthetic persons for benchmarks.
+ * The persons are built from the sample persons, and the same index always gives the same person.
+ */
+public class SyntheticDataUtil extends SampleDataUtil {
+
+    private static final String[] TAGS = {"friends", "colleagues", "neighbours", "family", "classmates", "gym"};
+    private static final String[] EXERCISES = {"squats", "deadlift", "bench press", "rows", "plank", "lunges"};
+    private static final int WEIGHTS_PER_PERSON = 12;
+    private static final LocalDateTime FIRST_WEIGH_IN = LocalDateTime.of(2023, 1, 1, 9, 0);
+
+    /**
+     * Returns the synthetic person at {@code index}, which differs in identity from the person at any other index.
+     */
+    public static Person getSyntheticPerson(int index) {
+        Person[] samplePersons = getSamplePersons();
+        Person sample = samplePersons[index % samplePersons.length];
+
+        TreeMap<LocalDateTime, Weight> weights = new TreeMap<>();
+        for (int i = 0; i < WEIGHTS_PER_PERSON; i++) {
+            weights.put(FIRST_WEIGH_IN.plusWeeks(i).plusMinutes(index % 60), new Weight(60f + (index + i) % 40));
+        }
+
+        Set<Exercise> exercises = getExerciseHashSet(
+                new Exercise(EXERCISES[index % EXERCISES.length], 3, 10 + index % 5, 60),
+                new Exercise(EXERCISES[(index + 1) % EXERCISES.length], 4, 8, 90));
+
+        return new Person(new Name(sample.getName().getValue() + " " + index),
+                new Phone(String.valueOf(80000000 + index)),
+                new Email("client" + index + "@example.com"),
+                new Address(sample.getAddress().getValue()),
+                weights,
+                new Height(150f + index % 50),
+                new Note(sample.getNote().getValue() + " on day " + index % 7),
+                getTagSet(TAGS[index % TAGS.length], TAGS[index / TAGS.length % TAGS.length]),
+                new ExerciseSet(exercises));
+    }
+
+    /**
+     * Returns an address book of the synthetic persons at indices 0 to {@code size} - 1.
+     */
+    public static AddressBook getSyntheticAddressBook(int size) {
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < size; i++) {
+            addressBook.addPerson(getSyntheticPerson(i));
+        }
+        return addressBook;
+    }
+}
@@ -0,0 +1,76 @@
+package seedu.address.storage;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.util.SyntheticDataUtil;
+
+/**
+ * Measures writing a synthetic roster to the JSON data file format and reading it back.
+ * The data is kept in memory, so that disk speed does not affect the results.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonSerializableAddressBookBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int rosterSize;
+
+    private AddressBook addressBook;
+    private byte[] serializedAddressBook;
+
+    /**
+     * Creates the roster and its JSON data file contents.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        this.addressBook = SyntheticDataUtil.getSyntheticAddressBook(this.rosterSize);
+        this.serializedAddressBook = writeAddressBook();
+    }
+
+    /**
+     * Writes the roster in the JSON data file format.
+     */
+    @Benchmark
+    public byte[] writeAddressBook() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (JsonGenerator generator = JsonUtil.createGenerator(out)) {
+            JsonSerializableAddressBook.writeTo(generator, this.addressBook);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Reads the roster from the JSON data file format.
+     */
+    @Benchmark
+    public AddressBook readAddressBook() throws IOException, IllegalValueException {
+        try (JsonParser parser = JsonUtil.createParser(new ByteArrayInputStream(this.serializedAddressBook))) {
+            return JsonSerializableAddressBook.readFrom(parser);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package seedu.address.storage;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.messages.AddressMessages;
+import seedu.address.model.person.messages.EmailMessages;
+import seedu.address.model.person.messages.NameMessages;
+import seedu.address.model.person.messages.PhoneMessages;
+import seedu.address.model.util.SampleDataUtil;
+
+/**
+ * Measures the validation done on every person read from a data file.
+ * {@link #validateWithStringMatches()} validates the same fields the way it was done before the validation patterns
+ * were precompiled, as a baseline for {@link #validateWithCompiledPatterns()}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidationBenchmark {
+
+    private String name;
+    private String phone;
+    private String email;
+    private String address;
+    private JsonAdaptedPerson storedPerson;
+
+    /**
+     * Picks the fields to validate from a sample person.
+     */
+    @Setup
+    public void setUp() {
+        Person person = SampleDataUtil.getSamplePersons()[0];
+        this.name = person.getName().getValue();
+        this.phone = person.getPhone().getValue();
+        this.email = person.getEmail().getValue();
+        this.address = person.getAddress().getValue();
+        this.storedPerson = new JsonAdaptedPerson(person);
+    }
+
+    /**
+     * Validates the identity fields and address with the precompiled validation patterns.
+     */
+    @Benchmark
+    public boolean validateWithCompiledPatterns() {
+        return Name.isValidName(this.name)
+                & Phone.isValidPhone(this.phone)
+                & Email.isValidEmail(this.email)
+                & Address.isValidAddress(this.address);
+    }
+
+    /**
+     * Validates the identity fields and address by compiling their validation regex on each call.
+     */
+    @Benchmark
+    public boolean validateWithStringMatches() {
+        return this.name.matches(NameMessages.VALIDATION_REGEX)
+                & this.phone.matches(PhoneMessages.REQUIRED_REGEX)
+                & this.email.matches(EmailMessages.VALIDATION_REGEX)
+                & this.address.matches(AddressMessages.VALIDATION_REGEX);
+    }
+
+    /**
+     * Converts a person read from a JSON data file into the model's {@code Person}.
+     */
+    @Benchmark
+    public Person convertStoredPerson() throws IllegalValueException {
+        return this.storedPerson.toModelType();
+    }
+}
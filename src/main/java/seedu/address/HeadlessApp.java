@@ -0,0 +1,178 @@
+package seedu.address;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.QrCodeService;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.messages.FindCommandMessages;
+import seedu.address.logic.messages.ListCommandMessages;
+import seedu.address.logic.messages.Messages;
+import seedu.address.logic.messages.RunCommandMessages;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+import seedu.address.storage.Storage;
+
+/**
+ * Runs the application without the GUI, for batch imports, exports and queries from a terminal or a server.
+ * The JavaFX toolkit is never started, so it starts faster and uses less memory than the GUI.
+ *
+ * Commands are read from the script given by {@code --script=FILE}, which is run as a single {@code run} command, or
+ * otherwise from standard input, one per line. The result of each command is printed to standard output, along with
+ * the clients listed by {@code list} and {@code find}, and errors are printed to standard error. The address book is
+ * saved after each command that changes it, before the next one is read.
+ */
+public class HeadlessApp {
+
+    /** The argument that runs the application without the GUI. */
+    public static final String HEADLESS_ARGUMENT = "--headless";
+
+    /** The exit status when a command failed. */
+    static final int EXIT_STATUS_FAILURE = 1;
+
+    private static final Logger logger = LogsCenter.getLogger(HeadlessApp.class);
+
+    private final Logic logic;
+    private final Model model;
+    private final AddressBookParser addressBookParser = new AddressBookParser();
+    private final PrintStream out;
+    private final PrintStream err;
+    private boolean isExit = false;
+
+    /**
+     * Constructs a {@code HeadlessApp} that executes commands through {@code logic} on {@code model}, and prints
+     * results to {@code out} and errors to {@code err}.
+     */
+    HeadlessApp(Logic logic, Model model, PrintStream out, PrintStream err) {
+        this.logic = logic;
+        this.model = model;
+        this.out = out;
+        this.err = err;
+    }
+
+    /**
+     * Returns true if {@code args} ask for the application to be run without the GUI.
+     */
+    public static boolean isHeadless(String... args) {
+        return List.of(args).contains(HEADLESS_ARGUMENT) || AppParameters.parse(args).getScriptPath() != null;
+    }
+
+    /**
+     * Runs the application without the GUI with the command-line arguments {@code args}, and exits once all
+     * commands have been executed.
+     */
+    public static void main(String[] args) {
+        logger.info("=============================[ Initializing FitBook ]===========================");
+        AppParameters appParameters = AppParameters.parse(args);
+        AppInitializer appInitializer = new AppInitializer(appParameters);
+        Storage storage = appInitializer.getStorage();
+        Model model = appInitializer.getModel();
+
+        QrCodeService qrCodeService = new QrCodeService();
+        // The address book is saved synchronously, as each command must be saved before the next is read.
+        Logic logic = new LogicManager(model, storage, null, qrCodeService);
+        HeadlessApp headlessApp = new HeadlessApp(logic, model, System.out, System.err);
+
+        logger.info("Starting FitBook without the GUI");
+        boolean isSuccessful;
+        if (appParameters.getScriptPath() != null) {
+            isSuccessful = headlessApp.runScript(appParameters.getScriptPath());
+        } else {
+            isSuccessful = headlessApp.runCommands(System.in);
+        }
+
+        logger.info("============================ [ Stopping FitBook ] =============================");
+        qrCodeService.shutdown();
+        System.exit(isSuccessful ? 0 : EXIT_STATUS_FAILURE);
+    }
+
+    /**
+     * Runs the commands in {@code scriptPath} as a single {@code run} command.
+     *
+     * @return True if every command succeeded, False otherwise.
+     */
+    boolean runScript(Path scriptPath) {
+        return this.execute(RunCommandMessages.COMMAND_WORD + " " + scriptPath);
+    }
+
+    /**
+     * Executes the commands read from {@code in}, one per line, until the end of the input or an {@code exit}
+     * command. Blank lines are skipped, and a failed command does not stop the commands after it.
+     *
+     * @return True if every command succeeded, False otherwise.
+     */
+    boolean runCommands(InputStream in) {
+        boolean isSuccessful = true;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            String commandText;
+            while ((commandText = reader.readLine()) != null) {
+                if (commandText.isBlank()) {
+                    continue;
+                }
+
+                isSuccessful &= this.execute(commandText);
+                if (this.isExit) {
+                    break;
+                }
+            }
+        } catch (IOException e) {
+            logger.warning("Unable to read commands: " + StringUtil.getDetails(e));
+            this.err.println(e.getMessage());
+            return false;
+        }
+        return isSuccessful;
+    }
+
+    /**
+     * Executes {@code commandText} and prints its result.
+     *
+     * @return True if the command succeeded, False otherwise.
+     */
+    private boolean execute(String commandText) {
+        CommandResult commandResult;
+        try {
+            commandResult = this.logic.execute(commandText);
+        } catch (CommandException | ParseException e) {
+            this.err.println(e.getMessage());
+            return false;
+        }
+
+        this.out.println(commandResult.getFeedbackToUser());
+        if (this.isListing(commandText)) {
+            List<Person> persons = this.model.getFilteredPersonList();
+            for (int i = 0; i < persons.size(); i++) {
+                this.out.println((i + 1) + ". " + Messages.format(persons.get(i)));
+            }
+        }
+        this.isExit = commandResult.isExit();
+        return true;
+    }
+
+    /**
+     * Returns true if {@code commandText} is a command that lists clients.
+     */
+    private boolean isListing(String commandText) {
+        String commandWord = commandText.trim().split("\\s+", 2)[0];
+        try {
+            String resolvedCommandWord = this.addressBookParser.resolveCommandWord(commandWord);
+            return resolvedCommandWord.equals(ListCommandMessages.COMMAND_WORD)
+                    || resolvedCommandWord.equals(FindCommandMessages.COMMAND_WORD);
+        } catch (ParseException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+
+/**
+ * Formats in which the address book data file can be stored.
+ * Each format has its own file extension, so that a data file is never named after a format it is not in.
+ */
+public enum DataFileFormat {
+    /** Human-readable JSON, the default format. */
+    JSON(".json"),
+    /** Compact binary encoding that loads faster for large address books. */
+    BINARY(".fbk");
+
+    private final String fileExtension;
+
+    DataFileFormat(String fileExtension) {
+        this.fileExtension = fileExtension;
+    }
+
+    public String getFileExtension() {
+        return this.fileExtension;
+    }
+
+    /**
+     * Returns the path of the data file in this format for the data file location {@code filePath}.
+     * If the name of {@code filePath} ends with the extension of any format, that extension is replaced by the one of
+     * this format, e.g. {@code data/addressbook.json} becomes {@code data/addressbook.fbk} for {@link #BINARY}.
+     * Otherwise, {@code filePath} is returned as it is.
+     */
+    public Path getDataFilePath(Path filePath) {
+        requireNonNull(filePath);
+
+        String fileName = filePath.getFileName().toString();
+        for (DataFileFormat format : values()) {
+            if (fileName.endsWith(format.fileExtension) && fileName.length() > format.fileExtension.length()) {
+                String baseName = fileName.substring(0, fileName.length() - format.fileExtension.length());
+                return filePath.resolveSibling(baseName + this.fileExtension);
+            }
+        }
+        return filePath;
+    }
+}
@@ -0,0 +1,66 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * A cache that holds at most a fixed number of values, evicting the least recently used value to make room for a new
+ * one.
+ * Not thread-safe: a cache should only be used by one thread, such as the JavaFX application thread.
+ */
+public class LruCache<K, V> {
+    private final int capacity;
+    private final LinkedHashMap<K, V> values;
+
+    /**
+     * Constructs an empty {@code LruCache} that holds at most {@code capacity} values.
+     */
+    public LruCache(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+        // Access order moves each value read or written to the end, so the eldest value is the least recently used.
+        this.values = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return this.size() > LruCache.this.capacity;
+            }
+        };
+    }
+
+    /**
+     * Returns the value cached for {@code key}, marking it as the most recently used.
+     */
+    public Optional<V> get(K key) {
+        requireNonNull(key);
+        return Optional.ofNullable(this.values.get(key));
+    }
+
+    /**
+     * Caches {@code value} for {@code key}, evicting the least recently used value if the cache is full.
+     */
+    public void put(K key, V value) {
+        requireNonNull(key);
+        requireNonNull(value);
+        this.values.put(key, value);
+    }
+
+    /**
+     * Removes all cached values.
+     */
+    public void clear() {
+        this.values.clear();
+    }
+
+    public int size() {
+        return this.values.size();
+    }
+
+    public int getCapacity() {
+        return this.capacity;
+    }
+}
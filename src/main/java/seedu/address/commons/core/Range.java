@@ -0,0 +1,72 @@
+package seedu.address.commons.core;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Represents an inclusive range of float values, such as the range of heights or weights searched for.
+ */
+public class Range {
+
+    private final float min;
+    private final float max;
+
+    /**
+     * Constructs a {@code Range} from {@code min} to {@code max} inclusive.
+     * {@code min} must not be greater than {@code max}.
+     */
+    public Range(float min, float max) {
+        assert min <= max : "The minimum of a range should not be greater than its maximum";
+        this.min = min;
+        this.max = max;
+    }
+
+    public float getMin() {
+        return this.min;
+    }
+
+    public float getMax() {
+        return this.max;
+    }
+
+    /**
+     * Returns true if {@code value} is within this range.
+     */
+    public boolean contains(float value) {
+        return value >= this.min && value <= this.max;
+    }
+
+    /**
+     * Returns true if every value within {@code other} is also within this range.
+     */
+    public boolean contains(Range other) {
+        return this.min <= other.min && other.max <= this.max;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof Range)) {
+            return false;
+        }
+
+        Range otherRange = (Range) other;
+        return Float.compare(this.min, otherRange.min) == 0 && Float.compare(this.max, otherRange.max) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Float.hashCode(this.min) + Float.hashCode(this.max);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("min", this.min)
+                .add("max", this.max)
+                .toString();
+    }
+}
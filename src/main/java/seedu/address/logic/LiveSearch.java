@@ -0,0 +1,238 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.LruCache;
+import seedu.address.logic.messages.FindCommandMessages;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.FindCommandParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.predicates.CombinedPredicates;
+
+/**
+ * Filters the displayed list of persons by a {@code find} command while it is being typed, before it is entered.
+ * Persons are tested on a background thread, and the matches are shown through the publisher, which must run them on
+ * the thread that uses the model, such as the JavaFX application thread.
+ *
+ * The matches of recent searches are cached until the address book changes. A search that narrows the last one shown,
+ * as typing more of a substring does, only tests the matches of the last one instead of every person.
+ *
+ * Once the command being typed is no longer a {@code find} command that can be parsed, or a command is executed, the
+ * displayed list is filtered again as it was before the search was shown, so that commands which act on the displayed
+ * list never act on a search that was not entered.
+ */
+public class LiveSearch {
+
+    /** The number of searches whose matches are cached. */
+    static final int CACHE_CAPACITY = 32;
+
+    /** Used for separating the command word from the arguments, as the {@code AddressBookParser} does. */
+    private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
+
+    private static final Logger logger = LogsCenter.getLogger(LiveSearch.class);
+
+    private final Model model;
+    private final Executor evaluator;
+    private final AddressBookParser addressBookParser = new AddressBookParser();
+    private final FindCommandParser findCommandParser = new FindCommandParser();
+    private final LruCache<CombinedPredicates, List<Person>> cachedMatches = new LruCache<>(CACHE_CAPACITY);
+
+    /** The version of the address book that the cached matches were found in. */
+    private long cachedAddressBookVersion;
+    /** The last search shown, and its matches, or null if none has been shown since the address book changed. */
+    private CombinedPredicates lastSearch;
+    private List<Person> lastMatches;
+    /** The filter of the displayed list before the first search shown, or null if no search is being shown. */
+    private Predicate<Person> filterBeforeSearch;
+
+    /** The ID of the latest search, so that the matches of earlier ones are not shown once they are found. */
+    private volatile long latestSearchId = 0;
+    private volatile Executor publisher = Runnable::run;
+
+    /**
+     * Constructs a {@code LiveSearch} of the persons in {@code model} that tests persons on a shared background thread,
+     * which is only started by the first search.
+     */
+    public LiveSearch(Model model) {
+        this(model, runnable -> DefaultEvaluator.EXECUTOR.execute(runnable));
+    }
+
+    /**
+     * Constructs a {@code LiveSearch} of the persons in {@code model} that tests persons through {@code evaluator}.
+     */
+    public LiveSearch(Model model, Executor evaluator) {
+        requireNonNull(model);
+        requireNonNull(evaluator);
+        this.model = model;
+        this.evaluator = evaluator;
+        this.cachedAddressBookVersion = model.getAddressBookVersion();
+    }
+
+    /**
+     * Sets the executor that shows the matches of searches, which must run them on the thread that uses the model.
+     * Matches are shown on the background thread if no publisher is set.
+     */
+    public void setPublisher(Executor publisher) {
+        requireNonNull(publisher);
+        this.publisher = publisher;
+    }
+
+    /**
+     * Starts filtering the displayed list of persons by {@code commandText}, if it is a {@code find} command whose
+     * arguments can be parsed so far. Any search that has not been shown yet is abandoned.
+     * Must be called on the thread that uses the model.
+     *
+     * @return True if a search was started, False if {@code commandText} is not a {@code find} command that can be
+     *     parsed.
+     */
+    public boolean search(String commandText) {
+        requireNonNull(commandText);
+        long searchId = ++this.latestSearchId;
+
+        Optional<CombinedPredicates> parsedSearch = this.parseSearch(commandText);
+        if (parsedSearch.isEmpty()) {
+            this.restoreFilter();
+            return false;
+        }
+        CombinedPredicates search = parsedSearch.get();
+
+        long addressBookVersion = this.model.getAddressBookVersion();
+        if (addressBookVersion != this.cachedAddressBookVersion) {
+            this.cachedMatches.clear();
+            this.lastSearch = null;
+            this.lastMatches = null;
+            this.cachedAddressBookVersion = addressBookVersion;
+        }
+
+        Optional<List<Person>> matches = this.cachedMatches.get(search);
+        if (matches.isPresent()) {
+            this.show(search, matches.get());
+            return true;
+        }
+
+        // The persons to test are found here, as the address book and its search index may only be read on this
+        // thread. Only the persons that the search index cannot rule out are tested.
+        Collection<Person> persons;
+        if (this.lastSearch != null && search.isNarrowingOf(this.lastSearch)) {
+            persons = this.lastMatches;
+        } else {
+            Optional<Set<Person>> candidates = this.model.findCandidates(search);
+            persons = candidates.isPresent()
+                    ? candidates.get()
+                    : new ArrayList<>(this.model.getAddressBook().getPersonList());
+        }
+        this.evaluator.execute(() -> this.evaluate(searchId, addressBookVersion, search, persons));
+        return true;
+    }
+
+    /**
+     * Abandons any search that has not been shown yet, and filters the displayed list again as it was before any
+     * search was shown, such as before a command is executed.
+     * Must be called on the thread that uses the model.
+     */
+    public void cancel() {
+        this.latestSearchId++;
+        this.restoreFilter();
+    }
+
+    private void restoreFilter() {
+        if (this.filterBeforeSearch == null) {
+            return;
+        }
+
+        this.model.updateFilteredPersonList(this.filterBeforeSearch);
+        this.filterBeforeSearch = null;
+    }
+
+    private Optional<CombinedPredicates> parseSearch(String commandText) {
+        Matcher matcher = BASIC_COMMAND_FORMAT.matcher(commandText.trim());
+        if (!matcher.matches()) {
+            return Optional.empty();
+        }
+
+        try {
+            String commandWord = this.addressBookParser.resolveCommandWord(matcher.group("commandWord"));
+            if (!commandWord.equals(FindCommandMessages.COMMAND_WORD)) {
+                return Optional.empty();
+            }
+            return Optional.of(this.findCommandParser.parsePredicates(matcher.group("arguments")));
+        } catch (ParseException e) {
+            // Partly typed command words and arguments, such as a range without its end, are shown once they can be
+            // parsed.
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Tests {@code persons} against {@code search} on the background thread, and publishes the matches.
+     */
+    private void evaluate(long searchId, long addressBookVersion, CombinedPredicates search,
+            Collection<Person> persons) {
+        if (searchId != this.latestSearchId) {
+            return;
+        }
+
+        List<Person> matches = new ArrayList<>();
+        for (Person person : persons) {
+            if (search.test(person)) {
+                matches.add(person);
+            }
+        }
+
+        this.publisher.execute(() -> this.publish(searchId, addressBookVersion, search, matches));
+    }
+
+    /**
+     * Caches and shows the matches of a search, unless a later search has started or the address book has changed.
+     */
+    private void publish(long searchId, long addressBookVersion, CombinedPredicates search, List<Person> matches) {
+        if (searchId != this.latestSearchId || addressBookVersion != this.model.getAddressBookVersion()) {
+            logger.fine("Discarded the matches of an outdated live search");
+            return;
+        }
+
+        this.cachedMatches.put(search, matches);
+        this.show(search, matches);
+    }
+
+    private void show(CombinedPredicates search, List<Person> matches) {
+        if (this.filterBeforeSearch == null) {
+            this.filterBeforeSearch = this.model.getFilteredPersonListPredicate();
+        }
+        this.lastSearch = search;
+        this.lastMatches = matches;
+
+        Set<Person> matchSet = Collections.newSetFromMap(new IdentityHashMap<>());
+        matchSet.addAll(matches);
+        this.model.updateFilteredPersonList(search, matchSet);
+    }
+
+    /**
+     * Holds the background thread that live searches are tested on by default, which is only started when the class
+     * is first used, so that apps that never search live, such as the headless one, never start it.
+     */
+    private static class DefaultEvaluator {
+        private static final Executor EXECUTOR = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "live-search");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
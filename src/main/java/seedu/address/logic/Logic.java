@@ -1,6 +1,9 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -23,6 +26,29 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Filters the displayed list of persons by {@code commandText} if it is a {@code find} command, without executing
+     * it, so that the list can be filtered while the command is typed.
+     * Persons are matched in the background, and the filter is updated through the executor set by
+     * {@link #setLiveSearchPublisher(Executor)}. Executing a command abandons the search.
+     *
+     * @return True if a search was started, False if {@code commandText} is not a {@code find} command that can be
+     *     parsed.
+     */
+    boolean liveSearch(String commandText);
+
+    /**
+     * Sets the executor that updates the filtered list of persons with the matches of live searches, which must run
+     * them on the thread that executes commands.
+     */
+    void setLiveSearchPublisher(Executor publisher);
+
+    /**
+     * Sets the handler that is given the error message of every save that fails after its command has completed.
+     * The handler may be called from a background thread.
+     */
+    void setSaveFailureHandler(Consumer<String> saveFailureHandler);
+
     /**
      * Returns the AddressBook.
      *
@@ -34,7 +60,13 @@ public interface Logic {
     ObservableList<Person> getFilteredPersonList();
 
     /**
-     * Returns the user prefs' address book file path.
+     * Returns a future that completes with the path of the QR code image of {@code person}, which is generated in
+     * the background if it does not exist yet.
+     */
+    CompletableFuture<Path> requestQrCode(Person person);
+
+    /**
+     * Returns the path of the data file, which has the extension of the data file format in the user prefs.
      */
     Path getAddressBookFilePath();
 
@@ -1,10 +1,17 @@
 package seedu.address.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
+import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
@@ -16,6 +23,7 @@ import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
+import seedu.address.storage.AsyncAddressBookSaver;
 import seedu.address.storage.Storage;
 
 /**
@@ -27,40 +35,142 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
+    /** Address book version that never matches a model's, so that the next command saves. */
+    private static final long UNSAVED_VERSION = -1;
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private final AsyncAddressBookSaver addressBookSaver;
+    private final QrCodeService qrCodeService;
+    private final LiveSearch liveSearch;
+
+    /** Version of the model's address book at the last successful or requested save. */
+    private volatile long savedAddressBookVersion;
+    private int skippedSaveCount = 0;
+    private volatile Consumer<String> saveFailureHandler = unused -> {};
 
     /**
-     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage} that saves the address book
+     * before each command returns.
+     * The address book in {@code model} is assumed to be the one currently held by {@code storage}.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, null);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage} that saves the address book
+     * in the background through {@code addressBookSaver}, or before each command returns if it is null.
+     * The address book in {@code model} is assumed to be the one currently held by {@code storage}.
+     */
+    public LogicManager(Model model, Storage storage, AsyncAddressBookSaver addressBookSaver) {
+        this(model, storage, addressBookSaver, new QrCodeService());
+    }
+
+    /**
+     * Constructs a {@code LogicManager} like {@link #LogicManager(Model, Storage, AsyncAddressBookSaver)} that
+     * provides QR codes through {@code qrCodeService}.
+     */
+    public LogicManager(Model model, Storage storage, AsyncAddressBookSaver addressBookSaver,
+            QrCodeService qrCodeService) {
+        requireNonNull(qrCodeService);
         this.model = model;
         this.storage = storage;
         this.addressBookParser = new AddressBookParser();
+        this.addressBookSaver = addressBookSaver;
+        this.qrCodeService = qrCodeService;
+        this.liveSearch = new LiveSearch(model);
+        this.savedAddressBookVersion = model.getAddressBookVersion();
+
+        if (addressBookSaver != null) {
+            addressBookSaver.setFailureHandler(this::handleBackgroundSaveFailure);
+        }
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         this.logger.info("----------------[USER COMMAND][" + commandText + "]");
+        this.liveSearch.cancel();
 
         CommandResult commandResult;
         Command command = this.addressBookParser.parseCommand(commandText);
         commandResult = command.execute(this.model);
 
+        long addressBookVersion = this.model.getAddressBookVersion();
+        if (addressBookVersion == this.savedAddressBookVersion) {
+            this.skippedSaveCount++;
+            this.logger.fine("Address book unchanged, skipped saving (" + this.skippedSaveCount
+                    + " saves skipped so far)");
+            return commandResult;
+        }
+
+        if (this.addressBookSaver != null) {
+            // Recorded before the save is requested, so that a failure of this save cannot be overwritten.
+            this.savedAddressBookVersion = addressBookVersion;
+            this.addressBookSaver.requestSave(createSnapshot(this.model.getAddressBook()));
+            return commandResult;
+        }
+
         try {
             this.storage.saveAddressBook(this.model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
+            this.savedAddressBookVersion = addressBookVersion;
         } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            throw new CommandException(getSaveErrorMessage(ioe), ioe);
         }
 
         return commandResult;
     }
 
+    @Override
+    public boolean liveSearch(String commandText) {
+        return this.liveSearch.search(commandText);
+    }
+
+    @Override
+    public void setLiveSearchPublisher(Executor publisher) {
+        this.liveSearch.setPublisher(publisher);
+    }
+
+    @Override
+    public void setSaveFailureHandler(Consumer<String> saveFailureHandler) {
+        requireNonNull(saveFailureHandler);
+        this.saveFailureHandler = saveFailureHandler;
+    }
+
+    /**
+     * Reports a failed background save and makes the next command save the address book again.
+     */
+    private void handleBackgroundSaveFailure(IOException e) {
+        this.savedAddressBookVersion = UNSAVED_VERSION;
+        this.saveFailureHandler.accept(getSaveErrorMessage(e));
+    }
+
+    /**
+     * Returns a copy of {@code addressBook} that later changes to it do not affect.
+     * Persons are immutable, so only the list of persons is copied, without rebuilding an {@code AddressBook}.
+     */
+    private static ReadOnlyAddressBook createSnapshot(ReadOnlyAddressBook addressBook) {
+        ObservableList<Person> persons = FXCollections.observableList(List.copyOf(addressBook.getPersonList()));
+        return () -> persons;
+    }
+
+    private static String getSaveErrorMessage(IOException e) {
+        if (e instanceof AccessDeniedException) {
+            return String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage());
+        }
+        return String.format(FILE_OPS_ERROR_FORMAT, e.getMessage());
+    }
+
+    /**
+     * Returns the number of times saving was skipped because the address book had not changed.
+     */
+    public int getSkippedSaveCount() {
+        return this.skippedSaveCount;
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return this.model.getAddressBook();
@@ -71,9 +181,14 @@ public class LogicManager implements Logic {
         return this.model.getFilteredPersonList();
     }
 
+    @Override
+    public CompletableFuture<Path> requestQrCode(Person person) {
+        return this.qrCodeService.requestQrCode(person);
+    }
+
     @Override
     public Path getAddressBookFilePath() {
-        return this.model.getAddressBookFilePath();
+        return this.storage.getAddressBookFilePath();
     }
 
     @Override
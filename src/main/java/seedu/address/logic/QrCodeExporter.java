@@ -0,0 +1,153 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import com.google.zxing.WriterException;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.person.Person;
+
+/**
+ * Exports the QR codes of many persons into a single ZIP archive.
+ * QR codes are generated in parallel, but only a bounded number of them are held in memory at once, as each one is
+ * written to the archive as soon as the QR codes before it have been written.
+ */
+public class QrCodeExporter {
+
+    /** The most QR codes generated but not yet written to the archive, or still being generated. */
+    static final int MAX_PENDING_QR_CODES = 64;
+
+    /** The initial size of the buffer a QR code image is written to, which fits most QR codes. */
+    private static final int QR_CODE_BUFFER_SIZE = 2048;
+
+    private final Executor executor;
+
+    /**
+     * Constructs a {@code QrCodeExporter} that generates QR codes on the common fork-join pool.
+     */
+    public QrCodeExporter() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructs a {@code QrCodeExporter} that generates QR codes on {@code executor}.
+     */
+    public QrCodeExporter(Executor executor) {
+        requireNonNull(executor);
+        this.executor = executor;
+    }
+
+    /**
+     * Writes the QR codes of {@code persons} to the ZIP archive {@code zipFile}, in the order of {@code persons}.
+     * The archive is replaced in a single step, so it is left unchanged if the export fails.
+     *
+     * @param progressListener notified on the calling thread after each QR code is written to the archive.
+     * @throws IOException if a QR code cannot be generated or the archive cannot be written.
+     */
+    public void export(List<Person> persons, Path zipFile, ProgressListener progressListener) throws IOException {
+        requireAllNonNull(persons, zipFile, progressListener);
+
+        // Copied here, as the persons may be changed by other threads during the export.
+        List<Person> exportedPersons = new ArrayList<>(persons);
+        Files.createDirectories(zipFile.toAbsolutePath().getParent());
+        FileUtil.writeToFile(zipFile, out -> this.writeArchive(exportedPersons, out, progressListener));
+    }
+
+    private void writeArchive(List<Person> persons, OutputStream out, ProgressListener progressListener)
+            throws IOException {
+        ZipOutputStream zip = new ZipOutputStream(out);
+        Deque<CompletableFuture<byte[]>> pendingQrCodes = new ArrayDeque<>();
+        int requestedCount = 0;
+        try {
+            for (int i = 0; i < persons.size(); i++) {
+                while (requestedCount < persons.size() && pendingQrCodes.size() < MAX_PENDING_QR_CODES) {
+                    Person person = persons.get(requestedCount++);
+                    pendingQrCodes.add(CompletableFuture.supplyAsync(() -> toPng(person), this.executor));
+                }
+
+                writeEntry(zip, getEntryName(i, persons.get(i)), await(pendingQrCodes.remove()));
+                progressListener.onProgress(i + 1, persons.size());
+            }
+            zip.finish();
+        } finally {
+            pendingQrCodes.forEach(pendingQrCode -> pendingQrCode.cancel(false));
+        }
+    }
+
+    /**
+     * Returns the name of the archive entry of the QR code of {@code person}, which is at {@code index} of the
+     * exported persons.
+     * Entries are numbered from 1 to match the displayed list, which also keeps the names of equally named persons
+     * apart.
+     */
+    static String getEntryName(int index, Person person) {
+        return (index + 1) + "_" + person.getName().getValue().replace(' ', '_') + ".png";
+    }
+
+    private static byte[] toPng(Person person) {
+        ByteArrayOutputStream png = new ByteArrayOutputStream(QR_CODE_BUFFER_SIZE);
+        try {
+            QrCodeGenerator.writeQrCode(person, png);
+        } catch (WriterException | IOException e) {
+            throw new CompletionException(e);
+        }
+        return png.toByteArray();
+    }
+
+    private static byte[] await(CompletableFuture<byte[]> pendingQrCode) throws IOException {
+        try {
+            return pendingQrCode.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException("Unable to generate QR code", e.getCause());
+        }
+    }
+
+    /**
+     * Writes {@code png} to {@code zip} uncompressed, as PNG images are already compressed.
+     */
+    private static void writeEntry(ZipOutputStream zip, String name, byte[] png) throws IOException {
+        CRC32 crc = new CRC32();
+        crc.update(png);
+
+        ZipEntry entry = new ZipEntry(name);
+        entry.setMethod(ZipEntry.STORED);
+        entry.setSize(png.length);
+        entry.setCrc(crc.getValue());
+
+        zip.putNextEntry(entry);
+        zip.write(png);
+        zip.closeEntry();
+    }
+
+    /**
+     * Represents a function that is notified of the progress of an export.
+     */
+    @FunctionalInterface
+    public interface ProgressListener {
+        /**
+         * Notifies that {@code exportedCount} of the {@code totalCount} QR codes have been written to the archive.
+         */
+        void onProgress(int exportedCount, int totalCount);
+    }
+}
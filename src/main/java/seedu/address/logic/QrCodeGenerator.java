@@ -1,9 +1,13 @@
 package seedu.address.logic;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -15,6 +19,7 @@ import com.google.zxing.common.BitMatrix;
 import com.google.zxing.qrcode.QRCodeWriter;
 import com.google.zxing.qrcode.decoder.ErrorCorrectionLevel;
 
+import seedu.address.commons.util.FileUtil;
 import seedu.address.model.person.Person;
 
 /**
@@ -25,6 +30,10 @@ public class QrCodeGenerator {
      * The folder where QR codes are stored.
      */
     public static final Path QR_CODE_FOLDER = Paths.get("data", "qrcodes");
+    /**
+     * Separates the owner hash at the start of the name of a QR code file from its content hash.
+     */
+    public static final String OWNER_HASH_SEPARATOR = "-";
     /**
      * The width of the QR code.
      */
@@ -33,18 +42,52 @@ public class QrCodeGenerator {
      * The height of the QR code.
      */
     private static final int QR_CODE_HEIGHT = 200;
+    /**
+     * The algorithm used to hash the contents of QR codes.
+     */
+    private static final String CONTENT_HASH_ALGORITHM = "SHA-256";
+    /**
+     * The number of hexadecimal digits of the owner hash in the name of a QR code file.
+     */
+    private static final int OWNER_HASH_LENGTH = 16;
 
     /**
-     * Generates a QR code based on the provided person information and saves it to the specified file path
+     * Generates a QR code based on the provided person information and saves it to {@code path}.
+     * The file is replaced in a single step, so that it never holds a partially written QR code.
      *
      * @param person the person object containing the information to encode in the QR code
+     * @param path   the file to save the QR code image to
      * @throws WriterException if an error occurs during the encoding process
      * @throws IOException     if an error occurs while writing the QR code image to the file
      */
-    public static void generateQrCode(Person person) throws WriterException, IOException {
+    public static void generateQrCode(Person person, Path path) throws WriterException, IOException {
         // As we generate a QR code from a person object, the person object must not be null
         assert (person != null);
 
+        BitMatrix bitMatrix = encodeQrCode(person);
+
+        Files.createDirectories(path.toAbsolutePath().getParent()); // Create necessary folders along the path
+        FileUtil.writeToFile(path, out -> MatrixToImageWriter.writeToStream(bitMatrix, "PNG", out));
+    }
+
+    /**
+     * Generates a QR code based on the provided person information and writes it to {@code out} as a PNG image.
+     *
+     * @param person the person object containing the information to encode in the QR code
+     * @param out    the stream to write the QR code image to, which is left open
+     * @throws WriterException if an error occurs during the encoding process
+     * @throws IOException     if an error occurs while writing the QR code image to the stream
+     */
+    public static void writeQrCode(Person person, OutputStream out) throws WriterException, IOException {
+        assert (person != null);
+
+        MatrixToImageWriter.writeToStream(encodeQrCode(person), "PNG", out);
+    }
+
+    /**
+     * Encodes the VCard of {@code person} as a QR code.
+     */
+    private static BitMatrix encodeQrCode(Person person) throws WriterException {
         String vCard = createVCardString(person);
 
         Map<EncodeHintType, Object> hints = new HashMap<>();
@@ -53,11 +96,7 @@ public class QrCodeGenerator {
         hints.put(EncodeHintType.ERROR_CORRECTION, ErrorCorrectionLevel.L);
 
         QRCodeWriter qrCodeWriter = new QRCodeWriter();
-        BitMatrix bitMatrix = qrCodeWriter.encode(vCard, BarcodeFormat.QR_CODE, QR_CODE_WIDTH, QR_CODE_HEIGHT, hints);
-
-        Path path = getQrCodePath(person);
-        Files.createDirectories(path.getParent()); // Create necessary folders along the path if they do not exist
-        MatrixToImageWriter.writeToPath(bitMatrix, "PNG", path);
+        return qrCodeWriter.encode(vCard, BarcodeFormat.QR_CODE, QR_CODE_WIDTH, QR_CODE_HEIGHT, hints);
     }
 
     /**
@@ -78,12 +117,44 @@ public class QrCodeGenerator {
     }
 
     /**
-     * Generates the file path for the QR code of a specific person
+     * Generates the file path for the QR code of a specific person in {@code folder}.
+     * The file is named after the owner hash of the person, followed by a hash of the contents of the QR code, so an
+     * existing file at this path always holds the current QR code of the person.
      *
      * @param person the person for whom the QR code path is generated
+     * @param folder the folder the QR code is stored in
      * @return the file path for the QR code
      */
-    public static Path getQrCodePath(Person person) {
-        return Paths.get(QR_CODE_FOLDER.toString(), person.hashCode() + ".png");
+    public static Path getQrCodePath(Person person, Path folder) {
+        return folder.resolve(getOwnerHash(person) + OWNER_HASH_SEPARATOR + getContentHash(person) + ".png");
+    }
+
+    /**
+     * Returns a hash of the name and phone of {@code person}, as a hexadecimal string, which starts the name of every
+     * QR code file of the person whatever their note, so that the files can be recognised without the note.
+     */
+    public static String getOwnerHash(Person person) {
+        return hash(person.getName() + "\n" + person.getPhone()).substring(0, OWNER_HASH_LENGTH);
+    }
+
+    /**
+     * Returns the SHA-256 hash of the contents of the QR code of {@code person}, as a hexadecimal string.
+     */
+    public static String getContentHash(Person person) {
+        return hash(createVCardString(person));
+    }
+
+    private static String hash(String text) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance(CONTENT_HASH_ALGORITHM);
+            byte[] hash = digest.digest(text.getBytes(StandardCharsets.UTF_8));
+            StringBuilder hexHash = new StringBuilder(2 * hash.length);
+            for (byte b : hash) {
+                hexHash.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return hexHash.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new AssertionError("Every Java platform supports " + CONTENT_HASH_ALGORITHM, e);
+        }
     }
 }
@@ -0,0 +1,220 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+import com.google.zxing.WriterException;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.person.Person;
+
+/**
+ * Provides the QR codes of persons, generating each one on a bounded pool of background threads the first time it
+ * is requested.
+ * QR code files are named after a hash of their contents, so a QR code is only generated if no file with its current
+ * contents exists yet, and edits that do not change the contents keep using the same file. Files that no longer
+ * belong to any person are left in place until {@link #removeOrphanedQrCodes} is called.
+ * The names of QR code files also start with the owner hash of their person, so that the sweep can recognise the
+ * files of persons whose details have not been loaded without loading them. The other QR codes of such a person are
+ * deleted once one of their QR codes is requested, which gives the current contents of the person's QR code.
+ */
+public class QrCodeService {
+
+    /** The most QR codes generated at the same time, leaving a core free for the rest of the app. */
+    static final int WORKER_COUNT = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() - 1));
+
+    /** Matches QR code files, and the temporary files they are written to first. */
+    private static final String QR_CODE_FILE_GLOB = "*.{png,tmp}";
+    private static final String QR_CODE_FILE_EXTENSION = ".png";
+    /** How long before a sweep a file must have been last modified for the sweep to delete it. */
+    private static final Duration ORPHAN_MIN_AGE = Duration.ofMinutes(1);
+
+    private static final Logger logger = LogsCenter.getLogger(QrCodeService.class);
+
+    private final Path qrCodeFolder;
+    private final ExecutorService workers;
+    /** QR codes being generated, by the path they are written to. */
+    private final Map<Path, CompletableFuture<Path>> pendingQrCodes = new ConcurrentHashMap<>();
+    /** QR codes whose owner's other QR codes have already been deleted. */
+    private final Set<Path> cleanedQrCodes = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Constructs a {@code QrCodeService} that stores QR codes in {@link QrCodeGenerator#QR_CODE_FOLDER}.
+     */
+    public QrCodeService() {
+        this(QrCodeGenerator.QR_CODE_FOLDER);
+    }
+
+    /**
+     * Constructs a {@code QrCodeService} that stores QR codes in {@code qrCodeFolder}.
+     */
+    public QrCodeService(Path qrCodeFolder) {
+        requireNonNull(qrCodeFolder);
+        this.qrCodeFolder = qrCodeFolder;
+
+        AtomicInteger workerCount = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(WORKER_COUNT, task -> {
+            Thread worker = new Thread(task, "qr-code-worker-" + workerCount.incrementAndGet());
+            worker.setDaemon(true);
+            return worker;
+        });
+    }
+
+    /**
+     * Returns a future that completes with the path of the QR code of {@code person} once the file exists.
+     * Requests for a QR code that is already being generated share the same future.
+     */
+    public CompletableFuture<Path> requestQrCode(Person person) {
+        requireNonNull(person);
+
+        Path qrCodePath = QrCodeGenerator.getQrCodePath(person, this.qrCodeFolder);
+        CompletableFuture<Path> qrCode = this.pendingQrCodes.computeIfAbsent(qrCodePath, path ->
+                CompletableFuture.supplyAsync(() -> createIfMissing(person, path), this.workers));
+        qrCode.whenComplete((path, error) -> this.pendingQrCodes.remove(qrCodePath, qrCode));
+        return qrCode;
+    }
+
+    /**
+     * Generates the QR code of {@code person} at {@code qrCodePath}, unless the file already exists, and deletes the
+     * other QR codes of the person.
+     */
+    private Path createIfMissing(Person person, Path qrCodePath) {
+        if (!Files.exists(qrCodePath)) {
+            try {
+                QrCodeGenerator.generateQrCode(person, qrCodePath);
+                logger.fine("Generated QR code " + qrCodePath);
+            } catch (WriterException | IOException e) {
+                logger.warning("Unable to generate QR code " + qrCodePath + ": " + e);
+                throw new CompletionException(e);
+            }
+        }
+
+        if (this.cleanedQrCodes.add(qrCodePath)) {
+            deleteSuperseded(person, qrCodePath);
+        }
+        return qrCodePath;
+    }
+
+    /**
+     * Deletes the QR codes of {@code person} other than {@code qrCodePath}, as they hold earlier contents of the QR
+     * code of the person. QR codes that are still being generated are kept.
+     */
+    private void deleteSuperseded(Person person, Path qrCodePath) {
+        String ownerGlob = QrCodeGenerator.getOwnerHash(person) + QrCodeGenerator.OWNER_HASH_SEPARATOR + "*"
+                + QR_CODE_FILE_EXTENSION;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(this.qrCodeFolder, ownerGlob)) {
+            for (Path file : files) {
+                if (!file.equals(qrCodePath) && !this.pendingQrCodes.containsKey(file) && Files.deleteIfExists(file)) {
+                    logger.fine("Deleted superseded QR code " + file);
+                }
+            }
+        } catch (IOException e) {
+            logger.warning("Unable to delete superseded QR codes of " + qrCodePath + ": " + e);
+        }
+    }
+
+    /**
+     * Deletes the QR codes, and leftovers of interrupted writes, in the QR code folder that belong to none of
+     * {@code persons}, in the background.
+     * Files modified shortly before the sweep starts or later are kept, as they may belong to persons added since.
+     * The details of persons are never loaded by the sweep, so every QR code of a person whose details have not been
+     * loaded yet is kept, as any of them may hold the person's current note, until one of them is requested.
+     * Leftovers of interrupted writes are deleted whoever they belong to.
+     *
+     * @return a future that completes with the number of files deleted.
+     */
+    public CompletableFuture<Integer> removeOrphanedQrCodes(Collection<Person> persons) {
+        requireNonNull(persons);
+
+        // Copied here, as the persons may be changed by the caller while the sweep runs.
+        List<Person> currentPersons = new ArrayList<>(persons);
+        Instant cutoff = Instant.now().minus(ORPHAN_MIN_AGE);
+        return CompletableFuture.supplyAsync(() -> deleteOrphans(currentPersons, cutoff), this.workers);
+    }
+
+    private int deleteOrphans(List<Person> persons, Instant cutoff) {
+        if (!Files.isDirectory(this.qrCodeFolder)) {
+            return 0;
+        }
+
+        Set<Path> currentQrCodes = new HashSet<>();
+        Set<String> unloadedOwnerHashes = new HashSet<>();
+        for (Person person : persons) {
+            if (person.hasLoadedDetails()) {
+                currentQrCodes.add(QrCodeGenerator.getQrCodePath(person, this.qrCodeFolder).getFileName());
+            } else {
+                unloadedOwnerHashes.add(QrCodeGenerator.getOwnerHash(person));
+            }
+        }
+
+        int deletedCount = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(this.qrCodeFolder, QR_CODE_FILE_GLOB)) {
+            for (Path file : files) {
+                if (!isCurrent(file.getFileName(), currentQrCodes, unloadedOwnerHashes)
+                        && deleteIfOlder(file, cutoff)) {
+                    deletedCount++;
+                }
+            }
+        } catch (IOException e) {
+            logger.warning("Unable to list QR codes in " + this.qrCodeFolder + ": " + e);
+            throw new CompletionException(e);
+        }
+
+        logger.info("Deleted " + deletedCount + " orphaned QR codes from " + this.qrCodeFolder);
+        return deletedCount;
+    }
+
+    /**
+     * Returns true if the file named {@code fileName} is one of {@code currentQrCodes}, or may be the QR code of a
+     * person whose details have not been loaded, as it is a QR code that starts with one of
+     * {@code unloadedOwnerHashes}.
+     */
+    private static boolean isCurrent(Path fileName, Set<Path> currentQrCodes, Set<String> unloadedOwnerHashes) {
+        if (currentQrCodes.contains(fileName)) {
+            return true;
+        }
+
+        String name = fileName.toString();
+        int separatorIndex = name.indexOf(QrCodeGenerator.OWNER_HASH_SEPARATOR);
+        return name.endsWith(QR_CODE_FILE_EXTENSION) && separatorIndex >= 0
+                && unloadedOwnerHashes.contains(name.substring(0, separatorIndex));
+    }
+
+    /**
+     * Deletes {@code file} if it was last modified before {@code cutoff}, and returns true if it was deleted.
+     */
+    private static boolean deleteIfOlder(Path file, Instant cutoff) {
+        try {
+            return Files.getLastModifiedTime(file).toInstant().isBefore(cutoff) && Files.deleteIfExists(file);
+        } catch (IOException e) {
+            logger.warning("Unable to delete orphaned QR code " + file + ": " + e);
+            return false;
+        }
+    }
+
+    /**
+     * Stops generating QR codes. QR codes already requested may not be generated.
+     */
+    public void shutdown() {
+        this.workers.shutdownNow();
+    }
+}
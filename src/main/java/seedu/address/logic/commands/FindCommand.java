@@ -5,6 +5,10 @@ import static seedu.address.logic.messages.FindCommandMessages.MESSAGE_CLIENTS_F
 import static seedu.address.logic.messages.FindCommandMessages.MESSAGE_NO_CLIENTS_FOUND;
 import static seedu.address.logic.messages.FindCommandMessages.MESSAGE_ONE_CLIENT_FOUND;
 
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+
+import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.Model;
 import seedu.address.model.person.predicates.CombinedPredicates;
@@ -17,6 +21,11 @@ import seedu.address.model.person.predicates.CombinedPredicates;
 public class FindCommand extends Command {
     /** Represents a regular expression to test for a valid search range input. */
     public static final String VALIDATION_REGEX_RANGE = "^\\d+(\\.\\d+)?,\\s*\\d+(\\.\\d+)?$";
+
+    private static final Pattern VALIDATION_PATTERN_RANGE = Pattern.compile(VALIDATION_REGEX_RANGE);
+
+    private static final Logger logger = LogsCenter.getLogger(FindCommand.class);
+
     private final CombinedPredicates predicates;
 
     /**
@@ -33,13 +42,14 @@ public class FindCommand extends Command {
      * Returns if a given string is a valid email.
      */
     public static boolean isValidRange(String test) {
-        return test.matches(VALIDATION_REGEX_RANGE);
+        return VALIDATION_PATTERN_RANGE.matcher(test).matches();
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
         model.updateFilteredPersonList(this.predicates);
+        logger.fine(this.predicates::explain);
         int listSize = model.getFilteredPersonList().size();
 
         if (listSize == 0) {
@@ -0,0 +1,272 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.messages.ImportCommandMessages.MESSAGE_DUPLICATE_IN_FILE;
+import static seedu.address.logic.messages.ImportCommandMessages.MESSAGE_DUPLICATE_PERSON;
+import static seedu.address.logic.messages.ImportCommandMessages.MESSAGE_INVALID_HEADER;
+import static seedu.address.logic.messages.ImportCommandMessages.MESSAGE_LINES_SKIPPED;
+import static seedu.address.logic.messages.ImportCommandMessages.MESSAGE_LINE_ERROR;
+import static seedu.address.logic.messages.ImportCommandMessages.MESSAGE_MORE_LINES_SKIPPED;
+import static seedu.address.logic.messages.ImportCommandMessages.MESSAGE_NO_HEADER;
+import static seedu.address.logic.messages.ImportCommandMessages.MESSAGE_READ_FAILED;
+import static seedu.address.logic.messages.ImportCommandMessages.MESSAGE_SUCCESS;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.stream.IntStream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.CsvPersonParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+
+/**
+ * Adds the clients in a CSV file to the address book, skipping the rows that are invalid or duplicate a client.
+ * The file is streamed in batches of rows, and the rows of each batch are parsed on all available cores. The
+ * clients are then checked for duplicates in the order of the file, and all of them are added to the address book as
+ * a single modification, so that it is only saved once.
+ */
+public class ImportCommand extends Command {
+
+    /** The number of rows read from the file before they are parsed. */
+    static final int BATCH_SIZE = 1024;
+
+    /** Below this many lines, the cost of splitting the work outweighs parsing the lines in parallel. */
+    static final int PARALLEL_THRESHOLD = 256;
+
+    /** The number of skipped lines whose errors are shown, so that a badly formed file does not flood the result. */
+    static final int MAX_REPORTED_ERRORS = 10;
+
+    /** The most lines a row can span, so that a quote that is never closed cannot swallow the rest of the file. */
+    static final int MAX_ROW_LINES = 50;
+
+    private static final Logger logger = LogsCenter.getLogger(ImportCommand.class);
+
+    private final Path csvFile;
+
+    /**
+     * Creates an ImportCommand that adds the clients in {@code csvFile}.
+     */
+    public ImportCommand(Path csvFile) {
+        requireNonNull(csvFile);
+        this.csvFile = csvFile;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        logger.info("Importing clients from " + this.csvFile);
+
+        List<Person> importedPersons = new ArrayList<>();
+        Map<Name, Set<Phone>> importedPhonesByName = new HashMap<>();
+        List<String> lineErrors = new ArrayList<>();
+
+        try (BufferedReader reader = Files.newBufferedReader(this.csvFile)) {
+            int lineNumber = 0;
+            String header;
+            do {
+                header = reader.readLine();
+                lineNumber++;
+            } while (header != null && header.isBlank());
+            if (header == null) {
+                throw new CommandException(String.format(MESSAGE_NO_HEADER, this.csvFile));
+            }
+            CsvPersonParser csvPersonParser = this.parseHeader(header);
+
+            List<Row> batch = new ArrayList<>(BATCH_SIZE);
+            // Lines read past the end of a row, which are read again as rows of their own.
+            Deque<String> linesToReread = new ArrayDeque<>();
+            Row row;
+            while ((row = readRow(reader, linesToReread, lineNumber + 1)) != null) {
+                lineNumber += row.lineCount;
+                batch.add(row);
+                if (batch.size() == BATCH_SIZE) {
+                    importBatch(model, csvPersonParser, batch, importedPersons, importedPhonesByName, lineErrors);
+                    batch.clear();
+                }
+            }
+            importBatch(model, csvPersonParser, batch, importedPersons, importedPhonesByName, lineErrors);
+        } catch (IOException e) {
+            logger.warning("Unable to read CSV file " + this.csvFile + ": " + e);
+            throw new CommandException(String.format(MESSAGE_READ_FAILED, this.csvFile, e.getMessage()), e);
+        }
+
+        if (!importedPersons.isEmpty()) {
+            model.addPersons(importedPersons);
+        }
+
+        logger.info("Imported " + importedPersons.size() + " clients from " + this.csvFile + ", skipping "
+                + lineErrors.size() + " lines");
+        return new CommandResult(this.formatResult(importedPersons.size(), lineErrors));
+    }
+
+    /**
+     * Reads the row that starts on line {@code lineNumber}, or returns null if there are no more lines.
+     * A quoted field may contain line breaks, so a row whose first line ends inside a quoted field goes on until the
+     * field is closed. If the field is not closed within {@link #MAX_ROW_LINES} lines or by the end of the file, its
+     * quote is taken to be a stray one, so the row is only its first line, and the lines after it are left in
+     * {@code linesToReread}.
+     */
+    private static Row readRow(BufferedReader reader, Deque<String> linesToReread, int lineNumber)
+            throws IOException {
+        String line = readLine(reader, linesToReread);
+        if (line == null) {
+            return null;
+        }
+        if (!CsvPersonParser.hasUnclosedQuote(line)) {
+            return new Row(lineNumber, 1, line);
+        }
+
+        List<String> nextLines = new ArrayList<>();
+        StringBuilder text = new StringBuilder(line);
+        String nextLine;
+        while (CsvPersonParser.hasUnclosedQuote(text) && nextLines.size() < MAX_ROW_LINES - 1
+                && (nextLine = readLine(reader, linesToReread)) != null) {
+            nextLines.add(nextLine);
+            text.append('\n').append(nextLine);
+        }
+
+        if (CsvPersonParser.hasUnclosedQuote(text)) {
+            for (int i = nextLines.size() - 1; i >= 0; i--) {
+                linesToReread.addFirst(nextLines.get(i));
+            }
+            return new Row(lineNumber, 1, line);
+        }
+        return new Row(lineNumber, 1 + nextLines.size(), text.toString());
+    }
+
+    /**
+     * Returns the next of {@code linesToReread}, or the next line of {@code reader} if there are none.
+     */
+    private static String readLine(BufferedReader reader, Deque<String> linesToReread) throws IOException {
+        return linesToReread.isEmpty() ? reader.readLine() : linesToReread.removeFirst();
+    }
+
+    private CsvPersonParser parseHeader(String header) throws CommandException {
+        try {
+            return new CsvPersonParser(header);
+        } catch (ParseException e) {
+            throw new CommandException(String.format(MESSAGE_INVALID_HEADER, this.csvFile, e.getMessage()), e);
+        }
+    }
+
+    /**
+     * Parses the rows of {@code batch} and adds the clients in them to {@code importedPersons}, unless they are already
+     * in the address book or were imported from an earlier row, as recorded by the phones of each name in
+     * {@code importedPhonesByName}. The reason each other non-blank row was skipped is added to {@code lineErrors}.
+     */
+    private static void importBatch(Model model, CsvPersonParser csvPersonParser, List<Row> batch,
+            List<Person> importedPersons, Map<Name, Set<Phone>> importedPhonesByName, List<String> lineErrors) {
+        Person[] persons = new Person[batch.size()];
+        String[] errors = new String[batch.size()];
+        IntStream indices = IntStream.range(0, batch.size());
+        if (batch.size() >= PARALLEL_THRESHOLD) {
+            indices = indices.parallel();
+        }
+        indices.forEach(i -> {
+            if (!batch.get(i).text.isBlank()) {
+                try {
+                    persons[i] = csvPersonParser.parse(batch.get(i).text);
+                } catch (ParseException pe) {
+                    errors[i] = pe.getMessage();
+                }
+            }
+        });
+
+        // The identity index of the address book and the phones of the names imported so far make each duplicate check
+        // a single hash lookup. Clients are identified by their name and phone, as by Person#isSamePerson.
+        for (int i = 0; i < batch.size(); i++) {
+            if (errors[i] == null && persons[i] != null) {
+                if (model.hasPerson(persons[i])) {
+                    errors[i] = MESSAGE_DUPLICATE_PERSON;
+                } else if (!importedPhonesByName.computeIfAbsent(persons[i].getName(), name -> new HashSet<>())
+                        .add(persons[i].getPhone())) {
+                    errors[i] = MESSAGE_DUPLICATE_IN_FILE;
+                } else {
+                    importedPersons.add(persons[i]);
+                }
+            }
+
+            if (errors[i] != null) {
+                lineErrors.add(String.format(MESSAGE_LINE_ERROR, batch.get(i).lineNumber, errors[i]));
+            }
+        }
+    }
+
+    private String formatResult(int importedCount, List<String> lineErrors) {
+        StringBuilder result = new StringBuilder(String.format(MESSAGE_SUCCESS, importedCount, this.csvFile));
+        if (lineErrors.isEmpty()) {
+            return result.toString();
+        }
+
+        result.append('\n').append(String.format(MESSAGE_LINES_SKIPPED, lineErrors.size()));
+        lineErrors.stream()
+                .limit(MAX_REPORTED_ERRORS)
+                .forEach(lineError -> result.append('\n').append(lineError));
+        if (lineErrors.size() > MAX_REPORTED_ERRORS) {
+            result.append('\n').append(String.format(MESSAGE_MORE_LINES_SKIPPED,
+                    lineErrors.size() - MAX_REPORTED_ERRORS));
+        }
+        return result.toString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ImportCommand)) {
+            return false;
+        }
+
+        ImportCommand otherImportCommand = (ImportCommand) other;
+        return this.csvFile.equals(otherImportCommand.csvFile);
+    }
+
+    @Override
+    public int hashCode() {
+        return this.csvFile.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("csvFile", this.csvFile)
+                .toString();
+    }
+
+    /**
+     * A row of the CSV file, which spans more than one line if a quoted field in it contains line breaks.
+     */
+    private static class Row {
+        /** The number of the line of the file that the row starts on. */
+        private final int lineNumber;
+        /** The number of lines of the file that the row spans. */
+        private final int lineCount;
+        private final String text;
+
+        Row(int lineNumber, int lineCount, String text) {
+            this.lineNumber = lineNumber;
+            this.lineCount = lineCount;
+            this.text = text;
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.messages.QrExportCommandMessages.MESSAGE_DATA_FILE;
+import static seedu.address.logic.messages.QrExportCommandMessages.MESSAGE_EXPORT_FAILED;
+import static seedu.address.logic.messages.QrExportCommandMessages.MESSAGE_EXPORT_SUCCESS;
+import static seedu.address.logic.messages.QrExportCommandMessages.MESSAGE_FILE_EXISTS;
+import static seedu.address.logic.messages.QrExportCommandMessages.MESSAGE_NOT_REPLACEABLE_FILE;
+import static seedu.address.logic.messages.QrExportCommandMessages.MESSAGE_NO_CLIENTS_TO_EXPORT;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Objects;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.DataFileFormat;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.QrCodeExporter;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+
+/**
+ * Exports the QR codes of all clients in the displayed list into a single ZIP file.
+ * The command returns once the export is done, like every other command, so the progress of a long export is only
+ * reported in the log.
+ * An existing file is only replaced if that is allowed, and if it is a ZIP file other than the data file, so that no
+ * other file of the user can be replaced by mistake.
+ */
+public class QrExportCommand extends Command {
+
+    /** The file QR codes are exported to if no file is given. */
+    public static final Path DEFAULT_EXPORT_FILE = Paths.get("data", "qrcodes.zip");
+
+    /** The share of the QR codes exported between progress log messages, in percent. */
+    private static final int PROGRESS_LOG_STEP = 10;
+
+    /** The bytes "PK\3\4", which start every ZIP file. */
+    private static final int ZIP_FILE_SIGNATURE = 0x504B0304;
+
+    private static final Logger logger = LogsCenter.getLogger(QrExportCommand.class);
+
+    private final Path exportFile;
+    private final boolean isOverwriteAllowed;
+
+    /**
+     * Creates a QrExportCommand that exports QR codes to {@code exportFile}, replacing an existing ZIP file there only
+     * if {@code isOverwriteAllowed}.
+     */
+    public QrExportCommand(Path exportFile, boolean isOverwriteAllowed) {
+        requireNonNull(exportFile);
+        this.exportFile = exportFile;
+        this.isOverwriteAllowed = isOverwriteAllowed;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<Person> lastShownList = model.getFilteredPersonList();
+
+        if (lastShownList.isEmpty()) {
+            return new CommandResult(MESSAGE_NO_CLIENTS_TO_EXPORT);
+        }
+
+        this.checkReplaceable(model.getAddressBookFilePath());
+        try {
+            new QrCodeExporter().export(lastShownList, this.exportFile, this::logProgress);
+        } catch (IOException e) {
+            logger.warning("Unable to export QR codes to " + this.exportFile + ": " + e);
+            throw new CommandException(String.format(MESSAGE_EXPORT_FAILED, e.getMessage()), e);
+        }
+
+        return new CommandResult(String.format(MESSAGE_EXPORT_SUCCESS, lastShownList.size(), this.exportFile));
+    }
+
+    /**
+     * Checks that the export file either does not exist, or may be replaced.
+     *
+     * @throws CommandException if the export file is a data file at the data file location {@code addressBookFilePath},
+     *     or an existing file that is not a ZIP file or may not be replaced.
+     */
+    private void checkReplaceable(Path addressBookFilePath) throws CommandException {
+        Path exportFile = this.exportFile.toAbsolutePath().normalize();
+        for (DataFileFormat format : DataFileFormat.values()) {
+            if (exportFile.equals(format.getDataFilePath(addressBookFilePath).toAbsolutePath().normalize())) {
+                throw new CommandException(String.format(MESSAGE_DATA_FILE, this.exportFile));
+            }
+        }
+
+        if (!Files.exists(this.exportFile)) {
+            return;
+        }
+        if (!this.isOverwriteAllowed) {
+            throw new CommandException(String.format(MESSAGE_FILE_EXISTS, this.exportFile));
+        }
+        if (!isZipFile(this.exportFile)) {
+            throw new CommandException(String.format(MESSAGE_NOT_REPLACEABLE_FILE, this.exportFile));
+        }
+    }
+
+    /**
+     * Returns true if {@code file} is a regular file that starts with the signature of a ZIP file.
+     */
+    private static boolean isZipFile(Path file) {
+        try (DataInputStream in = new DataInputStream(Files.newInputStream(file))) {
+            return Files.isRegularFile(file) && Files.size(file) >= Integer.BYTES && in.readInt() == ZIP_FILE_SIGNATURE;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private void logProgress(int exportedCount, int totalCount) {
+        int percentage = (int) (100L * exportedCount / totalCount);
+        int previousPercentage = (int) (100L * (exportedCount - 1) / totalCount);
+        if (percentage / PROGRESS_LOG_STEP != previousPercentage / PROGRESS_LOG_STEP) {
+            logger.info("Exported " + exportedCount + " of " + totalCount + " QR codes to " + this.exportFile);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof QrExportCommand)) {
+            return false;
+        }
+
+        QrExportCommand otherQrExportCommand = (QrExportCommand) other;
+        return this.exportFile.equals(otherQrExportCommand.exportFile)
+                && this.isOverwriteAllowed == otherQrExportCommand.isOverwriteAllowed;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.exportFile, this.isOverwriteAllowed);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("exportFile", this.exportFile)
+                .add("isOverwriteAllowed", this.isOverwriteAllowed)
+                .toString();
+    }
+}
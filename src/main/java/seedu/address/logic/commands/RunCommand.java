@@ -0,0 +1,161 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.messages.RunCommandMessages.COMMENT_PREFIX;
+import static seedu.address.logic.messages.RunCommandMessages.MESSAGE_COMMAND_FAILED;
+import static seedu.address.logic.messages.RunCommandMessages.MESSAGE_NESTED_SCRIPT;
+import static seedu.address.logic.messages.RunCommandMessages.MESSAGE_READ_FAILED;
+import static seedu.address.logic.messages.RunCommandMessages.MESSAGE_SUCCESS;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * Runs the commands in a script file, one per line, as a single change to the address book.
+ * The script is streamed, so each command is parsed and executed as its line is read. If any command fails, the
+ * address book and the filter of the displayed list are rolled back to what they were before the script was run. As
+ * the commands are executed directly on the model rather than through {@code Logic}, the address book is only saved
+ * once, after the whole script has run.
+ */
+public class RunCommand extends Command {
+
+    private static final Logger logger = LogsCenter.getLogger(RunCommand.class);
+
+    private final Path scriptFile;
+
+    /**
+     * Creates a RunCommand that runs the commands in {@code scriptFile}.
+     */
+    public RunCommand(Path scriptFile) {
+        requireNonNull(scriptFile);
+        this.scriptFile = scriptFile;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        logger.info("Running script " + this.scriptFile);
+
+        ReadOnlyAddressBook originalAddressBook = new AddressBook(model.getAddressBook());
+        long originalAddressBookVersion = model.getAddressBookVersion();
+        Predicate<Person> originalPredicate = model.getFilteredPersonListPredicate();
+        int commandCount;
+        boolean isSuccessful = false;
+        try {
+            commandCount = this.executeScript(model);
+            isSuccessful = true;
+        } finally {
+            // Any exception rolls back the script, including unexpected ones thrown by the commands in it.
+            if (!isSuccessful) {
+                rollBack(model, originalAddressBook, originalAddressBookVersion, originalPredicate);
+            }
+        }
+
+        logger.info("Ran " + commandCount + " commands from script " + this.scriptFile);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, commandCount, this.scriptFile));
+    }
+
+    /**
+     * Parses and executes the commands in the script, and returns the number of commands executed.
+     *
+     * @throws CommandException if the script cannot be read, or any command in it cannot be parsed or fails.
+     */
+    private int executeScript(Model model) throws CommandException {
+        AddressBookParser addressBookParser = new AddressBookParser();
+        int commandCount = 0;
+
+        try (BufferedReader reader = Files.newBufferedReader(this.scriptFile)) {
+            int lineNumber = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                String commandText = line.trim();
+                if (commandText.isEmpty() || commandText.startsWith(COMMENT_PREFIX)) {
+                    continue;
+                }
+
+                this.executeLine(model, addressBookParser, commandText, lineNumber);
+                commandCount++;
+            }
+        } catch (IOException e) {
+            logger.warning("Unable to read script " + this.scriptFile + ": " + e);
+            throw new CommandException(String.format(MESSAGE_READ_FAILED, this.scriptFile, e.getMessage()), e);
+        }
+        return commandCount;
+    }
+
+    /**
+     * Parses and executes the command on line {@code lineNumber} of the script.
+     *
+     * @throws CommandException if the command cannot be parsed or fails, with the line it is on.
+     */
+    private void executeLine(Model model, AddressBookParser addressBookParser, String commandText, int lineNumber)
+            throws CommandException {
+        try {
+            Command command = addressBookParser.parseCommand(commandText);
+            if (command instanceof RunCommand) {
+                throw new CommandException(MESSAGE_NESTED_SCRIPT);
+            }
+            command.execute(model);
+        } catch (ParseException | CommandException e) {
+            logger.info("Script " + this.scriptFile + " failed at line " + lineNumber + ": " + e.getMessage());
+            throw new CommandException(String.format(MESSAGE_COMMAND_FAILED, lineNumber, this.scriptFile,
+                    e.getMessage()), e);
+        }
+    }
+
+    /**
+     * Restores the address book and the filter of the displayed list of {@code model} to what they were before the
+     * script was run.
+     * The version of the address book still changes if the script changed the address book, so that a version is
+     * never reused for different data, and the restored address book is saved once more.
+     */
+    private static void rollBack(Model model, ReadOnlyAddressBook originalAddressBook, long originalAddressBookVersion,
+            Predicate<Person> originalPredicate) {
+        if (model.getAddressBookVersion() != originalAddressBookVersion) {
+            model.setAddressBook(originalAddressBook);
+        }
+        model.updateFilteredPersonList(originalPredicate);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof RunCommand)) {
+            return false;
+        }
+
+        RunCommand otherRunCommand = (RunCommand) other;
+        return this.scriptFile.equals(otherRunCommand.scriptFile);
+    }
+
+    @Override
+    public int hashCode() {
+        return this.scriptFile.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("scriptFile", this.scriptFile)
+                .toString();
+    }
+}
@@ -5,4 +5,5 @@ package seedu.address.logic.messages;
  */
 public class AddressBookParserMessages extends Messages {
     public static final String MESSAGE_PARSE_EXCEPTION = "This user input caused a ParseException: ";
+    public static final String MESSAGE_AMBIGUOUS_COMMAND = "Ambiguous command '%1$s', it could be any of: %2$s";
 }
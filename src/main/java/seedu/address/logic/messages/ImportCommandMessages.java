@@ -0,0 +1,39 @@
+package seedu.address.logic.messages;
+
+/**
+ * Messages used by ImportCommand and associated classes.
+ */
+public class ImportCommandMessages extends Messages {
+
+    public static final String COMMAND_WORD = "import";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Adds the clients in a CSV file to the client list. The first row of the file names its columns, "
+            + "which can be any of name, phone, email, address, height, weights, note and tags. "
+            + "Rows that are invalid or duplicate an existing client are skipped.\n"
+            + "Parameters: FILE\n"
+            + "Example: " + COMMAND_WORD + " data/clients.csv";
+    public static final String MESSAGE_SUCCESS = "Imported %1$d client(s) from %2$s";
+    public static final String MESSAGE_LINES_SKIPPED = "%1$d line(s) were skipped:";
+    public static final String MESSAGE_LINE_ERROR = "Line %1$d: %2$s";
+    public static final String MESSAGE_MORE_LINES_SKIPPED = "... and %1$d more";
+    public static final String MESSAGE_READ_FAILED =
+            "Could not read %1$s due to the following error, so no clients were imported: %2$s";
+    public static final String MESSAGE_NO_HEADER = "%1$s has no header row naming its columns";
+    public static final String MESSAGE_INVALID_HEADER =
+            "The header row of %1$s is invalid, so no clients were imported:\n%2$s";
+    public static final String MESSAGE_UNKNOWN_COLUMN = "Unknown column '%1$s', columns can be any of: %2$s";
+    public static final String MESSAGE_DUPLICATE_COLUMN = "Column '%1$s' appears more than once";
+    public static final String MESSAGE_MISSING_COLUMNS = "The columns %1$s must be present";
+    public static final String MESSAGE_WRONG_FIELD_COUNT = "Expected %1$d field(s) but found %2$d";
+    public static final String MESSAGE_UNCLOSED_QUOTE = "A quoted field is not closed";
+    public static final String MESSAGE_INVALID_WEIGH_IN_DATE =
+            "Weigh-in dates should be in the format yyyy-MM-dd, but found '%1$s'";
+    public static final String MESSAGE_MULTIPLE_UNDATED_WEIGH_INS =
+            "Only one weigh-in can be given without a date, as it is recorded now";
+    public static final String MESSAGE_DUPLICATE_WEIGH_IN_DATE = "More than one weigh-in is given for %1$s";
+    public static final String MESSAGE_DUPLICATE_PERSON = "This client already exists in the client list";
+    public static final String MESSAGE_DUPLICATE_IN_FILE =
+            "This client has the same name and phone as a client on an earlier line";
+    public static final String MESSAGE_INVALID_FILE = String.format(MESSAGE_INVALID_COMMAND_FORMAT, MESSAGE_USAGE);
+}
@@ -0,0 +1,24 @@
+package seedu.address.logic.messages;
+
+/**
+ * Messages used by QrExportCommand and associated classes.
+ */
+public class QrExportCommandMessages extends Messages {
+
+    public static final String COMMAND_WORD = "qrexport";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Exports the QR codes of all clients in the displayed list into a single ZIP file.\n"
+            + "Parameters: [FILE] (a .zip file, defaults to data/qrcodes.zip) "
+            + "[/overwrite] (replaces an existing file)\n"
+            + "Example: " + COMMAND_WORD + " data/gym-cohort.zip /overwrite";
+    public static final String MESSAGE_EXPORT_SUCCESS = "Exported QR codes of %1$d client(s) to %2$s";
+    public static final String MESSAGE_NO_CLIENTS_TO_EXPORT = "No clients to export!";
+    public static final String MESSAGE_EXPORT_FAILED = "Could not export QR codes due to the following error: %1$s";
+    public static final String MESSAGE_NOT_ZIP_FILE = "QR codes can only be exported to a file ending with .zip";
+    public static final String MESSAGE_FILE_EXISTS = "%1$s already exists. Add /overwrite to replace it.";
+    public static final String MESSAGE_NOT_REPLACEABLE_FILE = "%1$s is not a ZIP file, so it is never replaced.";
+    public static final String MESSAGE_DATA_FILE = "%1$s is the data file of FitBook, so it is never replaced.";
+    public static final String MESSAGE_INVALID_FILE_EXPORT = String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+            MESSAGE_USAGE);
+}
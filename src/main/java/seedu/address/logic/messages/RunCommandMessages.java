@@ -0,0 +1,25 @@
+package seedu.address.logic.messages;
+
+/**
+ * Messages used by RunCommand and associated classes.
+ */
+public class RunCommandMessages extends Messages {
+
+    public static final String COMMAND_WORD = "run";
+
+    /** Lines of a script that start with this are comments, and are not run. */
+    public static final String COMMENT_PREFIX = "#";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Runs the commands in a script file, one per line, as a single change to the client list. "
+            + "If any command fails, none of the changes are kept.\n"
+            + "Parameters: FILE\n"
+            + "Example: " + COMMAND_WORD + " data/onboarding.txt";
+    public static final String MESSAGE_SUCCESS = "Ran %1$d command(s) from %2$s";
+    public static final String MESSAGE_COMMAND_FAILED =
+            "Line %1$d of %2$s failed, so no changes were made:\n%3$s";
+    public static final String MESSAGE_READ_FAILED =
+            "Could not read %1$s due to the following error, so no changes were made: %2$s";
+    public static final String MESSAGE_NESTED_SCRIPT = "Scripts cannot run other scripts";
+    public static final String MESSAGE_INVALID_FILE = String.format(MESSAGE_INVALID_COMMAND_FORMAT, MESSAGE_USAGE);
+}
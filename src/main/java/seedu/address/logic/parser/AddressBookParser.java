@@ -1,8 +1,8 @@
 package seedu.address.logic.parser;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.messages.AddressBookParserMessages.MESSAGE_PARSE_EXCEPTION;
 import static seedu.address.logic.messages.HelpCommandMessages.INVALID_COMMAND_FORMAT_HELP;
-import static seedu.address.logic.messages.Messages.MESSAGE_UNKNOWN_COMMAND;
 
 import java.util.logging.Logger;
 import java.util.regex.Matcher;
@@ -22,8 +22,11 @@ import seedu.address.logic.messages.FindCommandMessages;
 import seedu.address.logic.messages.FitAddCommandMessages;
 import seedu.address.logic.messages.FitDeleteCommandMessages;
 import seedu.address.logic.messages.HelpCommandMessages;
+import seedu.address.logic.messages.ImportCommandMessages;
 import seedu.address.logic.messages.ListCommandMessages;
 import seedu.address.logic.messages.NoteCommandMessages;
+import seedu.address.logic.messages.QrExportCommandMessages;
+import seedu.address.logic.messages.RunCommandMessages;
 import seedu.address.logic.messages.WeightCommandMessages;
 import seedu.address.logic.parser.exceptions.ParseException;
 
@@ -38,6 +41,57 @@ public class AddressBookParser {
     private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
     private static final Logger logger = LogsCenter.getLogger(AddressBookParser.class);
 
+    private final CommandRegistry registry;
+
+    /**
+     * Constructs an {@code AddressBookParser} of all the commands of the app.
+     */
+    public AddressBookParser() {
+        this(createDefaultRegistry());
+    }
+
+    /**
+     * Constructs an {@code AddressBookParser} of the commands registered in {@code registry}.
+     */
+    public AddressBookParser(CommandRegistry registry) {
+        requireNonNull(registry);
+        this.registry = registry;
+    }
+
+    /**
+     * Returns a registry of all the commands of the app.
+     * New commands plug in by registering their command word and parser here. Commands that delete or overwrite data
+     * in bulk, or run other commands, are registered without abbreviations, so they only run when typed in full.
+     */
+    public static CommandRegistry createDefaultRegistry() {
+        CommandRegistry registry = new CommandRegistry();
+        registry.registerWithAbbreviations(AddCommandMessages.COMMAND_WORD, new AddCommandParser());
+        registry.registerWithAbbreviations(EditCommandMessages.COMMAND_WORD, new EditCommandParser());
+        registry.register(DeleteCommandMessages.COMMAND_WORD, new DeleteCommandParser());
+        registry.register(ClearCommandMessages.COMMAND_WORD, new ClearCommandParser());
+        registry.registerWithAbbreviations(FindCommandMessages.COMMAND_WORD, new FindCommandParser());
+        registry.registerWithAbbreviations(NoteCommandMessages.COMMAND_WORD, new NoteCommandParser());
+        registry.registerWithAbbreviations(WeightCommandMessages.COMMAND_WORD, new WeightCommandParser());
+        registry.registerWithAbbreviations(FitAddCommandMessages.COMMAND_WORD, new FitAddCommandParser());
+        registry.register(FitDeleteCommandMessages.COMMAND_WORD, new FitDeleteCommandParser());
+        registry.registerWithAbbreviations(QrExportCommandMessages.COMMAND_WORD, new QrExportCommandParser());
+        registry.register(RunCommandMessages.COMMAND_WORD, new RunCommandParser());
+        registry.register(ImportCommandMessages.COMMAND_WORD, new ImportCommandParser());
+        registry.registerWithAbbreviations(ListCommandMessages.COMMAND_WORD, arguments -> new ListCommand());
+        registry.registerWithAbbreviations(HelpCommandMessages.COMMAND_WORD, arguments -> new HelpCommand());
+        registry.registerWithAbbreviations(ExitCommandMessages.COMMAND_WORD, arguments -> new ExitCommand(), "quit");
+        return registry;
+    }
+
+    /**
+     * Returns the command word of the command that {@code commandWord} enters, which may be an alias or abbreviation.
+     *
+     * @throws ParseException if {@code commandWord} enters no command, or could enter more than one.
+     */
+    public String resolveCommandWord(String commandWord) throws ParseException {
+        return this.registry.resolveCommandWord(commandWord);
+    }
+
     /**
      * Parses user's input into command for execution.
      *
@@ -58,47 +112,14 @@ public class AddressBookParser {
         // (i.e., FINE, FINER and lower) log messages such as the one below.
         // Lower level log messages are used sparingly to minimize noise in the code.
         logger.fine("Command word: " + commandWord + "; Arguments: " + arguments);
-        switch (commandWord.toLowerCase()) {
-        case NoteCommandMessages.COMMAND_WORD:
-            return new NoteCommandParser().parse(arguments);
-
-        case AddCommandMessages.COMMAND_WORD:
-            return new AddCommandParser().parse(arguments);
-
-        case EditCommandMessages.COMMAND_WORD:
-            return new EditCommandParser().parse(arguments);
-
-        case DeleteCommandMessages.COMMAND_WORD:
-            return new DeleteCommandParser().parse(arguments);
-
-        case ClearCommandMessages.COMMAND_WORD:
-            return new ClearCommandParser().parse(arguments);
-
-        case FindCommandMessages.COMMAND_WORD:
-            return new FindCommandParser().parse(arguments);
-
-        case WeightCommandMessages.COMMAND_WORD:
-            return new WeightCommandParser().parse(arguments);
-
-        case ListCommandMessages.COMMAND_WORD:
-            return new ListCommand();
-
-        case ExitCommandMessages.COMMAND_WORD:
-            return new ExitCommand();
-
-        case HelpCommandMessages.COMMAND_WORD:
-            return new HelpCommand();
-
-        case FitAddCommandMessages.COMMAND_WORD:
-            return new FitAddCommandParser().parse(arguments);
-
-        case FitDeleteCommandMessages.COMMAND_WORD:
-            return new FitDeleteCommandParser().parse(arguments);
-
-        default:
+        Parser<?> parser;
+        try {
+            parser = this.registry.getParser(commandWord);
+        } catch (ParseException pe) {
             logger.finer(MESSAGE_PARSE_EXCEPTION + userInput);
-            throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
+            throw pe;
         }
+        return parser.parse(arguments);
     }
 
 }
@@ -24,7 +24,7 @@ public class ArgumentMultimap {
     /**
      * Prefixes mapped to their respective arguments
      **/
-    private final Map<Prefix, List<String>> argMultimap = new HashMap<>();
+    private final Map<Prefix, List<ArgumentValue>> argMultimap = new HashMap<>();
 
     /**
      * Associates the specified argument value with {@code prefix} key in this map.
@@ -36,17 +36,25 @@ public class ArgumentMultimap {
      * @param argValue Argument value to be associated with the specified prefix key
      */
     public void put(Prefix prefix, String argValue) {
-        List<String> argValues = getAllValues(prefix);
-        argValues.add(argValue);
-        this.argMultimap.put(prefix, argValues);
+        this.put(prefix, argValue, 0, argValue.length());
+    }
+
+    /**
+     * Associates the part of {@code argsString} from {@code start} inclusive to {@code end} exclusive with
+     * {@code prefix} key in this map, like {@link #put(Prefix, String)}.
+     * The part is only copied out of {@code argsString} when the value is first read.
+     */
+    void put(Prefix prefix, String argsString, int start, int end) {
+        this.argMultimap.computeIfAbsent(prefix, unused -> new ArrayList<>())
+                .add(new ArgumentValue(argsString, start, end));
     }
 
     /**
      * Returns the last value of {@code prefix}.
      */
     public Optional<String> getValue(Prefix prefix) {
-        List<String> values = getAllValues(prefix);
-        return values.isEmpty() ? Optional.empty() : Optional.of(values.get(values.size() - 1));
+        List<ArgumentValue> values = this.argMultimap.get(prefix);
+        return values == null ? Optional.empty() : Optional.of(values.get(values.size() - 1).getValue());
     }
 
     /**
@@ -88,10 +96,11 @@ public class ArgumentMultimap {
      * the ArgumentMultimap.
      */
     public List<String> getAllValues(Prefix prefix) {
-        if (!this.argMultimap.containsKey(prefix)) {
-            return new ArrayList<>();
+        List<String> allValues = new ArrayList<>();
+        for (ArgumentValue value : this.argMultimap.getOrDefault(prefix, List.of())) {
+            allValues.add(value.getValue());
         }
-        return new ArrayList<>(this.argMultimap.get(prefix));
+        return allValues;
     }
 
     /**
@@ -138,7 +147,7 @@ public class ArgumentMultimap {
     public boolean hasArgumentValueForPrefixes(Prefix... prefixes) {
         Prefix[] prefixesWithValues = Stream.of(prefixes).distinct()
                 .filter(prefix -> this.argMultimap.containsKey(prefix) && !this.argMultimap.get(prefix).isEmpty()
-                        && !this.argMultimap.get(prefix).stream().allMatch(String::isEmpty))
+                        && !this.argMultimap.get(prefix).stream().allMatch(ArgumentValue::isEmpty))
                 .toArray(Prefix[]::new);
 
         return prefixesWithValues.length > 0;
@@ -182,4 +191,31 @@ public class ArgumentMultimap {
     public boolean hasOnlyOnePreambleSegment() {
         return (getPreambleSegmentNumber() == 1);
     }
+
+    /**
+     * An argument value, held as its position in the arguments string until it is read.
+     */
+    private static class ArgumentValue {
+        private final String argsString;
+        private final int start;
+        private final int end;
+        private String value;
+
+        ArgumentValue(String argsString, int start, int end) {
+            this.argsString = argsString;
+            this.start = start;
+            this.end = end;
+        }
+
+        boolean isEmpty() {
+            return this.start == this.end;
+        }
+
+        String getValue() {
+            if (this.value == null) {
+                this.value = this.argsString.substring(this.start, this.end);
+            }
+            return this.value;
+        }
+    }
 }
@@ -1,9 +1,9 @@
 package seedu.address.logic.parser;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Tokenizes arguments string of the form:
@@ -17,9 +17,16 @@ import java.util.stream.Collectors;
  * 3. An argument may be repeated and all its values will be accumulated e.g.
  * the value of {@code t/}
  * in the above example.<br>
+ * The arguments string is scanned once, matching all prefixes at each position with a trie of the prefixes.
  */
 public class ArgumentTokenizer {
 
+    /** The preamble, as the prefix of the text before the first prefix. */
+    private static final Prefix PREAMBLE = new Prefix("");
+
+    /** The tries of the sets of prefixes that arguments strings have been tokenized with. */
+    private static final Map<List<Prefix>, PrefixTrie> PREFIX_TRIES = new ConcurrentHashMap<>();
+
     /**
      * Tokenizes an arguments string and returns an {@code ArgumentMultimap} object
      * that maps prefixes to their
@@ -32,129 +39,119 @@ public class ArgumentTokenizer {
      * @return ArgumentMultimap object that maps prefixes to their arguments
      */
     public static ArgumentMultimap tokenize(String argsString, Prefix... prefixes) {
-        List<PrefixPosition> positions = findAllPrefixPositions(argsString, prefixes);
-        return extractArguments(argsString, positions);
-    }
-
-    /**
-     * Finds all zero-based prefix positions in the given arguments string.
-     *
-     * @param argsString Arguments string of the form:
-     *                   {@code preamble <prefix>value <prefix>value ...}
-     * @param prefixes   Prefixes to find in the arguments string
-     * @return List of zero-based prefix positions in the given arguments string
-     */
-    private static List<PrefixPosition> findAllPrefixPositions(String argsString, Prefix... prefixes) {
-        return Arrays.stream(prefixes)
-                .flatMap(prefix -> findPrefixPositions(argsString, prefix).stream())
-                .collect(Collectors.toList());
-    }
-
-    /**
-     * {@see findAllPrefixPositions}
-     */
-    private static List<PrefixPosition> findPrefixPositions(String argsString, Prefix prefix) {
-        List<PrefixPosition> positions = new ArrayList<>();
-
-        int prefixPosition = findPrefixPosition(argsString, prefix.getPrefix(), 0);
-        while (prefixPosition != -1) {
-            PrefixPosition extendedPrefix = new PrefixPosition(prefix, prefixPosition);
-            positions.add(extendedPrefix);
-            prefixPosition = findPrefixPosition(argsString, prefix.getPrefix(), prefixPosition);
-        }
-
-        return positions;
-    }
-
-    /**
-     * Returns the index of the first occurrence of {@code prefix} in
-     * {@code argsString} starting from index {@code fromIndex}. An occurrence
-     * is valid if there is a whitespace before {@code prefix}. Returns -1 if no
-     * such occurrence can be found.
-     *
-     * E.g if {@code argsString} = "e/hip/900", {@code prefix} = "p/" and
-     * {@code fromIndex} = 0, this method returns -1 as there are no valid
-     * occurrences of "p/" with whitespace before it. However, if
-     * {@code argsString} = "e/hi p/900", {@code prefix} = "p/" and
-     * {@code fromIndex} = 0, this method returns 5.
-     */
-    private static int findPrefixPosition(String argsString, String prefix, int fromIndex) {
-        int prefixIndex = argsString.toLowerCase().indexOf(" " + prefix, fromIndex);
-        return prefixIndex == -1 ? -1
-                : prefixIndex + 1; // +1 as offset for whitespace
-    }
-
-    /**
-     * Extracts prefixes and their argument values, and returns an
-     * {@code ArgumentMultimap} object that maps the extracted prefixes to their
-     * respective arguments. Prefixes are extracted based on their zero-based
-     * positions in {@code argsString}.
-     *
-     * @param argsString      Arguments string of the form:
-     *                        {@code preamble <prefix>value <prefix>value ...}
-     * @param prefixPositions Zero-based positions of all prefixes in
-     *                        {@code argsString}
-     * @return ArgumentMultimap object that maps prefixes to their arguments
-     */
-    private static ArgumentMultimap extractArguments(String argsString, List<PrefixPosition> prefixPositions) {
+        // The prefixes are copied for the key, as the array passed in may be changed later.
+        PrefixTrie prefixTrie = PREFIX_TRIES.computeIfAbsent(List.of(prefixes), PrefixTrie::new);
 
-        // Sort by start position
-        prefixPositions.sort((prefix1, prefix2) -> prefix1.getStartPosition() - prefix2.getStartPosition());
-
-        // Insert a PrefixPosition to represent the preamble
-        PrefixPosition preambleMarker = new PrefixPosition(new Prefix(""), 0);
-        prefixPositions.add(0, preambleMarker);
-
-        // Add a dummy PrefixPosition to represent the end of the string
-        PrefixPosition endPositionMarker = new PrefixPosition(new Prefix(""), argsString.length());
-        prefixPositions.add(endPositionMarker);
-
-        // Map prefixes to their argument values (if any)
         ArgumentMultimap argMultimap = new ArgumentMultimap();
-        for (int i = 0; i < prefixPositions.size() - 1; i++) {
-            // Extract and store prefixes and their arguments
-            Prefix argPrefix = prefixPositions.get(i).getPrefix();
-            String argValue = extractArgumentValue(argsString, prefixPositions.get(i), prefixPositions.get(i + 1));
-            argMultimap.put(argPrefix, argValue);
+        Prefix currentPrefix = PREAMBLE;
+        int valueStart = 0;
+        for (int i = 1; i < argsString.length(); i++) {
+            // A prefix is only valid if there is a whitespace before it, e.g. "p/" in "e/hi p/900" but not "e/hip/900".
+            if (argsString.charAt(i - 1) != ' ') {
+                continue;
+            }
+
+            Prefix prefix = prefixTrie.findPrefixAt(argsString, i);
+            if (prefix == null) {
+                continue;
+            }
+
+            putTrimmedValue(argMultimap, currentPrefix, argsString, valueStart, i);
+            currentPrefix = prefix;
+            valueStart = i + prefix.getPrefix().length();
+            // Prefixes contain no whitespace, so no other prefix can start within this one.
+            i = valueStart - 1;
         }
+        putTrimmedValue(argMultimap, currentPrefix, argsString, valueStart, argsString.length());
 
         return argMultimap;
     }
 
     /**
-     * Returns the trimmed value of the argument in the arguments string specified
-     * by {@code currentPrefixPosition}.
-     * The end position of the value is determined by {@code nextPrefixPosition}.
+     * Stores the value of {@code prefix} from {@code start} to {@code end} in {@code argsString}, without leading and
+     * trailing whitespaces.
      */
-    private static String extractArgumentValue(String argsString,
-            PrefixPosition currentPrefixPosition,
-            PrefixPosition nextPrefixPosition) {
-        Prefix prefix = currentPrefixPosition.getPrefix();
-
-        int valueStartPos = currentPrefixPosition.getStartPosition() + prefix.getPrefix().length();
-        String value = argsString.substring(valueStartPos, nextPrefixPosition.getStartPosition());
-
-        return value.trim();
+    private static void putTrimmedValue(ArgumentMultimap argMultimap, Prefix prefix, String argsString, int start,
+            int end) {
+        // Trims the same characters as String#trim(), by position, so that no untrimmed value is copied.
+        while (start < end && argsString.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && argsString.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        argMultimap.put(prefix, argsString, start, end);
     }
 
     /**
-     * Represents a prefix's position in an arguments string.
+     * A trie of prefixes, matched ignoring the case of the arguments string.
      */
-    private static class PrefixPosition {
-        private int startPosition;
-        private final Prefix prefix;
-
-        PrefixPosition(Prefix prefix, int startPosition) {
-            this.prefix = prefix;
-            this.startPosition = startPosition;
+    private static class PrefixTrie {
+        private final Node root = new Node();
+
+        PrefixTrie(List<Prefix> prefixes) {
+            for (Prefix prefix : prefixes) {
+                String prefixString = prefix.getPrefix();
+                if (prefixString.isEmpty()) {
+                    continue;
+                }
+
+                Node node = this.root;
+                for (int i = 0; i < prefixString.length(); i++) {
+                    node = node.getOrAddChild(prefixString.charAt(i));
+                }
+                node.prefix = prefix;
+            }
         }
 
-        int getStartPosition() {
-            return this.startPosition;
+        /**
+         * Returns the longest prefix that starts at {@code index} in {@code argsString}, or null if there is none.
+         */
+        Prefix findPrefixAt(String argsString, int index) {
+            Prefix longestPrefix = null;
+            Node node = this.root;
+            for (int i = index; i < argsString.length(); i++) {
+                node = node.getChild(Character.toLowerCase(argsString.charAt(i)));
+                if (node == null) {
+                    break;
+                }
+                if (node.prefix != null) {
+                    longestPrefix = node.prefix;
+                }
+            }
+            return longestPrefix;
         }
 
-        Prefix getPrefix() {
-            return this.prefix;
+        /**
+         * A node of the trie, reached by the characters from the root to it.
+         * Children are found by a linear search, as prefixes share few characters.
+         */
+        private static class Node {
+            private char[] childCharacters = new char[0];
+            private Node[] children = new Node[0];
+            /** The prefix that ends at this node, or null if none does. */
+            private Prefix prefix;
+
+            Node getChild(char character) {
+                for (int i = 0; i < this.childCharacters.length; i++) {
+                    if (this.childCharacters[i] == character) {
+                        return this.children[i];
+                    }
+                }
+                return null;
+            }
+
+            Node getOrAddChild(char character) {
+                Node child = this.getChild(character);
+                if (child == null) {
+                    child = new Node();
+                    this.childCharacters = Arrays.copyOf(this.childCharacters, this.childCharacters.length + 1);
+                    this.children = Arrays.copyOf(this.children, this.children.length + 1);
+                    this.childCharacters[this.childCharacters.length - 1] = character;
+                    this.children[this.children.length - 1] = child;
+                }
+                return child;
+            }
         }
     }
 
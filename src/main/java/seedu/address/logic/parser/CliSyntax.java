@@ -82,4 +82,5 @@ public class CliSyntax {
         PREFIX_EXERCISE_BREAK_BETWEEN_SETS
     };
     public static final Prefix PREFIX_CLEAR_CONFIRM = new Prefix("/confirm");
+    public static final Prefix PREFIX_QREXPORT_OVERWRITE = new Prefix("/overwrite");
 }
@@ -0,0 +1,166 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.messages.AddressBookParserMessages.MESSAGE_AMBIGUOUS_COMMAND;
+import static seedu.address.logic.messages.Messages.MESSAGE_UNKNOWN_COMMAND;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Maps command words to the parsers of their commands.
+ * A command can be entered by its command word or by any of its aliases, ignoring case. Commands registered with
+ * {@link #registerWithAbbreviations} can also be entered by any abbreviation of them of at least
+ * {@link #MIN_ABBREVIATION_LENGTH} characters that no other command shares, so commands that delete or overwrite data
+ * in bulk should be registered with {@link #register} instead, and only run when typed in full.
+ * The words are held in a trie whose nodes each know the commands reachable from them, so a command is found in time
+ * proportional to the length of the word entered, however many commands are registered.
+ *
+ * Parsers are shared by every command they parse, so they must be stateless.
+ */
+public class CommandRegistry {
+
+    /** The length of the shortest abbreviation accepted, so that a single mistyped letter does not run a command. */
+    public static final int MIN_ABBREVIATION_LENGTH = 3;
+
+    private final TrieNode root = new TrieNode();
+    private final Map<String, Parser<?>> parsers = new HashMap<>();
+    private final Set<String> abbreviatedCommandWords = new HashSet<>();
+
+    /**
+     * Registers the command with {@code commandWord} and {@code aliases}, which is parsed by {@code parser}.
+     * The command can only be entered by its command word or aliases in full.
+     *
+     * @throws IllegalArgumentException if the command word or any alias is blank, or already registered.
+     */
+    public void register(String commandWord, Parser<?> parser, String... aliases) {
+        requireNonNull(commandWord);
+        requireNonNull(parser);
+        requireNonNull(aliases);
+
+        String normalizedCommandWord = normalize(commandWord);
+        this.checkNewWord(normalizedCommandWord);
+        for (String alias : aliases) {
+            this.checkNewWord(normalize(alias));
+        }
+
+        this.parsers.put(normalizedCommandWord, parser);
+        this.insert(normalizedCommandWord, normalizedCommandWord);
+        for (String alias : aliases) {
+            this.insert(normalize(alias), normalizedCommandWord);
+        }
+    }
+
+    /**
+     * Registers the command with {@code commandWord} and {@code aliases}, which is parsed by {@code parser}.
+     * The command can also be entered by any abbreviation of its command word or aliases of at least
+     * {@link #MIN_ABBREVIATION_LENGTH} characters that no other command shares.
+     *
+     * @throws IllegalArgumentException if the command word or any alias is blank, or already registered.
+     */
+    public void registerWithAbbreviations(String commandWord, Parser<?> parser, String... aliases) {
+        this.register(commandWord, parser, aliases);
+        this.abbreviatedCommandWords.add(normalize(commandWord));
+    }
+
+    /**
+     * Returns the command word of the command that {@code word} enters, which is its command word, one of its aliases,
+     * or an abbreviation of them that no other command shares if the command can be abbreviated.
+     *
+     * @throws ParseException if {@code word} enters no command, or could enter more than one.
+     */
+    public String resolveCommandWord(String word) throws ParseException {
+        requireNonNull(word);
+
+        TrieNode node = this.root;
+        String normalizedWord = normalize(word);
+        for (int i = 0; i < normalizedWord.length() && node != null; i++) {
+            node = node.children.get(normalizedWord.charAt(i));
+        }
+
+        if (node == null || node == this.root || node.reachableCommandWords.isEmpty()) {
+            throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
+        }
+        if (node.commandWord != null) {
+            return node.commandWord;
+        }
+        if (normalizedWord.length() < MIN_ABBREVIATION_LENGTH) {
+            throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
+        }
+        // Commands that cannot be abbreviated still make an abbreviation ambiguous, so that registering one never
+        // changes the command that an accepted abbreviation enters.
+        if (node.reachableCommandWords.size() > 1) {
+            throw new ParseException(String.format(MESSAGE_AMBIGUOUS_COMMAND, word,
+                    String.join(", ", node.reachableCommandWords)));
+        }
+        String commandWord = node.reachableCommandWords.first();
+        if (!this.abbreviatedCommandWords.contains(commandWord)) {
+            throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
+        }
+        return commandWord;
+    }
+
+    /**
+     * Returns the parser of the command that {@code word} enters, as resolved by {@link #resolveCommandWord(String)}.
+     *
+     * @throws ParseException if {@code word} enters no command, or could enter more than one.
+     */
+    public Parser<?> getParser(String word) throws ParseException {
+        return this.parsers.get(this.resolveCommandWord(word));
+    }
+
+    /**
+     * Returns the command words of all registered commands.
+     */
+    public Set<String> getCommandWords() {
+        return Collections.unmodifiableSet(this.parsers.keySet());
+    }
+
+    private static String normalize(String word) {
+        return word.trim().toLowerCase();
+    }
+
+    private void checkNewWord(String word) {
+        if (word.isEmpty()) {
+            throw new IllegalArgumentException("Command words and aliases cannot be blank");
+        }
+
+        TrieNode node = this.root;
+        for (int i = 0; i < word.length() && node != null; i++) {
+            node = node.children.get(word.charAt(i));
+        }
+        if (node != null && node.commandWord != null) {
+            throw new IllegalArgumentException("Command word or alias is already registered: " + word);
+        }
+    }
+
+    /**
+     * Adds {@code word} to the trie as entering the command with {@code commandWord}.
+     */
+    private void insert(String word, String commandWord) {
+        TrieNode node = this.root;
+        node.reachableCommandWords.add(commandWord);
+        for (int i = 0; i < word.length(); i++) {
+            node = node.children.computeIfAbsent(word.charAt(i), unused -> new TrieNode());
+            node.reachableCommandWords.add(commandWord);
+        }
+        node.commandWord = commandWord;
+    }
+
+    /**
+     * A node of the trie, for the word spelt by the path from the root to it.
+     */
+    private static class TrieNode {
+        private final Map<Character, TrieNode> children = new HashMap<>();
+        /** The command words of the commands whose words start with the word of this node, in sorted order. */
+        private final TreeSet<String> reachableCommandWords = new TreeSet<>();
+        /** The command word of the command that the word of this node is a word of, or null if there is none. */
+        private String commandWord;
+    }
+}
@@ -0,0 +1,257 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.messages.ImportCommandMessages.MESSAGE_DUPLICATE_COLUMN;
+import static seedu.address.logic.messages.ImportCommandMessages.MESSAGE_DUPLICATE_WEIGH_IN_DATE;
+import static seedu.address.logic.messages.ImportCommandMessages.MESSAGE_INVALID_WEIGH_IN_DATE;
+import static seedu.address.logic.messages.ImportCommandMessages.MESSAGE_MISSING_COLUMNS;
+import static seedu.address.logic.messages.ImportCommandMessages.MESSAGE_MULTIPLE_UNDATED_WEIGH_INS;
+import static seedu.address.logic.messages.ImportCommandMessages.MESSAGE_UNCLOSED_QUOTE;
+import static seedu.address.logic.messages.ImportCommandMessages.MESSAGE_UNKNOWN_COLUMN;
+import static seedu.address.logic.messages.ImportCommandMessages.MESSAGE_WRONG_FIELD_COUNT;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.exercise.ExerciseSet;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.weight.Weight;
+import seedu.address.model.person.weight.WeightEntry;
+
+/**
+ * Parses the rows of a CSV file of clients into {@code Person} objects, validating each field by the same rules as
+ * the {@code add} command.
+ * The columns are named by the header row, in any order. Fields may be quoted, with any quotes in them doubled, so
+ * that they can contain commas and line breaks. Tags are separated by semicolons, as are weigh-ins, which are each
+ * either a weight recorded now, or a date and a weight such as {@code 2024-01-31=70.5}.
+ *
+ * A parser holds no state besides its columns, so one parser can parse the rows of a file on many threads at once.
+ */
+public class CsvPersonParser {
+
+    public static final String COLUMN_NAME = "name";
+    public static final String COLUMN_PHONE = "phone";
+    public static final String COLUMN_EMAIL = "email";
+    public static final String COLUMN_ADDRESS = "address";
+    public static final String COLUMN_HEIGHT = "height";
+    public static final String COLUMN_WEIGHTS = "weights";
+    public static final String COLUMN_NOTE = "note";
+    public static final String COLUMN_TAGS = "tags";
+
+    /** The columns that a header row can name, in the order they are listed in messages. */
+    public static final List<String> COLUMNS = List.of(COLUMN_NAME, COLUMN_PHONE, COLUMN_EMAIL, COLUMN_ADDRESS,
+            COLUMN_HEIGHT, COLUMN_WEIGHTS, COLUMN_NOTE, COLUMN_TAGS);
+
+    public static final char FIELD_SEPARATOR = ',';
+    public static final char QUOTE = '"';
+    public static final String LIST_SEPARATOR = ";";
+    public static final String WEIGH_IN_DATE_SEPARATOR = "=";
+
+    /** Written at the start of CSV files by some spreadsheet programs, and not part of the first column name. */
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+
+    private final Map<String, Integer> columnIndices;
+    private final int columnCount;
+
+    /**
+     * Constructs a {@code CsvPersonParser} of rows with the columns named by {@code headerLine}, ignoring case and
+     * surrounding whitespace.
+     *
+     * @throws ParseException if a column is unknown or named more than once, or the name or phone column is missing.
+     */
+    public CsvPersonParser(String headerLine) throws ParseException {
+        requireNonNull(headerLine);
+
+        String header = !headerLine.isEmpty() && headerLine.charAt(0) == BYTE_ORDER_MARK
+                ? headerLine.substring(1)
+                : headerLine;
+        List<String> columns = splitFields(header);
+        Map<String, Integer> columnIndices = new HashMap<>();
+        for (int i = 0; i < columns.size(); i++) {
+            String column = columns.get(i).trim().toLowerCase();
+            if (!COLUMNS.contains(column)) {
+                throw new ParseException(String.format(MESSAGE_UNKNOWN_COLUMN, columns.get(i).trim(),
+                        String.join(", ", COLUMNS)));
+            }
+            if (columnIndices.putIfAbsent(column, i) != null) {
+                throw new ParseException(String.format(MESSAGE_DUPLICATE_COLUMN, column));
+            }
+        }
+        if (!columnIndices.containsKey(COLUMN_NAME) || !columnIndices.containsKey(COLUMN_PHONE)) {
+            throw new ParseException(String.format(MESSAGE_MISSING_COLUMNS, COLUMN_NAME + ", " + COLUMN_PHONE));
+        }
+
+        this.columnIndices = columnIndices;
+        this.columnCount = columns.size();
+    }
+
+    /**
+     * Parses a row of the CSV file into a {@code Person}.
+     *
+     * @throws ParseException if the row does not have a field for every column, or any field is invalid.
+     */
+    public Person parse(String line) throws ParseException {
+        requireNonNull(line);
+
+        List<String> fields = splitFields(line);
+        if (fields.size() != this.columnCount) {
+            throw new ParseException(String.format(MESSAGE_WRONG_FIELD_COUNT, this.columnCount, fields.size()));
+        }
+
+        return new Person(
+                ParserUtil.parseName(this.getField(fields, COLUMN_NAME).orElse("")),
+                ParserUtil.parsePhone(this.getField(fields, COLUMN_PHONE).orElse("")),
+                ParserUtil.parseEmail(this.getField(fields, COLUMN_EMAIL)),
+                ParserUtil.parseAddress(this.getField(fields, COLUMN_ADDRESS)),
+                parseWeighIns(this.getField(fields, COLUMN_WEIGHTS)),
+                ParserUtil.parseHeight(this.getField(fields, COLUMN_HEIGHT)),
+                ParserUtil.parseNote(this.getField(fields, COLUMN_NOTE)),
+                ParserUtil.parseTags(splitList(this.getField(fields, COLUMN_TAGS))),
+                new ExerciseSet(new HashSet<>()));
+    }
+
+    /**
+     * Splits a row of a CSV file into its fields. A field that starts with a quote ends at the next quote that is
+     * not doubled, and the doubled quotes in it are read as single quotes.
+     *
+     * @throws ParseException if a quoted field is not closed.
+     */
+    static List<String> splitFields(String line) throws ParseException {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean isInQuotes = false;
+        boolean isQuoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (isInQuotes) {
+                if (c != QUOTE) {
+                    field.append(c);
+                } else if (i + 1 < line.length() && line.charAt(i + 1) == QUOTE) {
+                    field.append(QUOTE);
+                    i++;
+                } else {
+                    isInQuotes = false;
+                }
+            } else if (c == FIELD_SEPARATOR) {
+                fields.add(field.toString());
+                field.setLength(0);
+                isQuoted = false;
+            } else if (c == QUOTE && field.length() == 0 && !isQuoted) {
+                isInQuotes = true;
+                isQuoted = true;
+            } else {
+                field.append(c);
+            }
+        }
+
+        if (isInQuotes) {
+            throw new ParseException(MESSAGE_UNCLOSED_QUOTE);
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    /**
+     * Returns true if {@code text} ends inside a quoted field, as read by {@link #splitFields(String)}, so that the
+     * field goes on past the end of the line.
+     */
+    public static boolean hasUnclosedQuote(CharSequence text) {
+        boolean isInQuotes = false;
+        boolean isFieldStart = true;
+
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (isInQuotes) {
+                if (c == QUOTE && i + 1 < text.length() && text.charAt(i + 1) == QUOTE) {
+                    i++;
+                } else if (c == QUOTE) {
+                    isInQuotes = false;
+                }
+            } else if (c == FIELD_SEPARATOR) {
+                isFieldStart = true;
+            } else {
+                isInQuotes = c == QUOTE && isFieldStart;
+                isFieldStart = false;
+            }
+        }
+        return isInQuotes;
+    }
+
+    /**
+     * Returns the field of {@code column} in {@code fields}, or an empty Optional if there is no such column or the
+     * field is blank.
+     */
+    private Optional<String> getField(List<String> fields, String column) {
+        Integer index = this.columnIndices.get(column);
+        if (index == null || fields.get(index).isBlank()) {
+            return Optional.empty();
+        }
+        return Optional.of(fields.get(index));
+    }
+
+    /**
+     * Splits a field that holds a list into its non-blank items, with surrounding whitespace removed.
+     */
+    private static List<String> splitList(Optional<String> field) {
+        List<String> items = new ArrayList<>();
+        if (field.isEmpty()) {
+            return items;
+        }
+
+        for (String item : field.get().split(LIST_SEPARATOR)) {
+            if (!item.isBlank()) {
+                items.add(item.trim());
+            }
+        }
+        return items;
+    }
+
+    /**
+     * Parses a field of weigh-ins into the weights of a person by the time they were recorded.
+     * A weigh-in without a date is recorded now, and weights of zero are ignored, as they are by {@code add}.
+     *
+     * @throws ParseException if any date or weight is invalid, or two weigh-ins would be recorded at the same time.
+     */
+    private static NavigableMap<LocalDateTime, Weight> parseWeighIns(Optional<String> field) throws ParseException {
+        NavigableMap<LocalDateTime, Weight> weightMap = new TreeMap<>();
+        boolean hasUndatedWeighIn = false;
+        for (String weighIn : splitList(field)) {
+            int separatorIndex = weighIn.indexOf(WEIGH_IN_DATE_SEPARATOR);
+            LocalDateTime time;
+            if (separatorIndex < 0) {
+                if (hasUndatedWeighIn) {
+                    throw new ParseException(MESSAGE_MULTIPLE_UNDATED_WEIGH_INS);
+                }
+                hasUndatedWeighIn = true;
+                time = WeightEntry.getTimeOfExecution();
+            } else {
+                time = parseWeighInDate(weighIn.substring(0, separatorIndex).trim()).atStartOfDay();
+            }
+
+            Weight weight = ParserUtil.parseWeight(Optional.of(weighIn.substring(separatorIndex + 1)));
+            if (!weight.isZero() && weightMap.put(time, weight) != null) {
+                throw new ParseException(String.format(MESSAGE_DUPLICATE_WEIGH_IN_DATE, time.toLocalDate()));
+            }
+        }
+        return weightMap;
+    }
+
+    private static LocalDate parseWeighInDate(String date) throws ParseException {
+        try {
+            return LocalDate.parse(date);
+        } catch (DateTimeParseException e) {
+            throw new ParseException(String.format(MESSAGE_INVALID_WEIGH_IN_DATE, date), e);
+        }
+    }
+}
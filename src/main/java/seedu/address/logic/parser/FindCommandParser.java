@@ -39,6 +39,17 @@ public class FindCommandParser implements Parser<FindCommand> {
      * @throws ParseException if the user input does not conform the expected format
      */
     public FindCommand parse(String args) throws ParseException {
+        return new FindCommand(this.parsePredicates(args));
+    }
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the
+     * FindCommand
+     * and returns the predicates that persons are to be found by.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public CombinedPredicates parsePredicates(String args) throws ParseException {
         if (args.trim().isEmpty()) {
             throw new ParseException(MESSAGE_INVALID_COMMAND_FORMAT_FIND);
         }
@@ -85,9 +96,7 @@ public class FindCommandParser implements Parser<FindCommand> {
                         : new TagSetContainsAllTagsPredicate(ParserUtil.parseTags(argMultimap.getAllValues(PREFIX_TAG)))
                 : alwaysTruePredicate;
 
-        CombinedPredicates predicates = new CombinedPredicates(namePredicate, phonePredicate, emailPredicate,
-                addressPredicate, weightPredicate, heightPredicate, notePredicate, tagsPredicate);
-
-        return new FindCommand(predicates);
+        return new CombinedPredicates(namePredicate, phonePredicate, emailPredicate, addressPredicate,
+                weightPredicate, heightPredicate, notePredicate, tagsPredicate);
     }
 }
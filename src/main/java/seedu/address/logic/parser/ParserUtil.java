@@ -6,8 +6,9 @@ import java.util.Collection;
 import java.util.HashSet;
 import java.util.Optional;
 import java.util.Set;
+import java.util.regex.Pattern;
 
-import javafx.util.Pair;
+import seedu.address.commons.core.Range;
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.commands.FindCommand;
@@ -38,6 +39,9 @@ public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
 
+    private static final Pattern WHITESPACE = Pattern.compile("\\s");
+    private static final Pattern RANGE_SEPARATOR = Pattern.compile(",\\s*");
+
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it. Leading
      * and trailing whitespaces will be trimmed.
@@ -81,7 +85,7 @@ public class ParserUtil {
      */
     public static Phone parsePhone(String phone) throws ParseException {
         requireNonNull(phone);
-        String trimmedPhone = phone.replaceAll("\\s", "");
+        String trimmedPhone = WHITESPACE.matcher(phone).replaceAll("");
         if (!Phone.isValidPhone(trimmedPhone)) {
             throw new ParseException(PhoneMessages.MESSAGE_CONSTRAINTS);
         }
@@ -337,13 +341,13 @@ public class ParserUtil {
     }
 
     /**
-     * Parses a {@code Optional<String> searchRange} into a Pair of Floats.
+     * Parses a {@code Optional<String> searchRange} into a {@code Range}.
      *
      * @param searchRange The optional range string to be parsed
-     * @return The Pair instance ready to be used for searching
+     * @return The Range ready to be used for searching
      * @throws ParseException If the given {@code searchRange} is invalid
      */
-    public static Pair<Float, Float> parseSearchRange(Optional<String> searchRange) throws ParseException {
+    public static Range parseSearchRange(Optional<String> searchRange) throws ParseException {
         requireNonNull(searchRange);
 
         if (searchRange.isPresent() && !searchRange.get().isEmpty()) {
@@ -353,7 +357,7 @@ public class ParserUtil {
                 throw new ParseException(FindCommandMessages.MESSAGE_USAGE_RANGE);
             }
 
-            String[] range = searchRange.get().split(",\\s*");
+            String[] range = RANGE_SEPARATOR.split(searchRange.get());
             Float fromRange = Float.valueOf(range[0]);
             Float toRange = Float.valueOf(range[1]);
 
@@ -361,9 +365,9 @@ public class ParserUtil {
                 throw new ParseException(FindCommandMessages.MESSAGE_USAGE_RANGE);
             }
 
-            return new Pair<>(fromRange, toRange);
+            return new Range(fromRange, toRange);
         }
 
-        return new Pair<>(0f, Float.MAX_VALUE);
+        return new Range(0f, Float.MAX_VALUE);
     }
 }
@@ -0,0 +1,50 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.messages.QrExportCommandMessages.MESSAGE_INVALID_FILE_EXPORT;
+import static seedu.address.logic.messages.QrExportCommandMessages.MESSAGE_NOT_ZIP_FILE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_QREXPORT_OVERWRITE;
+
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import seedu.address.logic.commands.QrExportCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new QrExportCommand object
+ */
+public class QrExportCommandParser implements Parser<QrExportCommand> {
+
+    private static final String ZIP_FILE_EXTENSION = ".zip";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the QrExportCommand
+     * and returns a QrExportCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format, or the file is not a .zip file
+     */
+    public QrExportCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_QREXPORT_OVERWRITE);
+        boolean isOverwriteAllowed = argMultimap.contains(PREFIX_QREXPORT_OVERWRITE);
+        if (!argMultimap.getValueOrEmpty(PREFIX_QREXPORT_OVERWRITE).isEmpty()) {
+            throw new ParseException(MESSAGE_INVALID_FILE_EXPORT);
+        }
+
+        String fileName = argMultimap.getPreamble();
+        if (fileName.isEmpty()) {
+            return new QrExportCommand(QrExportCommand.DEFAULT_EXPORT_FILE, isOverwriteAllowed);
+        }
+        if (!fileName.toLowerCase().endsWith(ZIP_FILE_EXTENSION)) {
+            throw new ParseException(MESSAGE_NOT_ZIP_FILE);
+        }
+
+        Path exportFile;
+        try {
+            exportFile = Paths.get(fileName);
+        } catch (InvalidPathException ipe) {
+            throw new ParseException(MESSAGE_INVALID_FILE_EXPORT, ipe);
+        }
+        return new QrExportCommand(exportFile, isOverwriteAllowed);
+    }
+
+}
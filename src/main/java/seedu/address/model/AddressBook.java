@@ -3,10 +3,14 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
+import java.util.Optional;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSearchIndex;
+import seedu.address.model.person.Phone;
 import seedu.address.model.person.UniquePersonList;
 
 /**
@@ -17,6 +21,9 @@ public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePersonList persons;
 
+    /** Incremented on every modification of the person list. */
+    private long version = 0;
+
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
      * between constructors. See https://docs.oracle.com/javase/tutorial/java/javaOO/initial.html
@@ -46,6 +53,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        this.version++;
     }
 
     /**
@@ -67,12 +75,29 @@ public class AddressBook implements ReadOnlyAddressBook {
         return this.persons.contains(person);
     }
 
+    /**
+     * Returns the person with the given {@code name} and {@code phone} in the address book, if any.
+     */
+    public Optional<Person> findPerson(Name name, Phone phone) {
+        return this.persons.find(name, phone);
+    }
+
     /**
      * Adds a person to the address book.
      * The person must not already exist in the address book.
      */
     public void addPerson(Person p) {
         this.persons.add(p);
+        this.version++;
+    }
+
+    /**
+     * Adds {@code persons} to the address book as a single modification.
+     * None of them may already exist in the address book, and they must not contain duplicate persons.
+     */
+    public void addPersons(List<Person> persons) {
+        this.persons.addAll(persons);
+        this.version++;
     }
 
     /**
@@ -84,6 +109,7 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedPerson);
 
         this.persons.setPerson(target, editedPerson);
+        this.version++;
     }
 
     /**
@@ -92,6 +118,22 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removePerson(Person key) {
         this.persons.remove(key);
+        this.version++;
+    }
+
+    /**
+     * Returns a number that changes whenever the persons in this {@code AddressBook} are modified.
+     * Two calls that return the same number are guaranteed to have seen the same data.
+     */
+    public long getVersion() {
+        return this.version;
+    }
+
+    /**
+     * Returns the search index of the persons in this {@code AddressBook}, which is kept in sync with the persons.
+     */
+    public PersonSearchIndex getSearchIndex() {
+        return this.persons.getSearchIndex();
     }
 
     //// util methods
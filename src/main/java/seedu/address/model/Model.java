@@ -1,11 +1,17 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.predicates.IndexedPredicate;
 
 /**
  * The API of the Model component.
@@ -52,11 +58,21 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns a number that changes whenever the address book data is modified.
+     */
+    long getAddressBookVersion();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
     boolean hasPerson(Person person);
 
+    /**
+     * Returns the person with the given {@code name} and {@code phone} in the address book, if any.
+     */
+    Optional<Person> findPerson(Name name, Phone phone);
+
     /**
      * Deletes the given person.
      * The person must exist in the address book.
@@ -69,6 +85,12 @@ public interface Model {
      */
     void addPerson(Person person);
 
+    /**
+     * Adds the given persons as a single modification.
+     * None of {@code persons} may already exist in the address book, and they must not contain duplicate persons.
+     */
+    void addPersons(List<Person> persons);
+
     /**
      * Replaces the given person {@code target} with {@code editedPerson}.
      * {@code target} must exist in the address book.
@@ -76,12 +98,32 @@ public interface Model {
      */
     void setPerson(Person target, Person editedPerson);
 
+    /**
+     * Returns a set that contains every person in the address book that satisfies {@code predicate}, and possibly some
+     * that do not, found through the search index of the address book. Returns an empty Optional if the index cannot
+     * narrow down the persons.
+     */
+    Optional<Set<Person>> findCandidates(IndexedPredicate predicate);
+
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
 
+    /**
+     * Returns the predicate that the filtered person list was last filtered by.
+     */
+    Predicate<Person> getFilteredPersonListPredicate();
+
     /**
      * Updates the filter of the filtered person list to filter by the given {@code predicate}.
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
+
+    /**
+     * Updates the filter of the filtered person list to filter by the given {@code predicate}, whose matches among
+     * the persons in the address book have already been found to be {@code matches}.
+     * Persons added or edited later are tested with {@code predicate}.
+     * @throws NullPointerException if {@code predicate} or {@code matches} is null.
+     */
+    void updateFilteredPersonList(Predicate<Person> predicate, Set<Person> matches);
 }
@@ -4,6 +4,11 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -11,7 +16,10 @@ import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.predicates.IndexedPredicate;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -22,6 +30,8 @@ public class ModelManager implements Model {
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
+    /** The predicate that the filtered person list was last filtered by. */
+    private Predicate<Person> filteredPersonListPredicate = PREDICATE_SHOW_ALL_PERSONS;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -35,8 +45,6 @@ public class ModelManager implements Model {
         this.userPrefs = new UserPrefs(userPrefs);
         this.filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
         this.filteredPersons.setPredicate(PREDICATE_SHOW_ALL_PERSONS);
-
-        initQrCodes();
     }
 
     public ModelManager() {
@@ -84,9 +92,6 @@ public class ModelManager implements Model {
 
     @Override
     public void setAddressBook(ReadOnlyAddressBook addressBook) {
-        // Delete QR codes of every person in the address book
-        this.addressBook.getPersonList().forEach(Person::deleteQrCode);
-
         this.addressBook.resetData(addressBook);
     }
 
@@ -95,42 +100,52 @@ public class ModelManager implements Model {
         return this.addressBook;
     }
 
+    @Override
+    public long getAddressBookVersion() {
+        return this.addressBook.getVersion();
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
         return this.addressBook.hasPerson(person);
     }
 
+    @Override
+    public Optional<Person> findPerson(Name name, Phone phone) {
+        requireAllNonNull(name, phone);
+        return this.addressBook.findPerson(name, phone);
+    }
+
     @Override
     public void deletePerson(Person target) {
         this.addressBook.removePerson(target);
-        target.deleteQrCode();
     }
 
     @Override
     public void addPerson(Person person) {
-        person.generateQrCode();
         this.addressBook.addPerson(person);
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
+    @Override
+    public void addPersons(List<Person> persons) {
+        requireNonNull(persons);
+        this.addressBook.addPersons(persons);
+        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+    }
+
     @Override
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        target.deleteQrCode();
-        editedPerson.generateQrCode();
-
         this.addressBook.setPerson(target, editedPerson);
     }
 
-    /**
-     * Initializes QR codes for all persons in the address book.
-     */
-    public void initQrCodes() {
-        for (Person person : this.addressBook.getPersonList()) {
-            person.generateQrCode();
-        }
+    @Override
+    public Optional<Set<Person>> findCandidates(IndexedPredicate predicate) {
+        requireNonNull(predicate);
+        return predicate.findCandidates(this.addressBook.getSearchIndex());
     }
 
     // =========== Filtered Person List Accessors ===========
@@ -145,10 +160,42 @@ public class ModelManager implements Model {
         return this.filteredPersons;
     }
 
+    @Override
+    public Predicate<Person> getFilteredPersonListPredicate() {
+        return this.filteredPersonListPredicate;
+    }
+
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
-        this.filteredPersons.setPredicate(predicate);
+
+        Optional<Set<Person>> candidates = predicate instanceof IndexedPredicate
+                ? this.findCandidates((IndexedPredicate) predicate)
+                : Optional.empty();
+        if (candidates.isEmpty()) {
+            this.filteredPersons.setPredicate(predicate);
+            this.filteredPersonListPredicate = predicate;
+            return;
+        }
+
+        Set<Person> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Person candidate : candidates.get()) {
+            if (predicate.test(candidate)) {
+                matches.add(candidate);
+            }
+        }
+
+        this.updateFilteredPersonList(predicate, matches);
+    }
+
+    @Override
+    public void updateFilteredPersonList(Predicate<Person> predicate, Set<Person> matches) {
+        requireAllNonNull(predicate, matches);
+
+        PrecomputedPredicate precomputedPredicate = new PrecomputedPredicate(predicate, matches);
+        this.filteredPersons.setPredicate(precomputedPredicate);
+        precomputedPredicate.discardMatches();
+        this.filteredPersonListPredicate = predicate;
     }
 
     @Override
@@ -168,4 +215,28 @@ public class ModelManager implements Model {
                 && this.filteredPersons.equals(otherModelManager.filteredPersons);
     }
 
+    /**
+     * A predicate whose results for the persons currently in the address book have been computed beforehand.
+     * Setting it on the filtered list only tests each person for membership in the matches. Persons added or edited
+     * later are tested with the original predicate, once the matches are discarded.
+     */
+    private static class PrecomputedPredicate implements Predicate<Person> {
+        private final Predicate<Person> predicate;
+        private Set<Person> matches;
+
+        PrecomputedPredicate(Predicate<Person> predicate, Set<Person> matches) {
+            this.predicate = predicate;
+            this.matches = matches;
+        }
+
+        void discardMatches() {
+            this.matches = null;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            return this.matches != null ? this.matches.contains(person) : this.predicate.test(person);
+        }
+    }
+
 }
@@ -0,0 +1,17 @@
+package seedu.address.model.person;
+
+/**
+ * An index of one attribute of the persons in a {@code UniquePersonList}, kept in sync by a
+ * {@code PersonSearchIndex}.
+ */
+interface AttributeIndex {
+    /**
+     * Adds {@code person} to the index.
+     */
+    void add(Person person);
+
+    /**
+     * Removes {@code person}, which must be the same object as was added, from the index.
+     */
+    void remove(Person person);
+}
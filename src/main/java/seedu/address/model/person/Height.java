@@ -2,9 +2,10 @@ package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.model.person.messages.HeightMessages.MESSAGE_NO_HEIGHT;
-import static seedu.address.model.person.messages.HeightMessages.MESSAGE_RANGE;
 
-import javafx.util.Pair;
+import java.util.regex.Pattern;
+
+import seedu.address.commons.core.Range;
 
 /**
  * Represents a Person's height in the address book.
@@ -16,6 +17,8 @@ public class Height extends Attribute<Float> {
     /** Regular expression to check for a valid height value. */
     public static final String VALIDATION_REGEX = "^(?:[0-9]+(?:\\.[0-9]*)?|\\.[0-9]+)?$";
 
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+
     /**
      * Constructs a {@code height}.
      *
@@ -33,7 +36,7 @@ public class Height extends Attribute<Float> {
      * @return True if input is a valid height, false otherwise.
      */
     public static boolean isValidHeight(String test) {
-        return test.matches(VALIDATION_REGEX) && Float.valueOf(test) <= HEIGHT_MAX_VALUE;
+        return VALIDATION_PATTERN.matcher(test).matches() && Float.valueOf(test) <= HEIGHT_MAX_VALUE;
     }
 
     /**
@@ -46,26 +49,16 @@ public class Height extends Attribute<Float> {
      */
     @Override
     public boolean isMatch(Object heightRange) {
-        if (!(heightRange instanceof Pair)) {
+        if (!(heightRange instanceof Range)) {
             return false;
         }
 
-        Pair<?, ?> pair = (Pair<?, ?>) heightRange;
-
-        if (!(pair.getKey() instanceof Float) || !(pair.getValue() instanceof Float)) {
-            return false;
-        }
-
-        Float firstVal = (Float) pair.getKey();
-        Float secondVal = (Float) pair.getValue();
-
-        assert (secondVal - firstVal >= 0) : MESSAGE_RANGE;
         // if a client has no height value
         if (this.isZero()) {
             return false;
         }
 
-        return (this.getValue() >= firstVal && this.getValue() <= secondVal);
+        return ((Range) heightRange).contains(this.getValue());
     }
 
     /**
@@ -6,7 +6,7 @@ import static java.util.Objects.requireNonNull;
  * Represents a Person's note in the address book.
  * Guarantees: immutable; is always valid.
  */
-public class Note extends Attribute<String> {
+public class Note extends TextAttribute {
 
     /**
      * Constructs a {@code note}.
@@ -18,25 +18,6 @@ public class Note extends Attribute<String> {
         requireNonNull(note);
     }
 
-    /**
-     * Determines if the note value stored is a match with a specified string.
-     * Returns true if specified value is a substring of the note value stored.
-     *
-     * @param otherValue Other value to check against
-     *
-     * @return True if specified value is a match, False otherwise
-     */
-    @Override
-    public boolean isMatch(Object otherValue) {
-        if (!(otherValue instanceof String)) {
-            return false;
-        }
-
-        String other = (String) otherValue;
-
-        return this.getValue().trim().toLowerCase().contains(other.trim().toLowerCase());
-    }
-
     @Override
     public String toString() {
         return this.getValue();
@@ -0,0 +1,156 @@
+package seedu.address.model.person;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * An index of persons sorted by a numeric key, such as their height, so that the persons whose key falls within a
+ * range are found with two binary searches.
+ * Keys are held in a primitive array, and persons without a key are not indexed.
+ */
+class NumericIndex implements AttributeIndex {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final KeyFunction keyFunction;
+    /** The keys of the indexed persons, in increasing order. */
+    private float[] keys;
+    /** The indexed persons, in the order of their keys. */
+    private Person[] persons;
+    private int size;
+
+    /**
+     * Constructs a {@code NumericIndex} of {@code persons} by the keys given by {@code keyFunction}.
+     */
+    NumericIndex(KeyFunction keyFunction, Iterable<Person> persons) {
+        this.keyFunction = keyFunction;
+
+        List<KeyedPerson> keyedPersons = new ArrayList<>();
+        for (Person person : persons) {
+            float key = keyFunction.keyOf(person);
+            if (!Float.isNaN(key)) {
+                keyedPersons.add(new KeyedPerson(key, person));
+            }
+        }
+        keyedPersons.sort(Comparator.comparingDouble(keyedPerson -> keyedPerson.key));
+
+        int capacity = Math.max(INITIAL_CAPACITY, keyedPersons.size());
+        this.keys = new float[capacity];
+        this.persons = new Person[capacity];
+        this.size = keyedPersons.size();
+        for (int i = 0; i < this.size; i++) {
+            this.keys[i] = keyedPersons.get(i).key;
+            this.persons[i] = keyedPersons.get(i).person;
+        }
+    }
+
+    @Override
+    public void add(Person person) {
+        float key = this.keyFunction.keyOf(person);
+        if (Float.isNaN(key)) {
+            return;
+        }
+
+        if (this.size == this.keys.length) {
+            this.keys = Arrays.copyOf(this.keys, 2 * this.size);
+            this.persons = Arrays.copyOf(this.persons, 2 * this.size);
+        }
+
+        int position = this.upperBound(key);
+        System.arraycopy(this.keys, position, this.keys, position + 1, this.size - position);
+        System.arraycopy(this.persons, position, this.persons, position + 1, this.size - position);
+        this.keys[position] = key;
+        this.persons[position] = person;
+        this.size++;
+    }
+
+    @Override
+    public void remove(Person person) {
+        float key = this.keyFunction.keyOf(person);
+        if (Float.isNaN(key)) {
+            return;
+        }
+
+        // Persons are immutable, so the person is among those with the key it was added with.
+        for (int i = this.lowerBound(key); i < this.size && this.keys[i] == key; i++) {
+            if (this.persons[i] == person) {
+                System.arraycopy(this.keys, i + 1, this.keys, i, this.size - i - 1);
+                System.arraycopy(this.persons, i + 1, this.persons, i, this.size - i - 1);
+                this.persons[--this.size] = null;
+                return;
+            }
+        }
+        assert false : "Only persons in the index can be removed";
+    }
+
+    /**
+     * Returns a new set of the persons whose key is at least {@code min} and at most {@code max}.
+     */
+    Set<Person> findCandidates(float min, float max) {
+        Set<Person> candidates = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (int i = this.lowerBound(min), end = this.upperBound(max); i < end; i++) {
+            candidates.add(this.persons[i]);
+        }
+        return candidates;
+    }
+
+    /**
+     * Returns the position of the first key that is not less than {@code key}.
+     */
+    private int lowerBound(float key) {
+        int low = 0;
+        int high = this.size;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (this.keys[middle] < key) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the position of the first key that is greater than {@code key}.
+     */
+    private int upperBound(float key) {
+        int low = 0;
+        int high = this.size;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (this.keys[middle] <= key) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Represents a function that gives the key of a person in the index.
+     */
+    @FunctionalInterface
+    interface KeyFunction {
+        /**
+         * Returns the key of {@code person}, or {@code Float.NaN} if the person should not be indexed.
+         */
+        float keyOf(Person person);
+    }
+
+    private static class KeyedPerson {
+        private final float key;
+        private final Person person;
+
+        KeyedPerson(float key, Person person) {
+            this.key = key;
+            this.person = person;
+        }
+    }
+}
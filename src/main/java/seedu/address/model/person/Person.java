@@ -1,14 +1,8 @@
 package seedu.address.model.person;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
-import static seedu.address.model.person.messages.PersonMessages.MESSAGE_CANT_DELETE_QR;
-import static seedu.address.model.person.messages.PersonMessages.MESSAGE_DELETED_QR;
-import static seedu.address.model.person.messages.PersonMessages.MESSAGE_DOES_NOT_EXIST;
-import static seedu.address.model.person.messages.PersonMessages.MESSAGE_GENERATED_QR;
-
-import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
+
 import java.time.LocalDateTime;
 import java.util.HashSet;
 import java.util.Map;
@@ -16,17 +10,12 @@ import java.util.NavigableMap;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.logging.Logger;
-
-import com.google.zxing.WriterException;
+import java.util.function.Supplier;
 
-import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.util.ToStringBuilder;
-import seedu.address.logic.QrCodeGenerator;
 import seedu.address.model.exercise.ExerciseSet;
 import seedu.address.model.person.exceptions.AttributeNotFoundException;
 import seedu.address.model.person.weight.Weight;
-import seedu.address.model.person.weight.WeightMap;
 import seedu.address.model.tag.Tag;
 import seedu.address.model.tag.TagSet;
 
@@ -36,18 +25,17 @@ import seedu.address.model.tag.TagSet;
  * immutable.
  */
 public class Person {
-    private static final Logger logger = LogsCenter.getLogger(Person.class);
     // Identity fields
     private final Name name;
     private final Phone phone;
     private final Email email;
     // Data fields
     private final Address address;
-    private final WeightMap weights;
     private final Height height;
-    private final Note note;
     private final TagSet tags;
-    private final ExerciseSet exerciseSet;
+    // Weights, note and exercises, which are only created by the loader when first accessed
+    private final Supplier<PersonDetails> detailsLoader;
+    private volatile PersonDetails details;
 
     /**
      * Every field must be present and not null.
@@ -63,18 +51,63 @@ public class Person {
      */
     public Person(Name name, Phone phone, Email email, Address address, NavigableMap<LocalDateTime, Weight> weights,
             Height height, Note note, Set<Tag> tags, ExerciseSet exerciseSet) {
-        requireAllNonNull(name, phone, email, address, weights, height, note, tags);
+        this(name, phone, email, address, height, tags, null, new PersonDetails(weights, note, exerciseSet));
+    }
+
+    /**
+     * Constructs a person whose weights, note and exercises are only created by {@code detailsLoader} when one of
+     * them is first accessed. Every field must be present and not null.
+     * @param name The name of the person to be created.
+     * @param phone The phone number of the person to be created.
+     * @param email The email of the person to be created.
+     * @param address The address of the person to be created.
+     * @param height The height value of the person to be created.
+     * @param tags Any tags associated with the person to be created.
+     * @param detailsLoader Creates the weights, note and exercises of the person to be created.
+     */
+    public Person(Name name, Phone phone, Email email, Address address, Height height, Set<Tag> tags,
+            Supplier<PersonDetails> detailsLoader) {
+        this(name, phone, email, address, height, tags, detailsLoader, null);
+        requireNonNull(detailsLoader);
+    }
+
+    private Person(Name name, Phone phone, Email email, Address address, Height height, Set<Tag> tags,
+            Supplier<PersonDetails> detailsLoader, PersonDetails details) {
+        requireAllNonNull(name, phone, email, address, height, tags);
         this.name = name;
         this.phone = phone;
         this.email = email;
         this.address = address;
-        this.weights = new WeightMap(weights);
         this.height = height;
-        this.note = note;
         Set<Tag> tagSet = new HashSet<>();
         tagSet.addAll(tags);
         this.tags = new TagSet(tagSet);
-        this.exerciseSet = exerciseSet;
+        this.detailsLoader = detailsLoader;
+        this.details = details;
+    }
+
+    /**
+     * Returns the weights, note and exercises of the person, creating them if they have not been accessed before.
+     */
+    private PersonDetails getDetails() {
+        PersonDetails loadedDetails = this.details;
+        if (loadedDetails == null) {
+            synchronized (this.detailsLoader) {
+                loadedDetails = this.details;
+                if (loadedDetails == null) {
+                    loadedDetails = requireNonNull(this.detailsLoader.get());
+                    this.details = loadedDetails;
+                }
+            }
+        }
+        return loadedDetails;
+    }
+
+    /**
+     * Returns true if the weights, note and exercises of the person have been created.
+     */
+    public boolean hasLoadedDetails() {
+        return this.details != null;
     }
 
     /**
@@ -94,15 +127,15 @@ public class Person {
         case ADDRESS:
             return this.address;
         case NOTE:
-            return this.note;
+            return getDetails().getNote();
         case WEIGHT:
-            return this.weights;
+            return getDetails().getWeights();
         case HEIGHT:
             return this.height;
         case TAGS:
             return this.tags;
         case EXERCISES:
-            return this.exerciseSet;
+            return getDetails().getExerciseSet();
 
         default:
             throw new AttributeNotFoundException();
@@ -126,7 +159,7 @@ public class Person {
     }
 
     public Optional<Map.Entry<LocalDateTime, Weight>> getLatestWeight() {
-        return Optional.ofNullable(this.weights.getValue().lastEntry());
+        return Optional.ofNullable(getWeights().lastEntry());
     }
 
     /**
@@ -137,7 +170,7 @@ public class Person {
      * @return A {@code NavigableMap} containing the date and weight key-value entries.
      */
     public NavigableMap<LocalDateTime, Weight> getWeights() {
-        return this.weights.getValue();
+        return getDetails().getWeights().getValue();
     }
 
     public Height getHeight() {
@@ -145,7 +178,7 @@ public class Person {
     }
 
     public Note getNote() {
-        return this.note;
+        return getDetails().getNote();
     }
 
     /**
@@ -158,28 +191,7 @@ public class Person {
     }
 
     public ExerciseSet getExerciseSet() {
-        return this.exerciseSet;
-    }
-
-    /**
-     * Retrieves the QR code path.
-     *
-     * @return the path of the generated QR code
-     */
-    public Path getQrCodePath() {
-        return QrCodeGenerator.getQrCodePath(this);
-    }
-
-    /**
-     * Generates a QR code for the person.
-     */
-    public void generateQrCode() {
-        try {
-            QrCodeGenerator.generateQrCode(this);
-            logger.info(MESSAGE_GENERATED_QR + this);
-        } catch (WriterException | IOException e) {
-            logger.warning("Unable to generate QR code for " + this);
-        }
+        return getDetails().getExerciseSet();
     }
 
     /**
@@ -199,6 +211,8 @@ public class Person {
     /**
      * Returns true if both persons have the same identity and data fields.
      * This defines a stronger notion of equality between two persons.
+     * The note and exercises of both persons are only compared, and so created if they have not been accessed before,
+     * when all their other fields are equal.
      */
     @Override
     public boolean equals(Object other) {
@@ -217,14 +231,15 @@ public class Person {
                 && this.email.equals(otherPerson.email)
                 && this.address.equals(otherPerson.address)
                 && this.tags.equals(otherPerson.tags)
-                && this.note.equals(otherPerson.note)
-                && this.exerciseSet.equals(otherPerson.exerciseSet);
+                && this.getNote().equals(otherPerson.getNote())
+                && this.getExerciseSet().equals(otherPerson.getExerciseSet());
     }
 
     @Override
     public int hashCode() {
+        // The weights, note and exercises are left out, so that hashing a person never creates them
         // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(this.name, this.phone, this.email, this.address, this.tags, this.exerciseSet);
+        return Objects.hash(this.name, this.phone, this.email, this.address, this.tags);
     }
 
     @Override
@@ -234,31 +249,11 @@ public class Person {
                 .add("phone", this.phone)
                 .add("email", this.email)
                 .add("address", this.address)
-                .add("note", this.note)
+                .add("note", this.getNote())
                 .add("tags", this.tags)
                 .toString();
     }
 
-    /**
-     * Deletes the QR code for the person.
-     *
-     * @return true if a QR code was deleted, false otherwise
-     */
-    public boolean deleteQrCode() {
-        try {
-            boolean result = Files.deleteIfExists(this.getQrCodePath());
-            if (result) {
-                logger.info(MESSAGE_DELETED_QR + this);
-            } else {
-                logger.info(String.format(MESSAGE_DOES_NOT_EXIST, this));
-            }
-            return result;
-        } catch (IOException e) {
-            logger.warning(String.format(MESSAGE_CANT_DELETE_QR, this));
-            return false;
-        }
-    }
-
     /**
      * Generates a formatted message for the Person.
      * Only fields with values are included.
@@ -279,11 +274,11 @@ public class Person {
             sb.append("\nAddress: ").append(this.address);
         }
 
-        if (!this.note.getValue().isEmpty()) {
-            sb.append(" | Note: ").append(this.note);
+        if (!this.getNote().getValue().isEmpty()) {
+            sb.append(" | Note: ").append(this.getNote());
         }
 
-        if (!this.weights.getValue().isEmpty()) {
+        if (!this.getWeights().isEmpty()) {
             sb.append(" | Latest Weight: ").append(this.getLatestWeight().get().getValue().toString());
         }
 
@@ -0,0 +1,44 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDateTime;
+import java.util.NavigableMap;
+
+import seedu.address.model.exercise.ExerciseSet;
+import seedu.address.model.person.weight.Weight;
+import seedu.address.model.person.weight.WeightMap;
+
+/**
+ * Represents the weights, note and exercises of a Person in the address book.
+ * These are the bulkiest fields of a person and are not needed to list persons, so a {@code Person} may defer
+ * creating them until they are first accessed.
+ * Guarantees: immutable.
+ */
+public class PersonDetails {
+    private final WeightMap weights;
+    private final Note note;
+    private final ExerciseSet exerciseSet;
+
+    /**
+     * Weights and note must be present and not null.
+     */
+    public PersonDetails(NavigableMap<LocalDateTime, Weight> weights, Note note, ExerciseSet exerciseSet) {
+        requireAllNonNull(weights, note);
+        this.weights = new WeightMap(weights);
+        this.note = note;
+        this.exerciseSet = exerciseSet;
+    }
+
+    public WeightMap getWeights() {
+        return this.weights;
+    }
+
+    public Note getNote() {
+        return this.note;
+    }
+
+    public ExerciseSet getExerciseSet() {
+        return this.exerciseSet;
+    }
+}
@@ -0,0 +1,138 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+import seedu.address.model.person.Person.PersonAttribute;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Indexes the persons of a {@code UniquePersonList} so that searches can find the persons that may match them
+ * without testing every person.
+ * Names, phones, emails, addresses and notes are indexed by trigram for substring searches, heights and latest
+ * weights in sorted order for range searches, and tags by a bitmap of persons per tag.
+ * The index of an attribute is only built when it is first searched, and is then kept in sync by the
+ * {@code UniquePersonList} on every change, so that attributes which are never searched cost nothing.
+ */
+public class PersonSearchIndex {
+
+    /** The attributes whose values can be searched for substrings with the index. */
+    private static final Set<PersonAttribute> SUBSTRING_ATTRIBUTES = EnumSet.of(PersonAttribute.NAME,
+            PersonAttribute.PHONE, PersonAttribute.EMAIL, PersonAttribute.ADDRESS, PersonAttribute.NOTE);
+
+    private final List<Person> persons;
+    private final Map<PersonAttribute, AttributeIndex> indexes = new EnumMap<>(PersonAttribute.class);
+
+    /**
+     * Constructs a {@code PersonSearchIndex} of {@code persons}, which must be the list of persons the index is kept
+     * in sync with.
+     */
+    PersonSearchIndex(List<Person> persons) {
+        this.persons = persons;
+    }
+
+    /**
+     * Returns the persons whose {@code attribute} may contain {@code substring}, ignoring case and surrounding
+     * whitespace as {@link TextAttribute#isMatch(Object)} does.
+     * Returns an empty Optional if the index cannot narrow down the persons, because {@code attribute} is not indexed
+     * or {@code substring} is too short, in which case any person may match.
+     */
+    public Optional<Set<Person>> findSubstringCandidates(PersonAttribute attribute, String substring) {
+        requireAllNonNull(attribute, substring);
+
+        String normalizedSubstring = TextAttribute.normalize(substring);
+        if (!SUBSTRING_ATTRIBUTES.contains(attribute) || normalizedSubstring.length() < TrigramIndex.TRIGRAM_LENGTH) {
+            return Optional.empty();
+        }
+
+        TrigramIndex trigramIndex = this.getIndex(attribute, persons -> new TrigramIndex(attribute, persons));
+        return Optional.of(trigramIndex.findCandidates(normalizedSubstring));
+    }
+
+    /**
+     * Returns the persons whose {@code attribute} is within the range from {@code min} to {@code max} inclusive, as
+     * {@link Height#isMatch(Object)} and {@link seedu.address.model.person.weight.WeightMap#isMatch(Object)} match
+     * them. Only the latest weight of a person is matched, and persons without a height or weight never match.
+     * Returns an empty Optional if {@code attribute} is not indexed by range.
+     */
+    public Optional<Set<Person>> findRangeCandidates(PersonAttribute attribute, float min, float max) {
+        requireNonNull(attribute);
+
+        NumericIndex.KeyFunction keyFunction;
+        switch (attribute) {
+        case HEIGHT:
+            keyFunction = PersonSearchIndex::getHeightKey;
+            break;
+        case WEIGHT:
+            keyFunction = PersonSearchIndex::getLatestWeightKey;
+            break;
+        default:
+            return Optional.empty();
+        }
+
+        NumericIndex numericIndex = this.getIndex(attribute, persons -> new NumericIndex(keyFunction, persons));
+        return Optional.of(numericIndex.findCandidates(min, max));
+    }
+
+    /**
+     * Returns the persons that have all of {@code tags}, ignoring case as {@link Tag#isMatch(Object)} does, or that
+     * have any tag if {@code tags} is empty.
+     */
+    public Set<Person> findTagCandidates(Set<Tag> tags) {
+        requireNonNull(tags);
+
+        TagIndex tagIndex = this.getIndex(PersonAttribute.TAGS, TagIndex::new);
+        return tagIndex.findCandidates(tags);
+    }
+
+    private static float getHeightKey(Person person) {
+        Height height = person.getHeight();
+        return height.isZero() ? Float.NaN : height.getValue();
+    }
+
+    private static float getLatestWeightKey(Person person) {
+        return person.getLatestWeight().map(latestWeight -> latestWeight.getValue().getValue()).orElse(Float.NaN);
+    }
+
+    /**
+     * Returns the index of {@code attribute}, building it with {@code indexBuilder} from the list of persons if it
+     * has not been built yet.
+     */
+    @SuppressWarnings("unchecked")
+    private <T extends AttributeIndex> T getIndex(PersonAttribute attribute,
+            Function<List<Person>, T> indexBuilder) {
+        // Each attribute is only ever indexed by one kind of index, so the index built for it has the same type.
+        return (T) this.indexes.computeIfAbsent(attribute, unused -> indexBuilder.apply(this.persons));
+    }
+
+    /**
+     * Adds {@code person}, which has just been added to the list of persons, to the index.
+     */
+    void add(Person person) {
+        this.indexes.values().forEach(index -> index.add(person));
+    }
+
+    /**
+     * Removes {@code person}, which has just been removed from the list of persons, from the index.
+     * {@code person} must be the same object as the one that was in the list.
+     */
+    void remove(Person person) {
+        this.indexes.values().forEach(index -> index.remove(person));
+    }
+
+    /**
+     * Discards the index, for when all persons in the list have been replaced.
+     * The index is rebuilt from the list of persons when next searched.
+     */
+    void clear() {
+        this.indexes.clear();
+    }
+}
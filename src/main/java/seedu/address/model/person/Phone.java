@@ -6,11 +6,16 @@ import static seedu.address.model.person.messages.PhoneMessages.EXPECTED_FORMAT_
 import static seedu.address.model.person.messages.PhoneMessages.MESSAGE_CONSTRAINTS;
 import static seedu.address.model.person.messages.PhoneMessages.REQUIRED_REGEX;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Person's phone number in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidPhone(String)}
  */
-public class Phone extends Attribute<String> {
+public class Phone extends TextAttribute {
+
+    private static final Pattern REQUIRED_PATTERN = Pattern.compile(REQUIRED_REGEX);
+    private static final Pattern EXPECTED_FORMAT_PATTERN = Pattern.compile(EXPECTED_FORMAT_REGEX);
 
     /**
      * Constructs a {@code Phone}.
@@ -27,7 +32,7 @@ public class Phone extends Attribute<String> {
      * Returns true if a given string is a valid phone number.
      */
     public static boolean isValidPhone(String test) {
-        return test.matches(REQUIRED_REGEX);
+        return REQUIRED_PATTERN.matcher(test).matches();
     }
 
     /**
@@ -39,30 +44,12 @@ public class Phone extends Attribute<String> {
         String phoneNumber = this.getValue();
 
         if (!phoneNumber.isEmpty()) {
-            return phoneNumber.matches(EXPECTED_FORMAT_REGEX);
+            return EXPECTED_FORMAT_PATTERN.matcher(phoneNumber).matches();
         } else {
             return false;
         }
     }
 
-    /**
-     * Determines if the phone value stored is a match with a specified string.
-     * Returns true if specified value is a substring of the phone value stored.
-     *
-     * @param otherValue Other value to check against
-     * @return True if specified value is a match, False otherwise
-     */
-    @Override
-    public boolean isMatch(Object otherValue) {
-        if (!(otherValue instanceof String)) {
-            return false;
-        }
-
-        String other = (String) otherValue;
-
-        return this.getValue().trim().toLowerCase().contains(other.trim().toLowerCase());
-    }
-
     @Override
     public String toString() {
         return this.getValue();
@@ -0,0 +1,114 @@
+package seedu.address.model.person;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.tag.Tag;
+
+/**
+ * An index of the persons that have each tag, so that the persons with all of several tags are found by intersecting
+ * bitmaps.
+ * Tags are interned to int IDs by a dictionary of their search keys, and each ID has a bitmap of the slots of the
+ * persons with the tag. Tag names are matched ignoring case, as {@link Tag#isMatch(Object)} matches them.
+ */
+class TagIndex implements AttributeIndex {
+
+    /** The IDs of the tags of the indexed persons, by normalized tag name. */
+    private final Map<String, Integer> tagIds = new HashMap<>();
+    /** The slots of the persons with each tag, by tag ID. */
+    private final List<BitSet> personsByTag = new ArrayList<>();
+    /** The slots of the persons with at least one tag. */
+    private final BitSet taggedPersons = new BitSet();
+
+    /** The person in each slot, or null if the slot is free. */
+    private final List<Person> personsBySlot = new ArrayList<>();
+    private final Map<Person, Integer> slots = new IdentityHashMap<>();
+    private final BitSet usedSlots = new BitSet();
+
+    /**
+     * Constructs a {@code TagIndex} of {@code persons}.
+     */
+    TagIndex(Iterable<Person> persons) {
+        persons.forEach(this::add);
+    }
+
+    @Override
+    public void add(Person person) {
+        int slot = this.usedSlots.nextClearBit(0);
+        this.usedSlots.set(slot);
+        if (slot == this.personsBySlot.size()) {
+            this.personsBySlot.add(person);
+        } else {
+            this.personsBySlot.set(slot, person);
+        }
+        this.slots.put(person, slot);
+
+        for (Tag tag : person.getTags()) {
+            String tagName = tag.getSearchKey();
+            int tagId = this.tagIds.computeIfAbsent(tagName, unused -> {
+                this.personsByTag.add(new BitSet());
+                return this.personsByTag.size() - 1;
+            });
+            this.personsByTag.get(tagId).set(slot);
+            this.taggedPersons.set(slot);
+        }
+    }
+
+    @Override
+    public void remove(Person person) {
+        Integer slot = this.slots.remove(person);
+        assert slot != null : "Only persons in the index can be removed";
+
+        // The person is immutable, so its tags are the ones its slot was added to.
+        for (Tag tag : person.getTags()) {
+            this.personsByTag.get(this.tagIds.get(tag.getSearchKey())).clear(slot);
+        }
+        this.taggedPersons.clear(slot);
+        this.personsBySlot.set(slot, null);
+        this.usedSlots.clear(slot);
+    }
+
+    /**
+     * Returns a new set of the persons that have all of {@code tags}, or that have any tag if {@code tags} is empty.
+     */
+    Set<Person> findCandidates(Set<Tag> tags) {
+        BitSet candidateSlots;
+        if (tags.isEmpty()) {
+            candidateSlots = this.taggedPersons;
+        } else {
+            candidateSlots = this.intersectTags(tags);
+        }
+
+        Set<Person> candidates = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (int slot = candidateSlots.nextSetBit(0); slot >= 0; slot = candidateSlots.nextSetBit(slot + 1)) {
+            candidates.add(this.personsBySlot.get(slot));
+        }
+        return candidates;
+    }
+
+    private BitSet intersectTags(Set<Tag> tags) {
+        List<BitSet> tagBitmaps = new ArrayList<>(tags.size());
+        for (Tag tag : tags) {
+            Integer tagId = this.tagIds.get(tag.getSearchKey());
+            if (tagId == null) {
+                return new BitSet();
+            }
+            tagBitmaps.add(this.personsByTag.get(tagId));
+        }
+
+        // Starting from the rarest tag keeps the intersection small from the start.
+        tagBitmaps.sort(Comparator.comparingInt(BitSet::cardinality));
+        BitSet candidateSlots = (BitSet) tagBitmaps.get(0).clone();
+        for (int i = 1; i < tagBitmaps.size() && !candidateSlots.isEmpty(); i++) {
+            candidateSlots.and(tagBitmaps.get(i));
+        }
+        return candidateSlots;
+    }
+}
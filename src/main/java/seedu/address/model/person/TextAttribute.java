@@ -0,0 +1,60 @@
+package seedu.address.model.person;
+
+/**
+ * Defines an attribute whose value is text that is searched for substrings, ignoring case and surrounding whitespace.
+ * The value is normalized into a search key once, when first searched, so that searches do not allocate strings for
+ * every person they test.
+ */
+public abstract class TextAttribute extends Attribute<String> {
+    /** The normalized value, or null if it has not been searched yet. */
+    private String searchKey;
+
+    protected TextAttribute(String value) {
+        super(value);
+    }
+
+    /**
+     * Returns {@code text} in the form that values and substrings are matched in.
+     */
+    public static String normalize(String text) {
+        return text.trim().toLowerCase();
+    }
+
+    /**
+     * Gets the value stored in this attribute, normalized by {@link #normalize(String)}.
+     */
+    public String getSearchKey() {
+        // Computing the key more than once on different threads is harmless, as Strings are immutable.
+        String searchKey = this.searchKey;
+        if (searchKey == null) {
+            searchKey = normalize(this.getValue());
+            this.searchKey = searchKey;
+        }
+        return searchKey;
+    }
+
+    /**
+     * Returns true if the value stored in this attribute contains {@code normalizedSubstring}, which must already be
+     * normalized by {@link #normalize(String)}. Unlike {@link #isMatch(Object)}, no strings are allocated.
+     */
+    public boolean containsNormalized(String normalizedSubstring) {
+        return this.getSearchKey().contains(normalizedSubstring);
+    }
+
+    /**
+     * Determines if a specified value is a match with the value stored in this attribute.
+     * Returns true if specified value is a substring of the value stored, ignoring case and surrounding whitespace.
+     *
+     * @param otherValue Other value to check against
+     *
+     * @return True if specified value is a match, False otherwise
+     */
+    @Override
+    public boolean isMatch(Object otherValue) {
+        if (!(otherValue instanceof String)) {
+            return false;
+        }
+
+        return this.containsNormalized(normalize((String) otherValue));
+    }
+}
@@ -0,0 +1,158 @@
+package seedu.address.model.person;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.person.Person.PersonAttribute;
+
+/**
+ * An inverted index from the trigrams (substrings of three characters) of one text attribute of persons to the
+ * persons whose attribute contains them.
+ * Any person whose attribute contains a substring of at least three characters contains all the trigrams of the
+ * substring, so intersecting their postings gives a small superset of the persons that match.
+ *
+ * Each person is given a slot, and postings hold slots. Removing a person only frees its slot, and the postings are
+ * rebuilt once most slots are free, so that no posting needs to be searched on removal.
+ */
+class TrigramIndex implements AttributeIndex {
+
+    /** The length of the substrings indexed. Shorter substrings cannot be looked up. */
+    static final int TRIGRAM_LENGTH = 3;
+
+    /** The fewest freed slots that cause the postings to be rebuilt, so that small indexes are not rebuilt often. */
+    private static final int MIN_FREED_SLOTS_TO_COMPACT = 1024;
+
+    private final PersonAttribute attribute;
+    /** The person in each slot, or null if the person in the slot has been removed. */
+    private final List<Person> personsBySlot = new ArrayList<>();
+    private final Map<Person, Integer> slots = new IdentityHashMap<>();
+    private final Map<Long, Posting> postings = new HashMap<>();
+
+    /**
+     * Constructs a {@code TrigramIndex} of {@code attribute} of {@code persons}.
+     */
+    TrigramIndex(PersonAttribute attribute, Iterable<Person> persons) {
+        this.attribute = attribute;
+        persons.forEach(this::add);
+    }
+
+    @Override
+    public void add(Person person) {
+        int slot = this.personsBySlot.size();
+        this.personsBySlot.add(person);
+        this.slots.put(person, slot);
+
+        String value = ((TextAttribute) person.getAttribute(this.attribute)).getSearchKey();
+        for (int i = 0; i + TRIGRAM_LENGTH <= value.length(); i++) {
+            this.postings.computeIfAbsent(trigramAt(value, i), trigram -> new Posting()).add(slot);
+        }
+    }
+
+    @Override
+    public void remove(Person person) {
+        Integer slot = this.slots.remove(person);
+        assert slot != null : "Only persons in the index can be removed";
+        this.personsBySlot.set(slot, null);
+
+        int freedSlotCount = this.personsBySlot.size() - this.slots.size();
+        if (freedSlotCount >= MIN_FREED_SLOTS_TO_COMPACT && freedSlotCount > this.slots.size()) {
+            this.compact();
+        }
+    }
+
+    /**
+     * Returns a new set of the persons whose attribute may contain {@code substring}, which must be normalized by
+     * {@link TextAttribute#normalize(String)} and at least {@link #TRIGRAM_LENGTH} characters long.
+     */
+    Set<Person> findCandidates(String substring) {
+        assert substring.length() >= TRIGRAM_LENGTH;
+
+        Set<Person> candidates = Collections.newSetFromMap(new IdentityHashMap<>());
+        List<Posting> substringPostings = new ArrayList<>();
+        for (int i = 0; i + TRIGRAM_LENGTH <= substring.length(); i++) {
+            Posting posting = this.postings.get(trigramAt(substring, i));
+            if (posting == null) {
+                return candidates;
+            }
+            substringPostings.add(posting);
+        }
+
+        // Intersecting from the rarest trigram keeps the candidates small from the start.
+        substringPostings.sort(Comparator.comparingInt(posting -> posting.size));
+        BitSet candidateSlots = substringPostings.get(0).toBitSet();
+        for (int i = 1; i < substringPostings.size() && !candidateSlots.isEmpty(); i++) {
+            candidateSlots.and(substringPostings.get(i).toBitSet());
+        }
+
+        for (int slot = candidateSlots.nextSetBit(0); slot >= 0; slot = candidateSlots.nextSetBit(slot + 1)) {
+            Person person = this.personsBySlot.get(slot);
+            if (person != null) {
+                candidates.add(person);
+            }
+        }
+        return candidates;
+    }
+
+    /**
+     * Returns the number of slots, including freed ones.
+     */
+    int getSlotCount() {
+        return this.personsBySlot.size();
+    }
+
+    private void compact() {
+        List<Person> persons = new ArrayList<>(this.slots.size());
+        for (Person person : this.personsBySlot) {
+            if (person != null) {
+                persons.add(person);
+            }
+        }
+
+        this.personsBySlot.clear();
+        this.slots.clear();
+        this.postings.clear();
+        persons.forEach(this::add);
+    }
+
+    private static long trigramAt(String value, int index) {
+        return ((long) value.charAt(index) << 32) | ((long) value.charAt(index + 1) << 16) | value.charAt(index + 2);
+    }
+
+    /**
+     * The slots of the persons whose attribute contains a trigram, in increasing order.
+     */
+    private static class Posting {
+        private int[] slots = new int[4];
+        private int size = 0;
+
+        /**
+         * Adds {@code slot}, which must not be smaller than any slot already added.
+         */
+        void add(int slot) {
+            // A trigram that occurs more than once in a value is only added once.
+            if (this.size > 0 && this.slots[this.size - 1] == slot) {
+                return;
+            }
+            if (this.size == this.slots.length) {
+                this.slots = Arrays.copyOf(this.slots, 2 * this.size);
+            }
+            this.slots[this.size++] = slot;
+        }
+
+        BitSet toBitSet() {
+            BitSet bitSet = new BitSet(this.size == 0 ? 0 : this.slots[this.size - 1] + 1);
+            for (int i = 0; i < this.size; i++) {
+                bitSet.set(this.slots[i]);
+            }
+            return bitSet;
+        }
+    }
+}
@@ -3,8 +3,12 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -20,6 +24,10 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  *
  * Supports a minimal set of list operations.
  *
+ * An identity index keyed by name and phone is kept in sync with the backing list, so that identity checks and
+ * lookups do not need to scan the whole list. A {@code PersonSearchIndex} is kept in sync in the same way, so that
+ * searches do not need to test every person.
+ *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
@@ -27,13 +35,23 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(this.internalList);
+    private Map<Identity, Person> identityIndex = new HashMap<>();
+    private final PersonSearchIndex searchIndex = new PersonSearchIndex(this.internalList);
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return this.internalList.stream().anyMatch(toCheck::isSamePerson);
+        return this.identityIndex.containsKey(Identity.of(toCheck));
+    }
+
+    /**
+     * Returns the person in the list with the given {@code name} and {@code phone}, if any.
+     */
+    public Optional<Person> find(Name name, Phone phone) {
+        requireAllNonNull(name, phone);
+        return Optional.ofNullable(this.identityIndex.get(new Identity(name, phone)));
     }
 
     /**
@@ -45,7 +63,25 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
+        this.identityIndex.put(Identity.of(toAdd), toAdd);
         this.internalList.add(toAdd);
+        this.searchIndex.add(toAdd);
+    }
+
+    /**
+     * Adds {@code persons} to the end of the list in a single change, so that listeners of the list are only notified
+     * once. None of {@code persons} may already exist in the list, and they must not contain duplicate persons.
+     */
+    public void addAll(List<Person> persons) {
+        requireAllNonNull(persons);
+        Map<Identity, Person> addedIndex = buildIdentityIndex(persons);
+        if (addedIndex == null || addedIndex.keySet().stream().anyMatch(this.identityIndex::containsKey)) {
+            throw new DuplicatePersonException();
+        }
+
+        this.identityIndex.putAll(addedIndex);
+        this.internalList.addAll(persons);
+        persons.forEach(this.searchIndex::add);
     }
 
     /**
@@ -65,7 +101,11 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
-        this.internalList.set(index, editedPerson);
+        this.identityIndex.remove(Identity.of(target));
+        this.identityIndex.put(Identity.of(editedPerson), editedPerson);
+        Person replacedPerson = this.internalList.set(index, editedPerson);
+        this.searchIndex.remove(replacedPerson);
+        this.searchIndex.add(editedPerson);
     }
 
     /**
@@ -77,11 +117,15 @@ public class UniquePersonList implements Iterable<Person> {
         if (!this.internalList.remove(toRemove)) {
             throw new PersonNotFoundException();
         }
+        // The removed person is the one in the identity index, which may be a different object from toRemove.
+        this.searchIndex.remove(this.identityIndex.remove(Identity.of(toRemove)));
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
+        this.identityIndex = new HashMap<>(replacement.identityIndex);
         this.internalList.setAll(replacement.internalList);
+        this.searchIndex.clear();
     }
 
     /**
@@ -90,11 +134,14 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
+        Map<Identity, Person> replacementIndex = buildIdentityIndex(persons);
+        if (replacementIndex == null) {
             throw new DuplicatePersonException();
         }
 
+        this.identityIndex = replacementIndex;
         this.internalList.setAll(persons);
+        this.searchIndex.clear();
     }
 
     /**
@@ -104,6 +151,13 @@ public class UniquePersonList implements Iterable<Person> {
         return this.internalUnmodifiableList;
     }
 
+    /**
+     * Returns the search index of the persons in the list, which is kept in sync with the list.
+     */
+    public PersonSearchIndex getSearchIndex() {
+        return this.searchIndex;
+    }
+
     @Override
     public Iterator<Person> iterator() {
         return this.internalList.iterator();
@@ -135,16 +189,54 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Returns the identity index of {@code persons} in a single pass,
+     * or null if {@code persons} contains persons with the same identity.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+    private static Map<Identity, Person> buildIdentityIndex(List<Person> persons) {
+        Map<Identity, Person> index = new HashMap<>(Math.max(16, persons.size() * 4 / 3 + 1));
+        for (Person person : persons) {
+            if (index.putIfAbsent(Identity.of(person), person) != null) {
+                return null;
             }
         }
-        return true;
+        return index;
+    }
+
+    /**
+     * Represents the identity fields of a person, as compared by {@code Person#isSamePerson(Person)}.
+     */
+    private static class Identity {
+        private final Name name;
+        private final Phone phone;
+
+        Identity(Name name, Phone phone) {
+            this.name = name;
+            this.phone = phone;
+        }
+
+        static Identity of(Person person) {
+            return new Identity(person.getName(), person.getPhone());
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof Identity)) {
+                return false;
+            }
+
+            Identity otherIdentity = (Identity) other;
+            return this.name.equals(otherIdentity.name)
+                    && this.phone.equals(otherIdentity.phone);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(this.name, this.phone);
+        }
     }
 }
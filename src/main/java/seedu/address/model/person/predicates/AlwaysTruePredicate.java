@@ -18,4 +18,9 @@ public class AlwaysTruePredicate extends SearchPredicate<String> {
     public boolean test(Person person) {
         return true;
     }
+
+    @Override
+    boolean isAlwaysTrue() {
+        return true;
+    }
 }
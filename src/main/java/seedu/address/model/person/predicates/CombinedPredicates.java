@@ -1,16 +1,22 @@
 package seedu.address.model.person.predicates;
 
 import java.util.Arrays;
-import java.util.function.Predicate;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSearchIndex;
 
 /**
  * Defines a Predicate which combines multiple {@code SearchPredicates}.
+ * The predicates are tested in the order planned by a {@link QueryPlan}, which drops always-true predicates and tests
+ * cheap and selective predicates first.
  */
-public class CombinedPredicates implements Predicate<Person> {
+public class CombinedPredicates implements IndexedPredicate {
     private final SearchPredicate<? extends Object>[] predicates;
+    private final QueryPlan plan;
 
     /**
      * Constructs a CombinedPredicate instance.
@@ -20,11 +26,64 @@ public class CombinedPredicates implements Predicate<Person> {
     @SafeVarargs
     public CombinedPredicates(SearchPredicate<? extends Object>... predicates) {
         this.predicates = predicates;
+        this.plan = new QueryPlan(List.of(this.predicates));
     }
 
     @Override
     public boolean test(Person person) {
-        return Arrays.stream(this.predicates).allMatch(predicate -> predicate.test(person));
+        return this.plan.test(person);
+    }
+
+    /**
+     * Returns a description of the order the predicates are tested in, with the statistics used to order them.
+     */
+    public String explain() {
+        return this.plan.explain();
+    }
+
+    /**
+     * Returns true if every person that matches this predicate also matches {@code other}, as each predicate of
+     * {@code other} is narrowed by a predicate of this.
+     */
+    public boolean isNarrowingOf(CombinedPredicates other) {
+        List<SearchPredicate<?>> predicates = this.plan.getPredicates();
+        for (SearchPredicate<?> otherPredicate : other.plan.getPredicates()) {
+            boolean isNarrowed = false;
+            for (SearchPredicate<?> predicate : predicates) {
+                if (predicate.isNarrowingOf(otherPredicate)) {
+                    isNarrowed = true;
+                    break;
+                }
+            }
+            if (!isNarrowed) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Intersects the candidates of each predicate that the index can narrow down.
+     */
+    @Override
+    public Optional<Set<Person>> findCandidates(PersonSearchIndex index) {
+        Optional<Set<Person>> candidates = Optional.empty();
+        for (SearchPredicate<? extends Object> predicate : this.plan.getPredicates()) {
+            Optional<Set<Person>> predicateCandidates = predicate.findCandidates(index);
+            if (predicateCandidates.isEmpty()) {
+                continue;
+            }
+
+            if (candidates.isEmpty()) {
+                candidates = predicateCandidates;
+            } else if (candidates.get().size() <= predicateCandidates.get().size()) {
+                candidates.get().retainAll(predicateCandidates.get());
+            } else {
+                predicateCandidates.get().retainAll(candidates.get());
+                candidates = predicateCandidates;
+            }
+        }
+        return candidates;
     }
 
     @Override
@@ -42,6 +101,11 @@ public class CombinedPredicates implements Predicate<Person> {
         return Arrays.equals(this.predicates, otherCombinedPredicate.predicates);
     }
 
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(this.predicates);
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this).add("predicates", this.predicates).toString();
@@ -2,26 +2,52 @@ package seedu.address.model.person.predicates;
 
 import static java.util.Objects.requireNonNull;
 
-import javafx.util.Pair;
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.address.commons.core.Range;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
 import seedu.address.model.person.Person.PersonAttribute;
+import seedu.address.model.person.PersonSearchIndex;
 
 /**
- * Tests that a {@code Person}'s {@code Height} falls within a range specified
- * by a Pair.
+ * Tests that a {@code Person}'s {@code Height} falls within a range.
  */
-public class HeightContainsRangePredicate extends SearchPredicate<Pair<Float, Float>> {
+public class HeightContainsRangePredicate extends SearchPredicate<Range> {
     /**
      * Constructs a predicate to test that a {@code Person}'s {@code Height} falls
-     * within a range specified by a Pair.
+     * within a range.
      *
      * @param range range to test against
      */
-    public HeightContainsRangePredicate(Pair<Float, Float> range) {
+    public HeightContainsRangePredicate(Range range) {
         super(range, PersonAttribute.HEIGHT);
         requireNonNull(range);
     }
 
+    /**
+     * Looks up the persons whose height is within the range.
+     */
+    @Override
+    public Optional<Set<Person>> findCandidates(PersonSearchIndex index) {
+        Range range = this.getSearchValue();
+        return index.findRangeCandidates(PersonAttribute.HEIGHT, range.getMin(), range.getMax());
+    }
+
+    /**
+     * Narrows searches for ranges that contain this range.
+     */
+    @Override
+    boolean isNarrowingOf(SearchPredicate<?> other) {
+        if (!(other instanceof HeightContainsRangePredicate)) {
+            return super.isNarrowingOf(other);
+        }
+
+        Range otherRange = ((HeightContainsRangePredicate) other).getSearchValue();
+        return otherRange.contains(this.getSearchValue());
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this).add("height", this.getSearchValue()).toString();
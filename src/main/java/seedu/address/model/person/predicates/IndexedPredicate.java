@@ -0,0 +1,22 @@
+package seedu.address.model.person.predicates;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSearchIndex;
+
+/**
+ * Defines a Predicate on persons that can look up the persons that may satisfy it in a {@code PersonSearchIndex}.
+ */
+public interface IndexedPredicate extends Predicate<Person> {
+    /**
+     * Returns a set that contains every person in {@code index} that satisfies this predicate, and possibly some
+     * that do not. Returns an empty Optional if {@code index} cannot narrow down the persons.
+     *
+     * @param index Index of the persons to search
+     * @return Persons that may satisfy this predicate
+     */
+    Optional<Set<Person>> findCandidates(PersonSearchIndex index);
+}
@@ -0,0 +1,167 @@
+package seedu.address.model.person.predicates;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Person.PersonAttribute;
+
+/**
+ * The order in which the predicates of a {@code CombinedPredicates} are tested.
+ * Always-true predicates are dropped, and the rest are ordered so that cheap predicates which reject most persons are
+ * tested first. A person is rejected as soon as one predicate fails.
+ *
+ * The order starts from estimates of the cost and selectivity (the share of persons that pass) of each predicate, and
+ * is refined from the share of persons that each predicate has actually passed every {@link #REPLAN_INTERVAL} tests.
+ */
+class QueryPlan {
+
+    /** The number of persons tested between each refinement of the order. */
+    static final int REPLAN_INTERVAL = 256;
+
+    /** The number of tests the estimated selectivity of a predicate counts as when combined with its statistics. */
+    private static final int ESTIMATE_WEIGHT = 32;
+
+    /** The relative cost of testing an attribute that has no cost of its own. */
+    private static final double DEFAULT_COST = 2.0;
+    /** The relative cost of testing each attribute, by how much work matching its value takes. */
+    private static final Map<PersonAttribute, Double> ATTRIBUTE_COSTS = new EnumMap<>(PersonAttribute.class);
+
+    static {
+        ATTRIBUTE_COSTS.put(PersonAttribute.NAME, 1.0);
+        ATTRIBUTE_COSTS.put(PersonAttribute.PHONE, 1.0);
+        ATTRIBUTE_COSTS.put(PersonAttribute.EMAIL, 1.0);
+        ATTRIBUTE_COSTS.put(PersonAttribute.HEIGHT, 1.0);
+        ATTRIBUTE_COSTS.put(PersonAttribute.ADDRESS, 2.0);
+        ATTRIBUTE_COSTS.put(PersonAttribute.WEIGHT, 2.0);
+        ATTRIBUTE_COSTS.put(PersonAttribute.TAGS, 2.0);
+        ATTRIBUTE_COSTS.put(PersonAttribute.NOTE, 3.0);
+    }
+
+    private final int droppedCount;
+    /** The predicates in the order they are tested, replaced as a whole when the order is refined. */
+    private volatile PlannedPredicate[] plannedPredicates;
+    private int testCount = 0;
+
+    /**
+     * Constructs a {@code QueryPlan} of {@code predicates}.
+     */
+    QueryPlan(List<? extends SearchPredicate<?>> predicates) {
+        List<PlannedPredicate> plannedPredicates = new ArrayList<>(predicates.size());
+        for (SearchPredicate<?> predicate : predicates) {
+            if (!predicate.isAlwaysTrue()) {
+                plannedPredicates.add(new PlannedPredicate(predicate));
+            }
+        }
+
+        this.droppedCount = predicates.size() - plannedPredicates.size();
+        this.plannedPredicates = plannedPredicates.toArray(new PlannedPredicate[0]);
+        this.replan();
+    }
+
+    /**
+     * Returns true if {@code person} passes all predicates.
+     */
+    boolean test(Person person) {
+        PlannedPredicate[] plannedPredicates = this.plannedPredicates;
+        boolean isMatch = true;
+        for (PlannedPredicate plannedPredicate : plannedPredicates) {
+            if (!plannedPredicate.test(person)) {
+                isMatch = false;
+                break;
+            }
+        }
+
+        if (++this.testCount % REPLAN_INTERVAL == 0) {
+            this.replan();
+        }
+        return isMatch;
+    }
+
+    /**
+     * Returns the predicates in the order they are tested.
+     */
+    List<SearchPredicate<?>> getPredicates() {
+        List<SearchPredicate<?>> predicates = new ArrayList<>();
+        for (PlannedPredicate plannedPredicate : this.plannedPredicates) {
+            predicates.add(plannedPredicate.predicate);
+        }
+        return predicates;
+    }
+
+    /**
+     * Returns a description of the order the predicates are tested in, with the cost, selectivity and statistics of
+     * each.
+     */
+    String explain() {
+        StringBuilder sb = new StringBuilder("Query plan");
+        if (this.droppedCount > 0) {
+            sb.append(" (").append(this.droppedCount).append(" always-true predicate(s) dropped)");
+        }
+        sb.append(':');
+
+        PlannedPredicate[] plannedPredicates = this.plannedPredicates;
+        if (plannedPredicates.length == 0) {
+            sb.append("\n  every person matches");
+        }
+        for (int i = 0; i < plannedPredicates.length; i++) {
+            PlannedPredicate plannedPredicate = plannedPredicates[i];
+            sb.append(String.format("\n  %d. %s: cost %.1f, selectivity %.3f, passed %d of %d", i + 1,
+                    plannedPredicate.predicate, plannedPredicate.cost, plannedPredicate.getSelectivity(),
+                    plannedPredicate.passedCount, plannedPredicate.testedCount));
+        }
+        return sb.toString();
+    }
+
+    private void replan() {
+        PlannedPredicate[] plannedPredicates = Arrays.copyOf(this.plannedPredicates, this.plannedPredicates.length);
+        // Testing predicates by increasing cost per rejected person minimizes the expected cost of a test.
+        Arrays.sort(plannedPredicates, Comparator.comparingDouble(PlannedPredicate::getRank));
+        this.plannedPredicates = plannedPredicates;
+    }
+
+    /**
+     * A predicate in the plan, with the statistics of its tests.
+     */
+    private static class PlannedPredicate {
+        private final SearchPredicate<?> predicate;
+        private final double cost;
+        private final double estimatedSelectivity;
+        private int testedCount = 0;
+        private int passedCount = 0;
+
+        PlannedPredicate(SearchPredicate<?> predicate) {
+            this.predicate = predicate;
+            this.cost = ATTRIBUTE_COSTS.getOrDefault(predicate.getAttribute(), DEFAULT_COST);
+            this.estimatedSelectivity = predicate.estimateSelectivity();
+        }
+
+        boolean test(Person person) {
+            this.testedCount++;
+            boolean isPassed = this.predicate.test(person);
+            if (isPassed) {
+                this.passedCount++;
+            }
+            return isPassed;
+        }
+
+        /**
+         * Returns the share of persons expected to pass, from the estimate and the persons tested so far.
+         */
+        double getSelectivity() {
+            return (this.passedCount + this.estimatedSelectivity * ESTIMATE_WEIGHT)
+                    / (this.testedCount + ESTIMATE_WEIGHT);
+        }
+
+        /**
+         * Returns the expected cost of the predicate per person it rejects.
+         */
+        double getRank() {
+            return this.cost / Math.max(1 - this.getSelectivity(), 1e-3);
+        }
+    }
+}
@@ -1,21 +1,42 @@
 package seedu.address.model.person.predicates;
 
-import java.util.function.Predicate;
+import java.util.Optional;
+import java.util.Set;
 
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Attribute;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Person.PersonAttribute;
+import seedu.address.model.person.PersonSearchIndex;
+import seedu.address.model.person.TextAttribute;
 
 /**
  * Defines a Predicate in which a {@code Person}'s is to be searched by.
  */
-public abstract class SearchPredicate<T extends Object> implements Predicate<Person> {
+public abstract class SearchPredicate<T extends Object> implements IndexedPredicate {
+    /** The estimated share of persons that match a search value that is not a substring. */
+    static final double DEFAULT_SELECTIVITY = 0.25;
+    /** The estimated share of persons that match each character of a substring. */
+    private static final double SELECTIVITY_PER_CHARACTER = 0.3;
+    /** The estimated share of persons that have an attribute, for a search for any value. */
+    private static final double NON_EMPTY_SELECTIVITY = 0.9;
+    /** The lowest estimated share of persons that match, as no search is expected to reject everyone. */
+    private static final double MIN_SELECTIVITY = 0.001;
+
     private final T searchValue;
     private final PersonAttribute attribute;
+    /** Whether the search is for persons with any value of the attribute, as the search value is empty. */
+    private final boolean isAnyValueSearch;
+    /** The search value normalized for matching text attributes, or null if the search value is not a String. */
+    private final String normalizedSearchValue;
 
     protected SearchPredicate(T searchValue, PersonAttribute attribute) {
         this.searchValue = searchValue;
         this.attribute = attribute;
+        this.isAnyValueSearch = searchValue != null && searchValue.toString().isEmpty();
+        this.normalizedSearchValue = searchValue instanceof String
+                ? TextAttribute.normalize((String) searchValue)
+                : null;
     }
 
     /**
@@ -27,17 +48,97 @@ public abstract class SearchPredicate<T extends Object> implements Predicate<Per
         return this.searchValue;
     }
 
+    /**
+     * Gets the attribute this predicate searches, or null if it searches none.
+     */
+    PersonAttribute getAttribute() {
+        return this.attribute;
+    }
+
+    /**
+     * Returns true if this predicate matches every person, so that it need not be tested.
+     */
+    boolean isAlwaysTrue() {
+        return false;
+    }
+
+    /**
+     * Returns true if every person that matches this predicate also matches {@code other}, so that the persons
+     * matching this predicate can be found among the matches of {@code other}.
+     * Substring searches narrow searches for substrings of their search value.
+     */
+    boolean isNarrowingOf(SearchPredicate<?> other) {
+        if (other.isAlwaysTrue()) {
+            return true;
+        }
+        if (this.getClass() != other.getClass()) {
+            return false;
+        }
+        if (this.normalizedSearchValue == null || other.normalizedSearchValue == null) {
+            return this.equals(other);
+        }
+
+        if (other.isAnyValueSearch) {
+            // Only persons with a value of the attribute contain a substring that is not empty.
+            return this.isAnyValueSearch || !this.normalizedSearchValue.isEmpty();
+        }
+        if (this.isAnyValueSearch) {
+            return other.normalizedSearchValue.isEmpty();
+        }
+        return this.normalizedSearchValue.contains(other.normalizedSearchValue);
+    }
+
+    /**
+     * Estimates the share of persons that match this predicate, for ordering the predicates of a
+     * {@code CombinedPredicates}. Longer substrings are expected to match fewer persons.
+     */
+    double estimateSelectivity() {
+        if (!(this.searchValue instanceof String)) {
+            return DEFAULT_SELECTIVITY;
+        }
+
+        String substring = ((String) this.searchValue).trim();
+        if (substring.isEmpty()) {
+            return NON_EMPTY_SELECTIVITY;
+        }
+        return Math.max(Math.pow(SELECTIVITY_PER_CHARACTER, substring.length()), MIN_SELECTIVITY);
+    }
+
+    /**
+     * Tests the attribute of {@code person} against the search value.
+     * Text attributes are matched against the search value normalized once for all persons, so that no strings are
+     * allocated.
+     */
     @Override
     public boolean test(Person person) {
-        String attributeString = person.getAttribute(this.attribute).toString();
+        Attribute<?> personAttribute = person.getAttribute(this.attribute);
+
+        if (personAttribute instanceof TextAttribute && this.normalizedSearchValue != null) {
+            TextAttribute textAttribute = (TextAttribute) personAttribute;
+            return this.isAnyValueSearch
+                    ? !textAttribute.getValue().isEmpty()
+                    : textAttribute.containsNormalized(this.normalizedSearchValue);
+        }
 
-        if (searchValue.toString().isEmpty()) {
-            return !attributeString.isEmpty();
+        if (this.isAnyValueSearch) {
+            return !personAttribute.toString().isEmpty();
         } else {
-            return person.getAttribute(this.attribute).isMatch(this.searchValue);
+            return personAttribute.isMatch(this.searchValue);
         }
     }
 
+    /**
+     * Looks up the persons whose attribute contains the search value, if the search value is a substring.
+     */
+    @Override
+    public Optional<Set<Person>> findCandidates(PersonSearchIndex index) {
+        if (this.attribute == null || !(this.searchValue instanceof String)) {
+            return Optional.empty();
+        }
+
+        return index.findSubstringCandidates(this.attribute, (String) this.searchValue);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -53,6 +154,11 @@ public abstract class SearchPredicate<T extends Object> implements Predicate<Per
         return this.searchValue.equals(otherSearchPredicate.searchValue);
     }
 
+    @Override
+    public int hashCode() {
+        return this.searchValue.hashCode();
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this).add("searchValue", this.searchValue).toString();
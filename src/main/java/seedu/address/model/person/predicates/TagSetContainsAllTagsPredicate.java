@@ -2,18 +2,24 @@ package seedu.address.model.person.predicates;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Optional;
 import java.util.Set;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Person.PersonAttribute;
+import seedu.address.model.person.PersonSearchIndex;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagSet;
 
 /**
  * Tests that a {@code Person}'s {@code TagSet} contains any tags in a given
  * TagSet.
  */
 public class TagSetContainsAllTagsPredicate extends SearchPredicate<Set<Tag>> {
+    /** Whether the search is for persons with any tag, as no tag is given. */
+    private final boolean isAnyTagSearch;
+
     /**
      * Constructs a predicate to test that a {@code Person}'s {@code TagSet}
      * contains any tags in a given TagSet.
@@ -23,6 +29,50 @@ public class TagSetContainsAllTagsPredicate extends SearchPredicate<Set<Tag>> {
     public TagSetContainsAllTagsPredicate(Set<Tag> tags) {
         super(tags, PersonAttribute.TAGS);
         requireNonNull(tags);
+        // A t/ without a tag name is parsed into the set of just the empty tag.
+        this.isAnyTagSearch = tags.isEmpty() || tags.equals(Tag.EMPTY_TAG_SET);
+    }
+
+    /**
+     * Looks up the persons that have all of the tags, or that have any tag if no tag is given.
+     */
+    @Override
+    public Optional<Set<Person>> findCandidates(PersonSearchIndex index) {
+        if (this.isAnyTagSearch) {
+            return Optional.of(index.findTagCandidates(Set.of()));
+        }
+        return Optional.of(index.findTagCandidates(this.getSearchValue()));
+    }
+
+    /**
+     * Narrows searches for fewer of the tags, or for any tag.
+     */
+    @Override
+    boolean isNarrowingOf(SearchPredicate<?> other) {
+        if (!(other instanceof TagSetContainsAllTagsPredicate)) {
+            return super.isNarrowingOf(other);
+        }
+
+        TagSetContainsAllTagsPredicate otherPredicate = (TagSetContainsAllTagsPredicate) other;
+        if (otherPredicate.isAnyTagSearch) {
+            // Persons with all of a non-empty set of tags have a tag.
+            return true;
+        }
+        if (this.isAnyTagSearch) {
+            return false;
+        }
+        return new TagSet(this.getSearchValue()).isMatch(otherPredicate.getSearchValue());
+    }
+
+    /**
+     * Estimates that each tag searched for is on a share of the persons, and that most persons have a tag.
+     */
+    @Override
+    double estimateSelectivity() {
+        if (this.isAnyTagSearch) {
+            return 0.5;
+        }
+        return Math.pow(DEFAULT_SELECTIVITY, this.getSearchValue().size());
     }
 
     @Override
@@ -32,12 +82,11 @@ public class TagSetContainsAllTagsPredicate extends SearchPredicate<Set<Tag>> {
 
     @Override
     public boolean test(Person person) {
-        String attributeString = person.getAttribute(PersonAttribute.TAGS).toString();
-        String searchValue = getSearchValue().toString();
-        if (searchValue.toString().equals("[]")) {
-            return !attributeString.toString().equals("[]");
+        TagSet tagSet = (TagSet) person.getAttribute(PersonAttribute.TAGS);
+        if (this.isAnyTagSearch) {
+            return !tagSet.isEmpty();
         } else {
-            return person.getAttribute(PersonAttribute.TAGS).isMatch(getSearchValue());
+            return tagSet.isMatch(getSearchValue());
         }
     }
 }
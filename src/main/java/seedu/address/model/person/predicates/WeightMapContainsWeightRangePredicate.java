@@ -2,26 +2,53 @@ package seedu.address.model.person.predicates;
 
 import static java.util.Objects.requireNonNull;
 
-import javafx.util.Pair;
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.address.commons.core.Range;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
 import seedu.address.model.person.Person.PersonAttribute;
+import seedu.address.model.person.PersonSearchIndex;
 
 /**
  * Tests that a {@code Person}'s latest weight value in {@code WeightMap}
- * contains a weight within a range specified by a Pair.
+ * contains a weight within a range.
  */
-public class WeightMapContainsWeightRangePredicate extends SearchPredicate<Pair<Float, Float>> {
+public class WeightMapContainsWeightRangePredicate extends SearchPredicate<Range> {
     /**
      * Constructs a predicate to test that a {@code Person}'s latest weight value in
-     * {@code WeightMap} contains a weight within a range specified by a Pair.
+     * {@code WeightMap} contains a weight within a range.
      *
      * @param range range to test against
      */
-    public WeightMapContainsWeightRangePredicate(Pair<Float, Float> range) {
+    public WeightMapContainsWeightRangePredicate(Range range) {
         super(range, PersonAttribute.WEIGHT);
         requireNonNull(range);
     }
 
+    /**
+     * Looks up the persons whose latest weight is within the range.
+     */
+    @Override
+    public Optional<Set<Person>> findCandidates(PersonSearchIndex index) {
+        Range range = this.getSearchValue();
+        return index.findRangeCandidates(PersonAttribute.WEIGHT, range.getMin(), range.getMax());
+    }
+
+    /**
+     * Narrows searches for ranges that contain this range.
+     */
+    @Override
+    boolean isNarrowingOf(SearchPredicate<?> other) {
+        if (!(other instanceof WeightMapContainsWeightRangePredicate)) {
+            return super.isNarrowingOf(other);
+        }
+
+        Range otherRange = ((WeightMapContainsWeightRangePredicate) other).getSearchValue();
+        return otherRange.contains(this.getSearchValue());
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this).add("weightmap", this.getSearchValue()).toString();
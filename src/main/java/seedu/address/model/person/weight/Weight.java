@@ -1,9 +1,10 @@
 package seedu.address.model.person.weight;
 
 import static java.util.Objects.requireNonNull;
-import static seedu.address.model.person.messages.WeightMessages.MESSAGE_RANGE;
 
-import javafx.util.Pair;
+import java.util.regex.Pattern;
+
+import seedu.address.commons.core.Range;
 import seedu.address.model.person.Attribute;
 
 /**
@@ -16,6 +17,8 @@ public class Weight extends Attribute<Float> {
     /** Regular expression to check for a valid weight value. */
     public static final String VALIDATION_REGEX = "^(?:[0-9]+(?:\\.[0-9]*)?|\\.[0-9]+)?$";
 
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+
     /**
      * Constructs a {@code Weight}.
      *
@@ -33,7 +36,7 @@ public class Weight extends Attribute<Float> {
      * @return True if input is a valid weight, false otherwise.
      */
     public static boolean isValidWeight(String test) {
-        return test.matches(VALIDATION_REGEX) && Float.valueOf(test) <= WEIGHT_MAX_VALUE;
+        return VALIDATION_PATTERN.matcher(test).matches() && Float.valueOf(test) <= WEIGHT_MAX_VALUE;
     }
 
     /**
@@ -58,22 +61,11 @@ public class Weight extends Attribute<Float> {
      */
     @Override
     public boolean isMatch(Object weightRange) {
-        if (!(weightRange instanceof Pair)) {
-            return false;
-        }
-
-        Pair<?, ?> pair = (Pair<?, ?>) weightRange;
-
-        if (!(pair.getKey() instanceof Float) || !(pair.getValue() instanceof Float)) {
+        if (!(weightRange instanceof Range)) {
             return false;
         }
 
-        Float firstVal = (Float) pair.getKey();
-        Float secondVal = (Float) pair.getValue();
-
-        assert (secondVal - firstVal >= 0) : MESSAGE_RANGE;
-
-        return (this.getValue() >= firstVal && this.getValue() <= secondVal);
+        return ((Range) weightRange).contains(this.getValue());
     }
 
     @Override
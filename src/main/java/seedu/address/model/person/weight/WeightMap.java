@@ -6,7 +6,7 @@ import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.NavigableMap;
 
-import javafx.util.Pair;
+import seedu.address.commons.core.Range;
 import seedu.address.model.person.Attribute;
 
 /**
@@ -42,30 +42,17 @@ public class WeightMap extends Attribute<NavigableMap<LocalDateTime, Weight>> {
      */
     @Override
     public boolean isMatch(Object otherValue) {
-        if (!(otherValue instanceof Pair)) {
+        if (!(otherValue instanceof Range)) {
             return false;
         }
 
-        Pair<?, ?> pair = (Pair<?, ?>) otherValue;
-
-        if (!(pair.getKey() instanceof Float) || !(pair.getValue() instanceof Float)) {
-            return false;
-        }
-
-        // Already checked that set contains Float objects, so it is safe to cast
-        @SuppressWarnings("unchecked")
-        Pair<Float, Float> weightRange = (Pair<Float, Float>) otherValue;
-
-        assert (weightRange.getValue() - weightRange.getKey() >= 0)
-                : "Range should be more than or equals to zero. Should have been handled in Parser class";
-
         // If Person has no weights saved
         if (this.getValue().isEmpty()) {
             return false;
         }
 
         Float latestWeight = this.getValue().lastEntry().getValue().getValue();
-        return (latestWeight >= weightRange.getKey()) && (latestWeight <= weightRange.getValue());
+        return ((Range) otherValue).contains(latestWeight);
     }
 
     @Override
@@ -6,6 +6,7 @@ import static seedu.address.model.person.messages.TagMessages.MESSAGE_CONSTRAINT
 import static seedu.address.model.person.messages.TagMessages.VALIDATION_REGEX;
 
 import java.util.Set;
+import java.util.regex.Pattern;
 
 import seedu.address.model.person.Attribute;
 
@@ -18,6 +19,11 @@ public class Tag extends Attribute<String> {
 
     public static final Set<Tag> EMPTY_TAG_SET = Set.of(new Tag(false));
 
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+
+    /** The normalized tag name, or null if it has not been matched yet. */
+    private String searchKey;
+
     /**
      * Constructs a {@code Tag}.
      *
@@ -42,7 +48,35 @@ public class Tag extends Attribute<String> {
      * Returns true if a given string is a valid tag name.
      */
     public static boolean isValidTagName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
+    }
+
+    /**
+     * Returns {@code tagName} in a form that is the same for all tag names that match it.
+     * Surrounding whitespace is removed, and characters are folded the way {@link String#equalsIgnoreCase(String)}
+     * compares them.
+     */
+    public static String normalize(String tagName) {
+        String trimmedName = tagName.trim();
+        StringBuilder normalizedName = new StringBuilder(trimmedName.length());
+        for (int i = 0; i < trimmedName.length(); i++) {
+            normalizedName.append(Character.toLowerCase(Character.toUpperCase(trimmedName.charAt(i))));
+        }
+        return normalizedName.toString();
+    }
+
+    /**
+     * Gets the tag name, normalized by {@link #normalize(String)}.
+     * The normalized name is computed once, so that matching tags does not allocate strings.
+     */
+    public String getSearchKey() {
+        // Computing the key more than once on different threads is harmless, as Strings are immutable.
+        String searchKey = this.searchKey;
+        if (searchKey == null) {
+            searchKey = normalize(this.getValue());
+            this.searchKey = searchKey;
+        }
+        return searchKey;
     }
 
     /**
@@ -61,7 +95,7 @@ public class Tag extends Attribute<String> {
 
         String other = (String) otherValue;
 
-        return this.getValue().trim().equalsIgnoreCase(other.trim());
+        return this.getSearchKey().equals(normalize(other));
     }
 
     @Override
@@ -30,6 +30,13 @@ public class TagSet extends Attribute<Set<Tag>> {
         return Collections.unmodifiableSet(super.getValue());
     }
 
+    /**
+     * Returns true if there are no tags stored.
+     */
+    public boolean isEmpty() {
+        return super.getValue().isEmpty();
+    }
+
     /**
      * Determines if the tags stored is a match with a tags specified.
      * Returns true if the other TagSet is a subset of this TagSet.
@@ -61,7 +68,12 @@ public class TagSet extends Attribute<Set<Tag>> {
         @SuppressWarnings("unchecked")
         Set<Tag> otherTags = (Set<Tag>) otherSet;
 
-        return otherTags.stream().allMatch(tag -> this.contains(tag));
+        for (Tag tag : otherTags) {
+            if (!this.contains(tag)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
@@ -75,9 +87,15 @@ public class TagSet extends Attribute<Set<Tag>> {
             return false;
         }
 
-        Tag other = ((Tag) otherValue);
+        String otherSearchKey = ((Tag) otherValue).getSearchKey();
 
-        return this.getValue().stream().anyMatch(tag -> tag.isMatch(other.getValue()));
+        // Compares the cached search keys, so that no strings are allocated.
+        for (Tag tag : super.getValue()) {
+            if (tag.getSearchKey().equals(otherSearchKey)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @Override
@@ -95,6 +113,11 @@ public class TagSet extends Attribute<Set<Tag>> {
         return this.getValue().equals(otherTag.getValue());
     }
 
+    @Override
+    public int hashCode() {
+        return super.getValue().hashCode();
+    }
+
     public String toString() {
         return this.getValue().toString();
     }
@@ -0,0 +1,161 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.DataFileFormat;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Creates address book storages for each {@code DataFileFormat} and converts data files between them.
+ */
+public class AddressBookFileConverter {
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookFileConverter.class);
+
+    /**
+     * Returns the storage that reads and writes data files of the given {@code format} at {@code filePath}.
+     */
+    public static AddressBookStorage createStorage(DataFileFormat format, Path filePath) {
+        requireNonNull(format);
+        requireNonNull(filePath);
+
+        switch (format) {
+        case BINARY:
+            return new BinaryAddressBookStorage(filePath);
+        case JSON:
+            return new JsonAddressBookStorage(filePath);
+        default:
+            throw new AssertionError("Unknown data file format: " + format);
+        }
+    }
+
+    /**
+     * Returns the format of the existing data file at {@code filePath}.
+     */
+    public static DataFileFormat detectFormat(Path filePath) throws IOException {
+        return BinaryAddressBookStorage.isBinaryFile(filePath) ? DataFileFormat.BINARY : DataFileFormat.JSON;
+    }
+
+    /**
+     * Converts the data file at {@code sourcePath}, along with the changes in its journal, into a data file of the
+     * given {@code targetFormat} at {@code targetPath}.
+     * {@code sourcePath} and {@code targetPath} may be the same file.
+     *
+     * @return true if the data file was converted, or false if there is no data file at {@code sourcePath}.
+     * @throws DataLoadingException if the data file at {@code sourcePath} could not be read.
+     * @throws IOException if the converted data file could not be written.
+     */
+    public static boolean convert(Path sourcePath, Path targetPath, DataFileFormat targetFormat)
+            throws DataLoadingException, IOException {
+        requireNonNull(sourcePath);
+        requireNonNull(targetPath);
+        requireNonNull(targetFormat);
+
+        if (!FileUtil.isFileExists(sourcePath)) {
+            return false;
+        }
+
+        DataFileFormat sourceFormat = detectFormat(sourcePath);
+        Optional<ReadOnlyAddressBook> addressBook =
+                new JournaledAddressBookStorage(createStorage(sourceFormat, sourcePath)).readAddressBook();
+        if (!addressBook.isPresent()) {
+            return false;
+        }
+
+        // A newly created journaled storage writes the whole data file and discards the journal on its first save.
+        new JournaledAddressBookStorage(createStorage(targetFormat, targetPath)).saveAddressBook(addressBook.get());
+        logger.info("Converted " + sourceFormat + " data file " + sourcePath + " to " + targetFormat
+                + " data file " + targetPath);
+        return true;
+    }
+
+    /**
+     * Makes sure that the address book at the data file location {@code filePath} is in a data file of the given
+     * {@code format}, at the path given by {@link DataFileFormat#getDataFilePath(Path)}.
+     * If there is no such data file yet, the data file of another format at that location is converted into it, and
+     * then deleted along with its journal, so that the address book is never read from a file that is out of date.
+     * A data file whose name does not give its format is converted in place.
+     *
+     * @return true if a data file was converted.
+     * @throws DataLoadingException if the data file to convert could not be read.
+     * @throws IOException if the converted data file could not be written, or the old one could not be deleted.
+     */
+    public static boolean convertIfNeeded(Path filePath, DataFileFormat format) throws DataLoadingException,
+            IOException {
+        requireNonNull(filePath);
+        requireNonNull(format);
+
+        Path targetPath = format.getDataFilePath(filePath);
+        if (FileUtil.isFileExists(targetPath)) {
+            return detectFormat(targetPath) != format && convert(targetPath, targetPath, format);
+        }
+
+        for (DataFileFormat sourceFormat : DataFileFormat.values()) {
+            Path sourcePath = sourceFormat.getDataFilePath(filePath);
+            if (!sourcePath.equals(targetPath) && FileUtil.isFileExists(sourcePath)) {
+                if (!convert(sourcePath, targetPath, format)) {
+                    return false;
+                }
+                Files.delete(sourcePath);
+                Files.deleteIfExists(JournaledAddressBookStorage.getJournalFilePath(sourcePath));
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the storage of the address book at the data file location {@code filePath}, which is in the given
+     * {@code format} unless converting it to that format fails.
+     * The data file is converted as by {@link #convertIfNeeded(Path, DataFileFormat)}. If that fails, the storage of
+     * the existing data file in its own format is returned instead, so that the address book in it is loaded, or
+     * reported as invalid, rather than hidden by a new data file of the given {@code format}.
+     */
+    public static AddressBookStorage openStorage(Path filePath, DataFileFormat format) {
+        requireNonNull(filePath);
+        requireNonNull(format);
+
+        Path targetPath = format.getDataFilePath(filePath);
+        try {
+            convertIfNeeded(filePath, format);
+            return createStorage(format, targetPath);
+        } catch (DataLoadingException | IOException e) {
+            logger.warning("Data file at " + filePath + " could not be converted to " + format + ". Will be using "
+                    + "the existing data file instead : " + StringUtil.getDetails(e));
+        }
+
+        // The data file in the target format, if any, is the one that would have been converted in place.
+        if (FileUtil.isFileExists(targetPath)) {
+            return createExistingFileStorage(targetPath, format);
+        }
+        for (DataFileFormat sourceFormat : DataFileFormat.values()) {
+            Path sourcePath = sourceFormat.getDataFilePath(filePath);
+            if (FileUtil.isFileExists(sourcePath)) {
+                return createExistingFileStorage(sourcePath, sourceFormat);
+            }
+        }
+        return createStorage(format, targetPath);
+    }
+
+    /**
+     * Returns the storage of the existing data file at {@code filePath} in its detected format, or in
+     * {@code assumedFormat} if its format cannot be detected.
+     */
+    private static AddressBookStorage createExistingFileStorage(Path filePath, DataFileFormat assumedFormat) {
+        try {
+            return createStorage(detectFormat(filePath), filePath);
+        } catch (IOException e) {
+            return createStorage(assumedFormat, filePath);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Saves address books through a {@code Storage} on a single background thread.
+ * Save requests made while an earlier request is still waiting to be written are coalesced, so only the most
+ * recently requested address book is written.
+ */
+public class AsyncAddressBookSaver {
+
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+
+    private static final Logger logger = LogsCenter.getLogger(AsyncAddressBookSaver.class);
+
+    private final Storage storage;
+    private final ExecutorService executor;
+
+    /** The address book to be written by the next scheduled save, or null if no save is scheduled. */
+    private final AtomicReference<ReadOnlyAddressBook> pendingAddressBook = new AtomicReference<>();
+    private volatile Consumer<IOException> failureHandler = unused -> {};
+
+    /**
+     * Constructs an {@code AsyncAddressBookSaver} that saves address books through {@code storage}.
+     */
+    public AsyncAddressBookSaver(Storage storage) {
+        requireNonNull(storage);
+        this.storage = storage;
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "address-book-saver");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Sets the handler that is notified, on the background thread, of every save that fails.
+     */
+    public void setFailureHandler(Consumer<IOException> failureHandler) {
+        requireNonNull(failureHandler);
+        this.failureHandler = failureHandler;
+    }
+
+    /**
+     * Schedules {@code addressBook} to be saved.
+     * {@code addressBook} must not be modified after it is passed in, as it is read on the background thread.
+     */
+    public void requestSave(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        // Only schedule a save if none is waiting, otherwise the waiting save picks up this address book instead.
+        if (this.pendingAddressBook.getAndSet(addressBook) == null) {
+            this.executor.execute(this::savePendingAddressBook);
+        }
+    }
+
+    private void savePendingAddressBook() {
+        // Taken before writing, so that a request made during the write schedules another save.
+        ReadOnlyAddressBook addressBook = this.pendingAddressBook.getAndSet(null);
+        assert addressBook != null;
+
+        try {
+            this.storage.saveAddressBook(addressBook);
+        } catch (IOException e) {
+            logger.warning("Failed to save address book " + StringUtil.getDetails(e));
+            this.failureHandler.accept(e);
+        }
+    }
+
+    /**
+     * Blocks until every save requested so far has been written.
+     */
+    public void flush() {
+        try {
+            this.executor.submit(() -> {}).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            // The submitted task does nothing, so it cannot fail.
+            throw new AssertionError(e);
+        }
+    }
+
+    /**
+     * Writes every save requested so far and stops the background thread.
+     * No more saves can be requested afterwards.
+     */
+    public void shutdown() {
+        this.executor.shutdown();
+        try {
+            if (!this.executor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                logger.severe("Timed out waiting for the address book to be saved");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,288 @@
+package seedu.address.storage;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.exercise.Exercise;
+import seedu.address.model.exercise.ExerciseSet;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Height;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Note;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonDetails;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.messages.AddressMessages;
+import seedu.address.model.person.messages.EmailMessages;
+import seedu.address.model.person.messages.HeightMessages;
+import seedu.address.model.person.messages.NameMessages;
+import seedu.address.model.person.messages.PhoneMessages;
+import seedu.address.model.person.messages.TagMessages;
+import seedu.address.model.person.messages.WeightMessages;
+import seedu.address.model.person.weight.Weight;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Binary encoding of a {@link Person} record.
+ * A record holds the identity fields, address, height and tags of the person, followed by the length and CRC32
+ * checksum of the person's details, which are its note, weights and exercises, and then the details themselves.
+ * Strings are written as their length in UTF-8 bytes followed by the bytes, weights as the UTC epoch second and
+ * nanosecond of their date followed by their value, and collections as their size followed by their elements.
+ */
+class BinaryAdaptedPerson {
+
+    public static final String MESSAGE_INVALID_LENGTH = "Person record contains an invalid length.";
+    public static final String MESSAGE_CORRUPTED_DETAILS = "Person record details are corrupted.";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAdaptedPerson.class);
+
+    private final Person person;
+
+    /**
+     * Constructs a {@code BinaryAdaptedPerson} that encodes {@code source}.
+     */
+    public BinaryAdaptedPerson(Person source) {
+        this.person = source;
+    }
+
+    /**
+     * Writes the encoded person to {@code out}.
+     */
+    public void writeTo(DataOutput out) throws IOException {
+        writeString(out, this.person.getName().getValue());
+        writeString(out, this.person.getPhone().getValue());
+        writeString(out, this.person.getEmail().getValue());
+        writeString(out, this.person.getAddress().getValue());
+        out.writeFloat(this.person.getHeight().getValue());
+
+        out.writeInt(this.person.getTags().size());
+        for (Tag tag : this.person.getTags()) {
+            writeString(out, tag.getValue());
+        }
+
+        // The details are encoded on their own first, so that they can be prefixed with their length and checksum.
+        ByteArrayOutputStream detailsBytes = new ByteArrayOutputStream();
+        writeDetails(new DataOutputStream(detailsBytes));
+        CRC32 checksum = new CRC32();
+        checksum.update(detailsBytes.toByteArray());
+        out.writeInt(detailsBytes.size());
+        out.writeInt((int) checksum.getValue());
+        out.write(detailsBytes.toByteArray());
+    }
+
+    private void writeDetails(DataOutput out) throws IOException {
+        writeString(out, this.person.getNote().getValue());
+
+        out.writeInt(this.person.getWeights().size());
+        for (Map.Entry<LocalDateTime, Weight> weight : this.person.getWeights().entrySet()) {
+            out.writeLong(weight.getKey().toEpochSecond(ZoneOffset.UTC));
+            out.writeInt(weight.getKey().getNano());
+            out.writeFloat(weight.getValue().getValue());
+        }
+
+        Set<Exercise> exercises = this.person.getExerciseSet().getValue();
+        out.writeInt(exercises.size());
+        for (Exercise exercise : exercises) {
+            writeString(out, exercise.getName());
+            out.writeInt(exercise.getSets());
+            out.writeInt(exercise.getReps());
+            out.writeInt(exercise.getBreakBetweenSets());
+        }
+    }
+
+    /**
+     * Reads an encoded person from the remaining bytes of {@code record} and converts it into the model's
+     * {@code Person} object.
+     * Only the identity fields, address, height and tags are decoded right away. The details are only checked against
+     * their length and checksum, and decoded and validated from {@code record} when the person's weights, note or
+     * exercises are first accessed. {@code record} must therefore not be modified afterwards.
+     *
+     * @throws IllegalValueException if the record is malformed or there were any data constraints violated in it.
+     */
+    public static Person readFrom(ByteBuffer record) throws IllegalValueException {
+        try {
+            Person person = readPerson(record);
+            if (record.hasRemaining()) {
+                throw new IllegalValueException(MESSAGE_INVALID_LENGTH);
+            }
+            return person;
+        } catch (BufferUnderflowException e) {
+            throw new IllegalValueException(MESSAGE_INVALID_LENGTH);
+        }
+    }
+
+    private static Person readPerson(ByteBuffer in) throws IllegalValueException {
+        String name = readString(in);
+        if (!Name.isValidName(name)) {
+            throw new IllegalValueException(NameMessages.MESSAGE_CONSTRAINTS);
+        }
+
+        String phone = readString(in);
+        if (!Phone.isValidPhone(phone)) {
+            throw new IllegalValueException(PhoneMessages.MESSAGE_CONSTRAINTS);
+        }
+
+        String email = readString(in);
+        if (!email.isEmpty() && !Email.isValidEmail(email)) {
+            throw new IllegalValueException(EmailMessages.MESSAGE_CONSTRAINTS);
+        }
+
+        String address = readString(in);
+        if (!address.isEmpty() && !Address.isValidAddress(address)) {
+            throw new IllegalValueException(AddressMessages.MESSAGE_CONSTRAINTS);
+        }
+
+        float height = in.getFloat();
+        if (!isValidMeasurement(height, Height.HEIGHT_MAX_VALUE)) {
+            throw new IllegalValueException(HeightMessages.MESSAGE_CONSTRAINTS);
+        }
+
+        Set<Tag> tags = new HashSet<>();
+        int tagCount = readLength(in);
+        for (int i = 0; i < tagCount; i++) {
+            String tagName = readString(in);
+            if (!Tag.isValidTagName(tagName)) {
+                throw new IllegalValueException(TagMessages.MESSAGE_CONSTRAINTS);
+            }
+            tags.add(new Tag(tagName));
+        }
+
+        int detailsLength = readLength(in);
+        int expectedChecksum = in.getInt();
+        if (detailsLength > in.remaining()) {
+            throw new IllegalValueException(MESSAGE_INVALID_LENGTH);
+        }
+        ByteBuffer details = in.slice();
+        details.limit(detailsLength);
+        in.position(in.position() + detailsLength);
+
+        CRC32 checksum = new CRC32();
+        checksum.update(details.duplicate());
+        if ((int) checksum.getValue() != expectedChecksum) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED_DETAILS);
+        }
+
+        return new Person(new Name(name), new Phone(phone), new Email(email), new Address(address),
+                new Height(height), tags, () -> readDetails(name, details.duplicate()));
+    }
+
+    /**
+     * Decodes the details of the person named {@code name}.
+     * The checksum only catches accidental damage, so details that are malformed or violate the data constraints,
+     * as in a file edited by hand, can still pass it. Such details are reported and replaced with empty ones, as an
+     * invalid data file is replaced with an empty address book.
+     */
+    private static PersonDetails readDetails(String name, ByteBuffer in) {
+        try {
+            String note = readString(in);
+
+            NavigableMap<LocalDateTime, Weight> weights = new TreeMap<>();
+            int weightCount = readLength(in);
+            for (int i = 0; i < weightCount; i++) {
+                LocalDateTime date = readDate(in);
+                weights.put(date, new Weight(readWeight(in)));
+            }
+
+            Set<Exercise> exercises = new HashSet<>();
+            int exerciseCount = readLength(in);
+            for (int i = 0; i < exerciseCount; i++) {
+                exercises.add(readExercise(in));
+            }
+
+            if (in.hasRemaining()) {
+                throw new IllegalValueException(MESSAGE_INVALID_LENGTH);
+            }
+            return new PersonDetails(weights, new Note(note), new ExerciseSet(exercises));
+        } catch (IllegalValueException | BufferUnderflowException e) {
+            logger.warning("Details of " + name + " in the data file could not be loaded."
+                    + " Will be starting with empty details: " + e);
+            return new PersonDetails(new TreeMap<>(), new Note(""), new ExerciseSet(new HashSet<>()));
+        }
+    }
+
+    private static float readWeight(ByteBuffer in) throws IllegalValueException {
+        float weight = in.getFloat();
+        if (!isValidMeasurement(weight, Weight.WEIGHT_MAX_VALUE)) {
+            throw new IllegalValueException(WeightMessages.MESSAGE_CONSTRAINTS);
+        }
+        return weight;
+    }
+
+    private static Exercise readExercise(ByteBuffer in) throws IllegalValueException {
+        String name = readString(in);
+        if (!Exercise.isValidName(name)) {
+            throw new IllegalValueException(Exercise.NAME_CONSTRAINT);
+        }
+        int sets = in.getInt();
+        if (!Exercise.isValidSets(sets)) {
+            throw new IllegalValueException(Exercise.SETS_CONSTRAINT);
+        }
+        int reps = in.getInt();
+        if (!Exercise.isValidReps(reps)) {
+            throw new IllegalValueException(Exercise.REPS_CONSTRAINT);
+        }
+        int breakBetweenSets = in.getInt();
+        if (!Exercise.isValidBreakBetweenSets(breakBetweenSets)) {
+            throw new IllegalValueException(Exercise.BREAK_CONSTRAINT);
+        }
+        return new Exercise(name, sets, reps, breakBetweenSets);
+    }
+
+    private static LocalDateTime readDate(ByteBuffer in) throws IllegalValueException {
+        long epochSecond = in.getLong();
+        int nano = in.getInt();
+        try {
+            return LocalDateTime.ofEpochSecond(epochSecond, nano, ZoneOffset.UTC);
+        } catch (DateTimeException e) {
+            throw new IllegalValueException(WeightMessages.MESSAGE_CONSTRAINTS_DATE);
+        }
+    }
+
+    /**
+     * Returns true if {@code value} lies between 0 and {@code maxValue}, as required of heights and weights.
+     */
+    private static boolean isValidMeasurement(float value, float maxValue) {
+        return value >= 0f && value <= maxValue;
+    }
+
+    private static void writeString(DataOutput out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer in) throws IllegalValueException {
+        byte[] bytes = new byte[readLength(in)];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads a string length or collection size, which can never exceed the number of bytes left in the record.
+     */
+    private static int readLength(ByteBuffer in) throws IllegalValueException {
+        int length = in.getInt();
+        if (length < 0 || length > in.remaining()) {
+            throw new IllegalValueException(MESSAGE_INVALID_LENGTH);
+        }
+        return length;
+    }
+}
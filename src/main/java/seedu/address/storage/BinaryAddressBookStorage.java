@@ -0,0 +1,189 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.AppUtil;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * A class to access AddressBook data stored in a compact binary file on the hard disk.
+ * The file starts with a magic number, the format version and the number of persons, followed by one record per
+ * person, each prefixed with its length in bytes. Records are encoded by {@link BinaryAdaptedPerson}.
+ * The file is mapped into memory when read, and the persons read from it decode their details from the mapped file
+ * only when these are first accessed, so that large address books can be loaded quickly.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    public static final String MESSAGE_NOT_BINARY_FILE = "Data file is not a binary address book file.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Binary address book file version %d is not supported.";
+    public static final String MESSAGE_TRUNCATED_FILE = "Binary address book file is truncated.";
+
+    /** The bytes "FTBK", which identify a binary address book file. */
+    static final int MAGIC_NUMBER = 0x4654424B;
+    static final int FORMAT_VERSION = 2;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private Path filePath;
+
+    /**
+     * Constructs a {@code BinaryAddressBookStorage} with the given file path.
+     * @param filePath The file path to store the binary encoded address book.
+     */
+    public BinaryAddressBookStorage(Path filePath) {
+        assert(filePath != null);
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns true if the file at {@code filePath} starts with the magic number of a binary address book file.
+     */
+    public static boolean isBinaryFile(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        try (DataInputStream in = new DataInputStream(Files.newInputStream(filePath))) {
+            return Files.size(filePath) >= Integer.BYTES && in.readInt() == MAGIC_NUMBER;
+        }
+    }
+
+    public Path getAddressBookFilePath() {
+        return this.filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(this.filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        logger.info("Binary file " + filePath + " found.");
+
+        try {
+            return Optional.of(readPersons(mapFile(filePath)));
+        } catch (IOException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    /**
+     * Maps the file at {@code filePath} into memory as a read-only buffer.
+     * Windows does not allow a mapped file to be replaced, as saving does, so the file is read into memory there.
+     */
+    private static ByteBuffer mapFile(Path filePath) throws IOException {
+        if (AppUtil.OS.isWindows()) {
+            return ByteBuffer.wrap(Files.readAllBytes(filePath));
+        }
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+
+    /**
+     * Decodes the address book held in {@code data}.
+     * The persons in it decode their details from {@code data} later on, so it must not be modified afterwards.
+     *
+     * @throws IllegalValueException if {@code data} is not a valid binary address book.
+     */
+    static AddressBook readPersons(ByteBuffer data) throws IllegalValueException {
+        try {
+            if (data.getInt() != MAGIC_NUMBER) {
+                throw new IllegalValueException(MESSAGE_NOT_BINARY_FILE);
+            }
+            int version = data.getInt();
+            if (version != FORMAT_VERSION) {
+                throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+            }
+
+            int personCount = data.getInt();
+            List<ByteBuffer> records = new ArrayList<>();
+            for (int i = 0; i < personCount; i++) {
+                int recordLength = data.getInt();
+                if (recordLength < 0 || recordLength > data.remaining()) {
+                    throw new IllegalValueException(MESSAGE_TRUNCATED_FILE);
+                }
+
+                ByteBuffer record = data.slice();
+                record.limit(recordLength);
+                data.position(data.position() + recordLength);
+                records.add(record);
+            }
+
+            AddressBook addressBook = new AddressBook();
+            ParallelPersonConverter.addAll(addressBook, records, BinaryAdaptedPerson::readFrom);
+            return addressBook;
+        } catch (BufferUnderflowException e) {
+            throw new IllegalValueException(MESSAGE_TRUNCATED_FILE);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, this.filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        FileUtil.createIfMissing(filePath);
+        FileUtil.writeToFile(filePath, out -> {
+            DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out));
+            data.writeInt(MAGIC_NUMBER);
+            data.writeInt(FORMAT_VERSION);
+            data.writeInt(addressBook.getPersonList().size());
+
+            // Each record is encoded on its own first, so that it can be prefixed with its length.
+            ByteArrayOutputStream recordBytes = new ByteArrayOutputStream();
+            DataOutputStream record = new DataOutputStream(recordBytes);
+            for (Person person : addressBook.getPersonList()) {
+                recordBytes.reset();
+                new BinaryAdaptedPerson(person).writeTo(record);
+                data.writeInt(recordBytes.size());
+                recordBytes.writeTo(data);
+            }
+            data.flush();
+        });
+    }
+
+}
@@ -0,0 +1,278 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * An {@code AddressBookStorage} that appends the persons changed since the previous save to a journal file next to
+ * the data file, instead of rewriting the whole data file on every save.
+ * The journal is compacted into the data file, which is written by the underlying snapshot storage, once it holds
+ * a set number of entries.
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage {
+
+    public static final String JOURNAL_FILE_EXTENSION = ".journal";
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 100;
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+
+    private final AddressBookStorage snapshotStorage;
+    private final Path journalFilePath;
+    private final int compactionThreshold;
+
+    /** Persons as they are persisted in the data file and journal, or null if they are not known. */
+    private List<Person> savedPersons = null;
+    private long snapshotChecksum;
+    private int journalEntryCount;
+
+    /**
+     * Constructs a {@code JournaledAddressBookStorage} that compacts its journal after
+     * {@link #DEFAULT_COMPACTION_THRESHOLD} entries.
+     * @param snapshotStorage The storage used to read and write the data file.
+     */
+    public JournaledAddressBookStorage(AddressBookStorage snapshotStorage) {
+        this(snapshotStorage, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Constructs a {@code JournaledAddressBookStorage} that compacts its journal after
+     * {@code compactionThreshold} entries.
+     * @param snapshotStorage The storage used to read and write the data file.
+     * @param compactionThreshold The number of journal entries after which the journal is compacted.
+     */
+    public JournaledAddressBookStorage(AddressBookStorage snapshotStorage, int compactionThreshold) {
+        requireNonNull(snapshotStorage);
+        assert compactionThreshold > 0;
+        this.snapshotStorage = snapshotStorage;
+        this.journalFilePath = getJournalFilePath(snapshotStorage.getAddressBookFilePath());
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    /**
+     * Returns the path of the journal file kept for the data file at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_EXTENSION);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return this.snapshotStorage.getAddressBookFilePath();
+    }
+
+    public Path getJournalFilePath() {
+        return this.journalFilePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(getAddressBookFilePath());
+    }
+
+    /**
+     * Reads the data file at {@code filePath} and replays the entries of its journal on top of it.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data or the journal from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Optional<ReadOnlyAddressBook> snapshot = this.snapshotStorage.readAddressBook(filePath);
+        if (!snapshot.isPresent()) {
+            return Optional.empty();
+        }
+
+        try {
+            long checksum = computeChecksum(filePath);
+            List<Person> persons = new ArrayList<>(snapshot.get().getPersonList());
+            int replayedEntryCount = replayJournal(getJournalFilePath(filePath), checksum, persons);
+
+            AddressBook addressBook = new AddressBook();
+            addressBook.setPersons(persons);
+
+            if (filePath.equals(getAddressBookFilePath())) {
+                this.savedPersons = replayedEntryCount < 0 ? null : persons;
+                this.snapshotChecksum = checksum;
+                this.journalEntryCount = Math.max(replayedEntryCount, 0);
+            }
+            return Optional.of(addressBook);
+        } catch (IOException | DuplicatePersonException e) {
+            logger.warning("Error reading from journal of " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in journal of " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, getAddressBookFilePath());
+    }
+
+    /**
+     * Appends the persons changed since the previous save to the journal, or writes the whole data file if the
+     * journal is due for compaction.
+     * Data files other than the one this storage was created for are always written in whole.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(getAddressBookFilePath())) {
+            this.snapshotStorage.saveAddressBook(addressBook, filePath);
+            return;
+        }
+
+        List<Person> persons = addressBook.getPersonList();
+        Optional<JsonAdaptedJournalEntry> entry = this.savedPersons == null
+                || this.journalEntryCount >= this.compactionThreshold
+                ? Optional.empty()
+                : createJournalEntry(this.savedPersons, persons);
+
+        if (!entry.isPresent()) {
+            compact(addressBook);
+            return;
+        }
+
+        if (entry.get().isEmpty()) {
+            return;
+        }
+
+        FileUtil.appendToFile(this.journalFilePath, JsonUtil.toJsonLine(entry.get()) + System.lineSeparator());
+        this.savedPersons = new ArrayList<>(persons);
+        this.journalEntryCount++;
+    }
+
+    /**
+     * Writes the whole data file and discards the journal.
+     */
+    private void compact(ReadOnlyAddressBook addressBook) throws IOException {
+        Path filePath = getAddressBookFilePath();
+        // Until the compaction completes, the persisted persons are not known for certain.
+        this.savedPersons = null;
+        this.snapshotStorage.saveAddressBook(addressBook, filePath);
+        this.snapshotChecksum = computeChecksum(filePath);
+        Files.deleteIfExists(this.journalFilePath);
+
+        this.savedPersons = new ArrayList<>(addressBook.getPersonList());
+        this.journalEntryCount = 0;
+        logger.fine("Compacted journal into data file: " + filePath);
+    }
+
+    /**
+     * Returns the journal entry that turns {@code previousPersons} into {@code currentPersons}, or
+     * {@code Optional.empty()} if the change cannot be expressed as a journal entry.
+     */
+    private Optional<JsonAdaptedJournalEntry> createJournalEntry(List<Person> previousPersons,
+            List<Person> currentPersons) {
+        // Persons are immutable, so a person that was not changed is the very same instance in both lists.
+        Set<Person> previous = Collections.newSetFromMap(new IdentityHashMap<>());
+        previous.addAll(previousPersons);
+        Set<Person> current = Collections.newSetFromMap(new IdentityHashMap<>());
+        current.addAll(currentPersons);
+
+        // Replaying an entry relies on the persons that were not changed keeping their relative order.
+        Iterator<Person> unchangedPersons = previousPersons.stream().filter(current::contains).iterator();
+        for (Person person : currentPersons) {
+            if (previous.contains(person) && unchangedPersons.next() != person) {
+                return Optional.empty();
+            }
+        }
+
+        JsonAdaptedJournalEntry entry = new JsonAdaptedJournalEntry(this.snapshotChecksum);
+        for (int i = 0; i < previousPersons.size(); i++) {
+            if (!current.contains(previousPersons.get(i))) {
+                entry.recordRemoval(i);
+            }
+        }
+        for (int i = 0; i < currentPersons.size(); i++) {
+            if (!previous.contains(currentPersons.get(i))) {
+                entry.recordAddition(i, currentPersons.get(i));
+            }
+        }
+        return Optional.of(entry);
+    }
+
+    /**
+     * Applies the entries of the journal at {@code journalFilePath} that were recorded against the data file with
+     * the given {@code checksum} to {@code persons}.
+     *
+     * @return the number of entries applied, or -1 if the journal ends with an incomplete entry.
+     */
+    private static int replayJournal(Path journalFilePath, long checksum, List<Person> persons)
+            throws IOException, IllegalValueException {
+        if (!FileUtil.isFileExists(journalFilePath)) {
+            return 0;
+        }
+
+        List<String> lines = Files.readAllLines(journalFilePath, StandardCharsets.UTF_8);
+        int replayedEntryCount = 0;
+        for (int i = 0; i < lines.size(); i++) {
+            if (lines.get(i).isBlank()) {
+                continue;
+            }
+
+            JsonAdaptedJournalEntry entry;
+            try {
+                entry = JsonUtil.fromJsonString(lines.get(i), JsonAdaptedJournalEntry.class);
+            } catch (IOException e) {
+                if (i < lines.size() - 1) {
+                    throw e;
+                }
+                // The last entry may have been cut short by a crash while it was being appended.
+                logger.warning("Ignoring incomplete entry at the end of journal " + journalFilePath);
+                return -1;
+            }
+
+            // Entries recorded against an older data file have already been compacted into the current one.
+            if (entry.getSnapshotChecksum() == checksum) {
+                entry.applyTo(persons);
+                replayedEntryCount++;
+            }
+        }
+        return replayedEntryCount;
+    }
+
+    /**
+     * Returns the CRC-32 checksum of the file at {@code filePath}.
+     */
+    private static long computeChecksum(Path filePath) throws IOException {
+        try (CheckedInputStream in = new CheckedInputStream(Files.newInputStream(filePath), new CRC32())) {
+            byte[] buffer = new byte[8192];
+            while (in.read(buffer) != -1) {
+                // Reading the stream updates the checksum.
+            }
+            return in.getChecksum().getValue();
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+
+/**
+ * Jackson-friendly version of a single change set in the address book journal.
+ * An entry records the positions of the persons removed from the previously saved person list, followed by
+ * the persons added to it and the positions they occupy in the resulting person list.
+ */
+class JsonAdaptedJournalEntry {
+
+    public static final String MESSAGE_INVALID_ENTRY = "Journal entry does not match the saved address book.";
+
+    private final long snapshotChecksum;
+    private final List<Integer> removedIndices = new ArrayList<>();
+    private final List<Integer> addedIndices = new ArrayList<>();
+    private final List<JsonAdaptedPerson> addedPersons = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given change set details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("snapshotChecksum") long snapshotChecksum,
+                                   @JsonProperty("removedIndices") List<Integer> removedIndices,
+                                   @JsonProperty("addedIndices") List<Integer> addedIndices,
+                                   @JsonProperty("addedPersons") List<JsonAdaptedPerson> addedPersons) {
+        this.snapshotChecksum = snapshotChecksum;
+        if (removedIndices != null) {
+            this.removedIndices.addAll(removedIndices);
+        }
+        if (addedIndices != null) {
+            this.addedIndices.addAll(addedIndices);
+        }
+        if (addedPersons != null) {
+            this.addedPersons.addAll(addedPersons);
+        }
+    }
+
+    /**
+     * Constructs an empty {@code JsonAdaptedJournalEntry} to be recorded against the snapshot file with the given
+     * {@code snapshotChecksum}.
+     */
+    JsonAdaptedJournalEntry(long snapshotChecksum) {
+        this.snapshotChecksum = snapshotChecksum;
+    }
+
+    /**
+     * Returns the checksum of the snapshot file this entry was recorded against.
+     */
+    public long getSnapshotChecksum() {
+        return this.snapshotChecksum;
+    }
+
+    /**
+     * Applies this change set to {@code persons}, which must be the person list this entry was recorded against.
+     *
+     * @throws IllegalValueException if the entry does not fit {@code persons} or contains invalid persons.
+     */
+    public void applyTo(List<Person> persons) throws IllegalValueException {
+        if (this.addedIndices.size() != this.addedPersons.size()) {
+            throw new IllegalValueException(MESSAGE_INVALID_ENTRY);
+        }
+
+        // Removed indices are recorded in ascending order, so remove from the back to keep them valid.
+        for (int i = this.removedIndices.size() - 1; i >= 0; i--) {
+            int index = this.removedIndices.get(i);
+            if (index < 0 || index >= persons.size()) {
+                throw new IllegalValueException(MESSAGE_INVALID_ENTRY);
+            }
+            persons.remove(index);
+        }
+
+        // Added indices are recorded in ascending order, so every earlier insertion is already in place.
+        for (int i = 0; i < this.addedIndices.size(); i++) {
+            int index = this.addedIndices.get(i);
+            if (index < 0 || index > persons.size()) {
+                throw new IllegalValueException(MESSAGE_INVALID_ENTRY);
+            }
+            persons.add(index, this.addedPersons.get(i).toModelType());
+        }
+    }
+
+    /**
+     * Returns true if this entry does not change the person list.
+     */
+    public boolean isEmpty() {
+        return this.removedIndices.isEmpty() && this.addedPersons.isEmpty();
+    }
+
+    /**
+     * Records that the person at {@code index} of the previously saved person list was removed.
+     * Indices must be recorded in ascending order.
+     */
+    void recordRemoval(int index) {
+        this.removedIndices.add(index);
+    }
+
+    /**
+     * Records that {@code person} was added at {@code index} of the resulting person list.
+     * Indices must be recorded in ascending order.
+     */
+    void recordAddition(int index, Person person) {
+        this.addedIndices.add(index);
+        this.addedPersons.add(new JsonAdaptedPerson(person));
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.address.storage;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -7,8 +8,13 @@ import java.util.stream.Collectors;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
@@ -20,6 +26,11 @@ import seedu.address.model.person.Person;
 class JsonSerializableAddressBook {
 
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
+    public static final String MESSAGE_INVALID_FORMAT = "Address book data is not in the expected format.";
+
+    private static final String PERSONS_FIELD = "persons";
+    /** The number of persons read from a parser before they are converted together. */
+    private static final int READ_BATCH_SIZE = 4096;
 
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
 
@@ -47,14 +58,60 @@ class JsonSerializableAddressBook {
      */
     public AddressBook toModelType() throws IllegalValueException {
         AddressBook addressBook = new AddressBook();
-        for (JsonAdaptedPerson jsonAdaptedPerson : this.persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+        ParallelPersonConverter.addAll(addressBook, this.persons, JsonAdaptedPerson::toModelType);
+        return addressBook;
+    }
+
+    /**
+     * Reads an address book from {@code parser}, converting persons into the model's {@code Person} in parallel
+     * batches as they are read, so that the whole document is never held in memory.
+     *
+     * @throws IOException if the data is not valid JSON in the format written by {@link #writeTo}.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static AddressBook readFrom(JsonParser parser) throws IOException, IllegalValueException {
+        AddressBook addressBook = new AddressBook();
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, MESSAGE_INVALID_FORMAT);
+        }
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken valueToken = parser.nextToken();
+            if (!PERSONS_FIELD.equals(fieldName)) {
+                // Unknown fields are ignored, as they are when the whole document is read at once.
+                parser.skipChildren();
+                continue;
+            }
+            if (valueToken != JsonToken.START_ARRAY) {
+                throw new JsonParseException(parser, MESSAGE_INVALID_FORMAT);
             }
-            addressBook.addPerson(person);
+
+            List<JsonAdaptedPerson> batch = new ArrayList<>();
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                batch.add(JsonUtil.readValue(parser, JsonAdaptedPerson.class));
+                if (batch.size() == READ_BATCH_SIZE) {
+                    ParallelPersonConverter.addAll(addressBook, batch, JsonAdaptedPerson::toModelType);
+                    batch.clear();
+                }
+            }
+            ParallelPersonConverter.addAll(addressBook, batch, JsonAdaptedPerson::toModelType);
         }
         return addressBook;
     }
 
+    /**
+     * Writes {@code source} to {@code generator}, converting one person at a time.
+     * The output is identical to that of serializing a {@code JsonSerializableAddressBook} of {@code source}.
+     */
+    public static void writeTo(JsonGenerator generator, ReadOnlyAddressBook source) throws IOException {
+        generator.writeStartObject();
+        generator.writeArrayFieldStart(PERSONS_FIELD);
+        for (Person person : source.getPersonList()) {
+            JsonUtil.writeValue(generator, new JsonAdaptedPerson(person));
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
 }
@@ -0,0 +1,68 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * Converts the stored form of persons into the model's {@code Person} objects on all available cores.
+ * Persons are added to the address book in their stored order, and the error reported for invalid data is the one
+ * that converting the persons one at a time would have reported first.
+ */
+class ParallelPersonConverter {
+
+    /** Below this many persons, the cost of splitting the work outweighs converting the persons in parallel. */
+    static final int PARALLEL_THRESHOLD = 256;
+
+    /**
+     * Converts the stored form of a single person into the model's {@code Person} object.
+     */
+    @FunctionalInterface
+    interface Conversion<T> {
+        Person convert(T source) throws IllegalValueException;
+    }
+
+    /**
+     * Converts each of {@code sources} with {@code conversion} and adds the resulting persons to {@code addressBook}
+     * in the order of {@code sources}.
+     *
+     * @throws IllegalValueException if any person violates data constraints or has the same identity as a person
+     *     before it. The exception is that of the first such person, and no persons are added from it onwards.
+     */
+    public static <T> void addAll(AddressBook addressBook, List<T> sources, Conversion<T> conversion)
+            throws IllegalValueException {
+        requireNonNull(addressBook);
+        requireNonNull(sources);
+        requireNonNull(conversion);
+
+        Person[] persons = new Person[sources.size()];
+        IllegalValueException[] errors = new IllegalValueException[sources.size()];
+        IntStream indices = IntStream.range(0, sources.size());
+        if (sources.size() >= PARALLEL_THRESHOLD) {
+            indices = indices.parallel();
+        }
+        indices.forEach(i -> {
+            try {
+                persons[i] = conversion.convert(sources.get(i));
+            } catch (IllegalValueException ive) {
+                errors[i] = ive;
+            }
+        });
+
+        // The identity index of the address book makes each duplicate check a single hash lookup.
+        for (int i = 0; i < persons.length; i++) {
+            if (errors[i] != null) {
+                throw errors[i];
+            }
+            if (addressBook.hasPerson(persons[i])) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+            }
+            addressBook.addPerson(persons[i]);
+        }
+    }
+}
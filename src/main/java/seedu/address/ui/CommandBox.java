@@ -1,9 +1,11 @@
 package seedu.address.ui;
 
+import javafx.animation.PauseTransition;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.TextField;
 import javafx.scene.layout.Region;
+import javafx.util.Duration;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.messages.NoteCommandMessages;
@@ -16,8 +18,12 @@ public class CommandBox extends UiPart<Region> {
 
     public static final String ERROR_STYLE_CLASS = "error";
     private static final String FXML = "CommandBox.fxml";
+    /** How long typing must pause before the displayed list is filtered by the command being typed. */
+    private static final Duration LIVE_SEARCH_DELAY = Duration.millis(100);
 
     private final CommandExecutor commandExecutor;
+    private final LiveSearcher liveSearcher;
+    private final PauseTransition liveSearchDelay = new PauseTransition(LIVE_SEARCH_DELAY);
 
     @FXML
     private TextField commandTextField;
@@ -26,10 +32,24 @@ public class CommandBox extends UiPart<Region> {
      * Creates a {@code CommandBox} with the given {@code CommandExecutor}.
      */
     public CommandBox(CommandExecutor commandExecutor) {
+        this(commandExecutor, unused -> false);
+    }
+
+    /**
+     * Creates a {@code CommandBox} with the given {@code CommandExecutor} that filters the displayed list through
+     * {@code liveSearcher} while a command is typed.
+     */
+    public CommandBox(CommandExecutor commandExecutor, LiveSearcher liveSearcher) {
         super(FXML);
         this.commandExecutor = commandExecutor;
+        this.liveSearcher = liveSearcher;
         // calls #setStyleToDefault() whenever there is a change to the text of the command box.
         this.commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
+
+        // Searches once typing pauses, so that each keystroke of a fast typist does not start a search.
+        this.liveSearchDelay.setOnFinished(unused -> this.liveSearcher.search(this.commandTextField.getText()));
+        this.commandTextField.textProperty().addListener((unused1, unused2, unused3) ->
+                this.liveSearchDelay.playFromStart());
     }
 
     /**
@@ -42,6 +62,8 @@ public class CommandBox extends UiPart<Region> {
             return;
         }
 
+        this.liveSearchDelay.stop();
+
         try {
             CommandResult result = this.commandExecutor.execute(commandText);
             // Do not clear if the user is editing a note
@@ -95,6 +117,19 @@ public class CommandBox extends UiPart<Region> {
         CommandResult execute(String commandText) throws CommandException, ParseException;
     }
 
+    /**
+     * Represents a function that filters the displayed list by a command that is being typed.
+     */
+    @FunctionalInterface
+    public interface LiveSearcher {
+        /**
+         * Filters the displayed list by the command, if it is a search.
+         *
+         * @see seedu.address.logic.Logic#liveSearch(String)
+         */
+        boolean search(String commandText);
+    }
+
     /**
      * Sets the text of the commandTextField to the specified text.
      */
@@ -4,6 +4,7 @@ import java.util.logging.Logger;
 
 import javafx.animation.KeyFrame;
 import javafx.animation.Timeline;
+import javafx.application.Platform;
 import javafx.collections.ListChangeListener;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
@@ -179,14 +180,17 @@ public class MainWindow extends UiPart<Stage> {
 
         this.resultDisplay = new ResultDisplay();
         this.resultDisplayPlaceholder.getChildren().add(this.resultDisplay.getRoot());
+        this.logic.setSaveFailureHandler(message ->
+                Platform.runLater(() -> this.resultDisplay.setFeedbackToUser(message)));
 
-        this.personDetailsPanel = new PersonDetailsPanel();
+        this.personDetailsPanel = new PersonDetailsPanel(this.logic::requestQrCode);
         this.personDetailsPanelPlaceholder.getChildren().add(this.personDetailsPanel.getRoot());
 
         StatusBarFooter statusBarFooter = new StatusBarFooter(this.logic.getAddressBookFilePath());
         this.statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
-        this.commandBox = new CommandBox(this::executeCommand);
+        this.logic.setLiveSearchPublisher(Platform::runLater);
+        this.commandBox = new CommandBox(this::executeCommand, this.logic::liveSearch);
         this.commandBoxPlaceholder.getChildren().add(this.commandBox.getRoot());
     }
 
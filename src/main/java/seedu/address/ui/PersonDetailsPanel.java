@@ -1,5 +1,6 @@
 package seedu.address.ui;
 
+import java.nio.file.Path;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Comparator;
@@ -7,9 +8,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
+import javafx.application.Platform;
 import javafx.fxml.FXML;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
@@ -33,7 +36,9 @@ import javafx.scene.layout.VBox;
 import javafx.scene.paint.Color;
 import javafx.scene.shape.Circle;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.LruCache;
 import seedu.address.commons.util.DateTimeUtil;
+import seedu.address.logic.QrCodeGenerator;
 import seedu.address.logic.messages.WeightCommandMessages;
 import seedu.address.model.exercise.Exercise;
 import seedu.address.model.person.Person;
@@ -46,6 +51,8 @@ import seedu.address.model.tag.Tag;
 public class PersonDetailsPanel extends UiPart<Region> {
     public static final String FXML = "PersonDetailsPanel.fxml";
     private static final Logger logger = LogsCenter.getLogger(PersonDetailsPanel.class);
+    /** The most decoded QR codes kept in memory, about 160 KB each. */
+    private static final int QR_CODE_CACHE_CAPACITY = 64;
     private static final String EXERCISE_ATTR_DESC_STYLE = "-fx-text-fill: white; -fx-font-size: 12px;";
     private static final String EXERCISE_ATTR_VALUE_STYLE =
             "-fx-background-color: #2E2E2E; -fx-padding: 2 5 2 5; -fx-text-fill: white; -fx-font-size: 12px;";
@@ -89,13 +96,19 @@ public class PersonDetailsPanel extends UiPart<Region> {
      */
     private Person person;
 
+    private final QrCodeProvider qrCodeProvider;
+    /** Decoded QR codes by the hash of their contents, so reselecting a person does not read the file again. */
+    private final LruCache<String, Image> qrCodeImages = new LruCache<>(QR_CODE_CACHE_CAPACITY);
+
     /**
-     * Creates a new PersonDetailsPanel and clears all fields.
+     * Creates a new PersonDetailsPanel that shows QR codes from the given {@code QrCodeProvider}, and clears all
+     * fields.
      * Labels in the {@code .FXML} file contain text with the field name for
      * convenience.
      */
-    public PersonDetailsPanel() {
+    public PersonDetailsPanel(QrCodeProvider qrCodeProvider) {
         super(FXML);
+        this.qrCodeProvider = qrCodeProvider;
         this.clear();
     }
 
@@ -159,6 +172,7 @@ public class PersonDetailsPanel extends UiPart<Region> {
         this.tags.getChildren().clear();
         this.qrcode.setImage(null);
         this.trackableFieldsTabPane.getTabs().clear();
+        this.person = null;
     }
 
     /**
@@ -274,7 +288,40 @@ public class PersonDetailsPanel extends UiPart<Region> {
     }
 
     private void updateQrCode() {
-        this.qrcode.setImage(new Image(this.person.getQrCodePath().toUri().toString()));
+        Person displayedPerson = this.person;
+        String contentHash = QrCodeGenerator.getContentHash(displayedPerson);
+        Optional<Image> cachedImage = this.qrCodeImages.get(contentHash);
+        if (cachedImage.isPresent()) {
+            this.qrcode.setImage(cachedImage.get());
+            return;
+        }
+
+        // The QR code may still have to be generated, so it is shown once ready if the person is still displayed.
+        this.qrcode.setImage(null);
+        this.qrCodeProvider.requestQrCode(displayedPerson).whenComplete((qrCodePath, error) -> Platform.runLater(() -> {
+            if (error != null) {
+                logger.warning("Unable to show QR code of " + displayedPerson + ": " + error);
+                return;
+            }
+
+            Image image = this.qrCodeImages.get(contentHash).orElseGet(() -> this.loadQrCode(contentHash, qrCodePath));
+            if (this.person == displayedPerson) {
+                this.qrcode.setImage(image);
+            }
+        }));
+    }
+
+    /**
+     * Decodes the QR code at {@code qrCodePath}, caching it under {@code contentHash} if it could be decoded.
+     */
+    private Image loadQrCode(String contentHash, Path qrCodePath) {
+        Image image = new Image(qrCodePath.toUri().toString());
+        if (image.isError()) {
+            logger.warning("Unable to decode QR code " + qrCodePath + ": " + image.getException());
+        } else {
+            this.qrCodeImages.put(contentHash, image);
+        }
+        return image;
     }
 
     private void updateTabView() {
@@ -447,4 +494,17 @@ public class PersonDetailsPanel extends UiPart<Region> {
 
         return exerciseScrollPane;
     }
+
+    /**
+     * Represents a function that provides the QR code of a person.
+     */
+    @FunctionalInterface
+    public interface QrCodeProvider {
+        /**
+         * Returns a future that completes with the path of the QR code image of {@code person}.
+         *
+         * @see seedu.address.logic.Logic#requestQrCode(Person)
+         */
+        CompletableFuture<Path> requestQrCode(Person person);
+    }
 }
@@ -39,10 +39,34 @@ public class AppParametersTest {
         assertEquals(this.expected, AppParameters.parse(this.parametersStub));
     }
 
+    @Test
+    public void parse_validScriptPath_success() {
+        this.parametersStub.namedParameters.put("script", "onboarding.txt");
+        this.expected.setScriptPath(Paths.get("onboarding.txt"));
+        assertEquals(this.expected, AppParameters.parse(this.parametersStub));
+    }
+
+    @Test
+    public void parse_invalidScriptPath_success() {
+        this.parametersStub.namedParameters.put("script", "a\0");
+        this.expected.setScriptPath(null);
+        assertEquals(this.expected, AppParameters.parse(this.parametersStub));
+    }
+
+    @Test
+    public void parse_rawArguments_success() {
+        this.expected.setConfigPath(Paths.get("config.json"));
+        this.expected.setScriptPath(Paths.get("onboarding.txt"));
+        assertEquals(this.expected, AppParameters.parse("--headless", "--config=config.json", "unnamed",
+                "--script=onboarding.txt"));
+        assertEquals(new AppParameters(), AppParameters.parse());
+    }
+
     @Test
     public void toStringMethod() {
         AppParameters appParameters = new AppParameters();
-        String expected = AppParameters.class.getCanonicalName() + "{configPath=" + appParameters.getConfigPath() + "}";
+        String expected = AppParameters.class.getCanonicalName() + "{configPath=" + appParameters.getConfigPath()
+                + ", scriptPath=" + appParameters.getScriptPath() + "}";
         assertEquals(expected, appParameters.toString());
     }
 
@@ -66,6 +90,11 @@ public class AppParametersTest {
         AppParameters otherAppParameters = new AppParameters();
         otherAppParameters.setConfigPath(Paths.get("configPath"));
         assertFalse(appParameters.equals(otherAppParameters));
+
+        // different script path -> returns false
+        otherAppParameters = new AppParameters();
+        otherAppParameters.setScriptPath(Paths.get("scriptPath"));
+        assertFalse(appParameters.equals(otherAppParameters));
     }
 
     private static class ParametersStub extends Application.Parameters {
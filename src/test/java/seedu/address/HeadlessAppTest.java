@@ -0,0 +1,101 @@
+package seedu.address;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.messages.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.testutil.PersonUtil;
+
+public class HeadlessAppTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream err = new ByteArrayOutputStream();
+    private HeadlessApp headlessApp;
+
+    @BeforeEach
+    public void setUp() {
+        StorageManager storage = new StorageManager(
+                new JsonAddressBookStorage(this.temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(this.temporaryFolder.resolve("userPrefs.json")));
+        this.headlessApp = new HeadlessApp(new LogicManager(this.model, storage), this.model,
+                new PrintStream(this.out, true, StandardCharsets.UTF_8),
+                new PrintStream(this.err, true, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void isHeadless() {
+        assertTrue(HeadlessApp.isHeadless(HeadlessApp.HEADLESS_ARGUMENT));
+        assertTrue(HeadlessApp.isHeadless("--config=config.json", "--script=script.txt"));
+        assertFalse(HeadlessApp.isHeadless());
+        assertFalse(HeadlessApp.isHeadless("--config=config.json"));
+    }
+
+    @Test
+    public void runCommands_query_listedClientsPrinted() {
+        assertTrue(this.headlessApp.runCommands(toInput("find n/benson")));
+
+        String output = this.out.toString(StandardCharsets.UTF_8);
+        assertTrue(output.contains("1. " + Messages.format(BENSON)), output);
+        assertEquals("", this.err.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void runCommands_failedCommand_laterCommandsExecuted() {
+        assertFalse(this.headlessApp.runCommands(toInput("unknownCommand\n\n" + PersonUtil.getAddCommand(AMY))));
+
+        assertTrue(this.model.hasPerson(AMY));
+        assertFalse(this.err.toString(StandardCharsets.UTF_8).isEmpty());
+    }
+
+    @Test
+    public void runCommands_exit_laterCommandsNotExecuted() {
+        assertTrue(this.headlessApp.runCommands(toInput("exit\n" + PersonUtil.getAddCommand(AMY))));
+
+        assertFalse(this.model.hasPerson(AMY));
+    }
+
+    @Test
+    public void runScript_validScript_allCommandsRun() throws Exception {
+        Path scriptFile = Files.write(this.temporaryFolder.resolve("script.txt"),
+                List.of(PersonUtil.getAddCommand(AMY)));
+
+        assertTrue(this.headlessApp.runScript(scriptFile));
+        assertTrue(this.model.hasPerson(AMY));
+    }
+
+    @Test
+    public void runScript_missingScript_returnsFalse() {
+        assertFalse(this.headlessApp.runScript(this.temporaryFolder.resolve("missing.txt")));
+    }
+
+    private static ByteArrayInputStream toInput(String commands) {
+        return new ByteArrayInputStream(commands.getBytes(StandardCharsets.UTF_8));
+    }
+}
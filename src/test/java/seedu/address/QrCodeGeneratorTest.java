@@ -1,31 +1,51 @@
 package seedu.address;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BOB;
 
-import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
 import org.junit.jupiter.api.Test;
 
-import com.google.zxing.WriterException;
-
 import seedu.address.logic.QrCodeGenerator;
+import seedu.address.testutil.PersonBuilder;
 
 class QrCodeGeneratorTest {
 
     @Test
-    void generateQrCode_validPerson_success() throws IOException, WriterException {
-        QrCodeGenerator.generateQrCode(ALICE);
-        assertTrue(ALICE.getQrCodePath().toFile().exists());
+    void getQrCodePath_validPerson_success() {
+        Path path = QrCodeGenerator.getQrCodePath(ALICE, QrCodeGenerator.QR_CODE_FOLDER);
+        String expected = Paths.get(QrCodeGenerator.QR_CODE_FOLDER.toString(),
+                QrCodeGenerator.getOwnerHash(ALICE) + QrCodeGenerator.OWNER_HASH_SEPARATOR
+                        + QrCodeGenerator.getContentHash(ALICE) + ".png").toString();
+        assertEquals(expected, path.toString());
     }
 
     @Test
-    void getQrCodePath_validPerson_success() {
-        Path path = QrCodeGenerator.getQrCodePath(ALICE);
-        String expected = Paths.get(QrCodeGenerator.QR_CODE_FOLDER.toString(), ALICE.hashCode() + ".png").toString();
-        assertEquals(expected, path.toString());
+    void getOwnerHash() {
+        // same name and phone -> same hash
+        assertEquals(QrCodeGenerator.getOwnerHash(ALICE),
+                QrCodeGenerator.getOwnerHash(new PersonBuilder(ALICE).withNote("Prefers mornings").build()));
+
+        // different name or phone -> different hash
+        assertNotEquals(QrCodeGenerator.getOwnerHash(ALICE),
+                QrCodeGenerator.getOwnerHash(new PersonBuilder(ALICE).withPhone("91234567").build()));
+        assertNotEquals(QrCodeGenerator.getOwnerHash(ALICE), QrCodeGenerator.getOwnerHash(BOB));
+    }
+
+    @Test
+    void getContentHash() {
+        // same QR code contents -> same hash
+        assertEquals(QrCodeGenerator.getContentHash(ALICE), QrCodeGenerator.getContentHash(ALICE));
+        assertEquals(QrCodeGenerator.getContentHash(ALICE),
+                QrCodeGenerator.getContentHash(new PersonBuilder(ALICE).withTags("gym").build()));
+
+        // different QR code contents -> different hash
+        assertNotEquals(QrCodeGenerator.getContentHash(ALICE),
+                QrCodeGenerator.getContentHash(new PersonBuilder(ALICE).withNote("Prefers mornings").build()));
+        assertNotEquals(QrCodeGenerator.getContentHash(ALICE), QrCodeGenerator.getContentHash(BOB));
     }
 }
@@ -0,0 +1,35 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+public class DataFileFormatTest {
+
+    @Test
+    public void getDataFilePath_extensionOfAFormat_replacedByExtensionOfFormat() {
+        assertEquals(Paths.get("data", "addressbook.fbk"),
+                DataFileFormat.BINARY.getDataFilePath(Paths.get("data", "addressbook.json")));
+        assertEquals(Paths.get("data", "addressbook.json"),
+                DataFileFormat.JSON.getDataFilePath(Paths.get("data", "addressbook.fbk")));
+        assertEquals(Paths.get("data", "addressbook.json"),
+                DataFileFormat.JSON.getDataFilePath(Paths.get("data", "addressbook.json")));
+    }
+
+    @Test
+    public void getDataFilePath_otherExtension_unchanged() {
+        assertEquals(Paths.get("data", "addressbook.dat"),
+                DataFileFormat.BINARY.getDataFilePath(Paths.get("data", "addressbook.dat")));
+        assertEquals(Paths.get("data", "addressbook"),
+                DataFileFormat.BINARY.getDataFilePath(Paths.get("data", "addressbook")));
+        assertEquals(Paths.get("data", ".json"), DataFileFormat.BINARY.getDataFilePath(Paths.get("data", ".json")));
+    }
+
+    @Test
+    public void getDataFilePath_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> DataFileFormat.JSON.getDataFilePath(null));
+    }
+}
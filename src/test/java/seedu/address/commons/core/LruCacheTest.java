@@ -0,0 +1,65 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+public class LruCacheTest {
+
+    @Test
+    public void constructor_nonPositiveCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new LruCache<String, String>(0));
+    }
+
+    @Test
+    public void put_nullValue_throwsNullPointerException() {
+        LruCache<String, String> cache = new LruCache<>(2);
+        assertThrows(NullPointerException.class, () -> cache.put("a", null));
+    }
+
+    @Test
+    public void get_missingKey_returnsEmpty() {
+        LruCache<String, String> cache = new LruCache<>(2);
+        assertEquals(Optional.empty(), cache.get("a"));
+    }
+
+    @Test
+    public void put_overCapacity_evictsLeastRecentlyUsed() {
+        LruCache<String, String> cache = new LruCache<>(2);
+        cache.put("a", "1");
+        cache.put("b", "2");
+
+        // Reading "a" makes "b" the least recently used value
+        assertEquals(Optional.of("1"), cache.get("a"));
+        cache.put("c", "3");
+
+        assertEquals(2, cache.size());
+        assertEquals(Optional.of("1"), cache.get("a"));
+        assertEquals(Optional.empty(), cache.get("b"));
+        assertEquals(Optional.of("3"), cache.get("c"));
+    }
+
+    @Test
+    public void put_existingKey_replacesValue() {
+        LruCache<String, String> cache = new LruCache<>(2);
+        cache.put("a", "1");
+        cache.put("a", "2");
+
+        assertEquals(1, cache.size());
+        assertEquals(Optional.of("2"), cache.get("a"));
+    }
+
+    @Test
+    public void clear_nonEmptyCache_removesAllValues() {
+        LruCache<String, String> cache = new LruCache<>(2);
+        cache.put("a", "1");
+        cache.clear();
+
+        assertEquals(0, cache.size());
+        assertTrue(cache.get("a").isEmpty());
+    }
+}
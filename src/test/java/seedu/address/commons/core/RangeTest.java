@@ -0,0 +1,70 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class RangeTest {
+
+    @Test
+    public void containsValue() {
+        Range range = new Range(60f, 80f);
+
+        // bounds -> returns true
+        assertTrue(range.contains(60f));
+        assertTrue(range.contains(80f));
+
+        // within range -> returns true
+        assertTrue(range.contains(70.5f));
+
+        // outside range -> returns false
+        assertFalse(range.contains(59.9f));
+        assertFalse(range.contains(80.1f));
+        assertFalse(range.contains(Float.NaN));
+    }
+
+    @Test
+    public void containsRange() {
+        Range range = new Range(60f, 80f);
+
+        // same range -> returns true
+        assertTrue(range.contains(new Range(60f, 80f)));
+
+        // narrower range -> returns true
+        assertTrue(range.contains(new Range(65f, 70f)));
+
+        // wider or overlapping range -> returns false
+        assertFalse(range.contains(new Range(50f, 80f)));
+        assertFalse(range.contains(new Range(70f, 90f)));
+    }
+
+    @Test
+    public void equals() {
+        Range range = new Range(60f, 80f);
+
+        // same values -> returns true
+        assertTrue(range.equals(new Range(60f, 80f)));
+        assertEquals(range.hashCode(), new Range(60f, 80f).hashCode());
+
+        // same object -> returns true
+        assertTrue(range.equals(range));
+
+        // null -> returns false
+        assertFalse(range.equals(null));
+
+        // different types -> returns false
+        assertFalse(range.equals(60f));
+
+        // different values -> returns false
+        assertFalse(range.equals(new Range(60f, 81f)));
+        assertFalse(range.equals(new Range(61f, 80f)));
+    }
+
+    @Test
+    public void toStringMethod() {
+        Range range = new Range(60f, 80f);
+        assertEquals(Range.class.getCanonicalName() + "{min=60.0, max=80.0}", range.toString());
+    }
+}
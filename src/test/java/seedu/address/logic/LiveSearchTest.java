@@ -0,0 +1,147 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.parser.FindCommandParser;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.predicates.CombinedPredicates;
+import seedu.address.testutil.PersonBuilder;
+
+public class LiveSearchTest {
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private final List<Runnable> pendingEvaluations = new ArrayList<>();
+
+    @Test
+    public void search_notParsableFindCommand_returnsFalse() {
+        LiveSearch liveSearch = new LiveSearch(this.model, Runnable::run);
+        String[] commandTexts = {"", "list", "findx n/meier", "find", "find   ", "find w/80,"};
+        for (String commandText : commandTexts) {
+            assertFalse(liveSearch.search(commandText), commandText);
+        }
+        assertEquals(this.model.getAddressBook().getPersonList(), this.model.getFilteredPersonList());
+    }
+
+    @Test
+    public void search_typingFindCommand_sameAsFind() throws Exception {
+        LiveSearch liveSearch = new LiveSearch(this.model, Runnable::run);
+        String[] commandTexts = {"find n/m", "find n/me", "find n/meier", "FIND n/meier t/friends", "find n/me",
+            "find n/meier", "find n/meier t/friends t/owesMoney", "find e/example"};
+        for (String commandText : commandTexts) {
+            assertTrue(liveSearch.search(commandText), commandText);
+            assertEquals(findPersons(commandText), this.model.getFilteredPersonList(), commandText);
+        }
+    }
+
+    @Test
+    public void search_abbreviatedFindCommand_sameAsFind() throws Exception {
+        LiveSearch liveSearch = new LiveSearch(this.model, Runnable::run);
+        assertFalse(liveSearch.search("fi n/meier"));
+        assertTrue(liveSearch.search("fin n/meier"));
+        assertEquals(findPersons("find n/meier"), this.model.getFilteredPersonList());
+    }
+
+    @Test
+    public void search_noLongerFindCommand_executedFilterRestored() throws Exception {
+        this.model.updateFilteredPersonList(new FindCommandParser().parsePredicates(" n/meier"));
+        List<Person> executedMatches = new ArrayList<>(this.model.getFilteredPersonList());
+        LiveSearch liveSearch = new LiveSearch(this.model, Runnable::run);
+
+        String[] commandTexts = {"", "find", "find w/80,", "delete 1"};
+        for (String commandText : commandTexts) {
+            assertTrue(liveSearch.search("find n/benson"));
+            assertEquals(List.of(BENSON), this.model.getFilteredPersonList());
+
+            assertFalse(liveSearch.search(commandText), commandText);
+            assertEquals(executedMatches, this.model.getFilteredPersonList(), commandText);
+        }
+    }
+
+    @Test
+    public void cancel_searchShown_executedFilterRestored() {
+        LiveSearch liveSearch = new LiveSearch(this.model, Runnable::run);
+        liveSearch.search("find n/alice");
+        liveSearch.search("find n/benson");
+        liveSearch.cancel();
+
+        assertEquals(this.model.getAddressBook().getPersonList(), this.model.getFilteredPersonList());
+    }
+
+    @Test
+    public void search_addressBookChanged_cachedMatchesDiscarded() throws Exception {
+        LiveSearch liveSearch = new LiveSearch(this.model, Runnable::run);
+        liveSearch.search("find n/meier");
+
+        Person newPerson = new PersonBuilder().withName("Zed Meier").withPhone("81234567").build();
+        this.model.addPerson(newPerson);
+        liveSearch.search("find n/meier");
+
+        assertTrue(this.model.getFilteredPersonList().contains(newPerson));
+        assertEquals(findPersons("find n/meier"), this.model.getFilteredPersonList());
+    }
+
+    @Test
+    public void search_laterSearchStarted_earlierMatchesNotShown() {
+        LiveSearch liveSearch = new LiveSearch(this.model, this.pendingEvaluations::add);
+        liveSearch.search("find n/alice");
+        liveSearch.search("find n/benson");
+        this.pendingEvaluations.forEach(Runnable::run);
+
+        assertEquals(List.of(BENSON), this.model.getFilteredPersonList());
+    }
+
+    @Test
+    public void search_cancelled_matchesNotShown() {
+        LiveSearch liveSearch = new LiveSearch(this.model, this.pendingEvaluations::add);
+        liveSearch.search("find n/alice");
+        liveSearch.cancel();
+        this.pendingEvaluations.forEach(Runnable::run);
+
+        assertEquals(this.model.getAddressBook().getPersonList(), this.model.getFilteredPersonList());
+    }
+
+    @Test
+    public void search_addressBookChangedDuringSearch_matchesNotShown() {
+        LiveSearch liveSearch = new LiveSearch(this.model, this.pendingEvaluations::add);
+        liveSearch.search("find n/alice");
+        this.model.deletePerson(ALICE);
+        this.pendingEvaluations.forEach(Runnable::run);
+
+        assertEquals(this.model.getAddressBook().getPersonList(), this.model.getFilteredPersonList());
+    }
+
+    @Test
+    public void search_matchesPublished_throughPublisher() {
+        LiveSearch liveSearch = new LiveSearch(this.model, Runnable::run);
+        List<Runnable> publishedMatches = new ArrayList<>();
+        liveSearch.setPublisher(publishedMatches::add);
+
+        liveSearch.search("find n/benson");
+        assertEquals(this.model.getAddressBook().getPersonList(), this.model.getFilteredPersonList());
+
+        publishedMatches.forEach(Runnable::run);
+        assertEquals(List.of(BENSON), this.model.getFilteredPersonList());
+    }
+
+    private List<Person> findPersons(String commandText) throws Exception {
+        CombinedPredicates predicates = new FindCommandParser()
+                .parsePredicates(commandText.substring(commandText.indexOf(' ')));
+        return this.model.getAddressBook().getPersonList().stream()
+                .filter(predicates)
+                .collect(Collectors.toList());
+    }
+}
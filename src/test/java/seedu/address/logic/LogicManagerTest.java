@@ -9,10 +9,16 @@ import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
 import static seedu.address.logic.messages.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BOB;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -24,16 +30,20 @@ import seedu.address.logic.messages.AddCommandMessages;
 import seedu.address.logic.messages.DeleteCommandMessages;
 import seedu.address.logic.messages.ListCommandMessages;
 import seedu.address.logic.messages.Messages;
+import seedu.address.logic.messages.RunCommandMessages;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.Person;
+import seedu.address.storage.AsyncAddressBookSaver;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.StorageManager;
 import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.PersonUtil;
 
 public class LogicManagerTest {
     private static final IOException DUMMY_IO_EXCEPTION = new IOException("dummy IO exception");
@@ -86,6 +96,86 @@ public class LogicManagerTest {
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_readOnlyCommand_skipsSaving() throws Exception {
+        this.logic = new LogicManager(this.model, createStorageThrowing(DUMMY_IO_EXCEPTION));
+
+        // Saving would throw, so the command only succeeds if saving is skipped
+        assertCommandSuccess(ListCommandMessages.COMMAND_WORD, ListCommandMessages.MESSAGE_NO_CLIENTS_TO_LIST,
+                this.model);
+        assertEquals(1, ((LogicManager) this.logic).getSkippedSaveCount());
+    }
+
+    @Test
+    public void execute_afterFailedSave_retriesSaving() throws Exception {
+        assertCommandFailureForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
+                LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_IO_EXCEPTION.getMessage()));
+
+        // The unsaved changes from the failed command are saved by the next command
+        assertThrows(CommandException.class, () -> this.logic.execute(ListCommandMessages.COMMAND_WORD));
+        assertEquals(0, ((LogicManager) this.logic).getSkippedSaveCount());
+    }
+
+    @Test
+    public void execute_runScript_savedOnce() throws Exception {
+        AtomicInteger saveCount = new AtomicInteger();
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(this.temporaryFolder.resolve("addressBook.json")) {
+                    @Override
+                    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                        saveCount.incrementAndGet();
+                        super.saveAddressBook(addressBook, filePath);
+                    }
+                };
+        this.logic = new LogicManager(this.model, new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(this.temporaryFolder.resolve("userPrefs.json"))));
+        Path scriptFile = Files.write(this.temporaryFolder.resolve("script.txt"), List.of(PersonUtil.getAddCommand(AMY),
+                PersonUtil.getAddCommand(BOB), DeleteCommandMessages.COMMAND_WORD + " 1"));
+
+        this.logic.execute(RunCommandMessages.COMMAND_WORD + " " + scriptFile);
+        assertEquals(1, saveCount.get());
+        assertEquals(List.of(BOB), this.model.getAddressBook().getPersonList());
+    }
+
+    @Test
+    public void execute_backgroundSave_addressBookSaved() throws Exception {
+        Path addressBookPath = this.temporaryFolder.resolve("backgroundAddressBook.json");
+        StorageManager storage = new StorageManager(new JsonAddressBookStorage(addressBookPath),
+                new JsonUserPrefsStorage(this.temporaryFolder.resolve("userPrefs.json")));
+        AsyncAddressBookSaver addressBookSaver = new AsyncAddressBookSaver(storage);
+        this.logic = new LogicManager(this.model, storage, addressBookSaver);
+
+        this.logic.execute(AddCommandMessages.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + ADDRESS_DESC_AMY + NOTE_DESC_AMY);
+        addressBookSaver.flush();
+
+        assertEquals(this.model.getAddressBook(), new AddressBook(storage.readAddressBook().get()));
+        addressBookSaver.shutdown();
+    }
+
+    @Test
+    public void execute_backgroundSaveFails_failureReportedAndSaveRetried() throws Exception {
+        List<String> failureMessages = Collections.synchronizedList(new ArrayList<>());
+        AsyncAddressBookSaver addressBookSaver = new AsyncAddressBookSaver(createStorageThrowing(DUMMY_AD_EXCEPTION));
+        this.logic = new LogicManager(this.model, createStorageThrowing(DUMMY_AD_EXCEPTION), addressBookSaver);
+        this.logic.setSaveFailureHandler(failureMessages::add);
+
+        // The command itself succeeds, and the failure is reported once the save has been attempted
+        this.logic.execute(AddCommandMessages.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + ADDRESS_DESC_AMY + NOTE_DESC_AMY);
+        addressBookSaver.flush();
+        String expectedMessage = String.format(LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT,
+                DUMMY_AD_EXCEPTION.getMessage());
+        assertEquals(List.of(expectedMessage), failureMessages);
+
+        // The unsaved changes are saved again by the next command
+        this.logic.execute(ListCommandMessages.COMMAND_WORD);
+        addressBookSaver.flush();
+        assertEquals(List.of(expectedMessage, expectedMessage), failureMessages);
+        assertEquals(0, ((LogicManager) this.logic).getSkippedSaveCount());
+        addressBookSaver.shutdown();
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> this.logic.getFilteredPersonList().remove(0));
@@ -151,9 +241,23 @@ public class LogicManagerTest {
      * @param expectedMessage the message expected inside exception thrown by the Logic component
      */
     private void assertCommandFailureForExceptionFromStorage(IOException e, String expectedMessage) {
-        Path prefPath = this.temporaryFolder.resolve("ExceptionUserPrefs.json");
-
         // Inject LogicManager with an AddressBookStorage that throws the IOException e when saving
+        this.logic = new LogicManager(this.model, createStorageThrowing(e));
+
+        // Triggers the saveAddressBook method by executing an add command
+        String addCommand = AddCommandMessages.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY + NOTE_DESC_AMY;
+        Person expectedPerson = new PersonBuilder(AMY).withTags().build();
+        ModelManager expectedModel = new ModelManager();
+        expectedModel.addPerson(expectedPerson);
+        assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
+    }
+
+    /**
+     * Returns a {@code StorageManager} whose address book storage throws {@code e} when saving.
+     */
+    private StorageManager createStorageThrowing(IOException e) {
+        Path prefPath = this.temporaryFolder.resolve("ExceptionUserPrefs.json");
         JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(prefPath) {
             @Override
             public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath)
@@ -164,16 +268,6 @@ public class LogicManagerTest {
 
         JsonUserPrefsStorage userPrefsStorage =
                 new JsonUserPrefsStorage(this.temporaryFolder.resolve("ExceptionUserPrefs.json"));
-        StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
-
-        this.logic = new LogicManager(this.model, storage);
-
-        // Triggers the saveAddressBook method by executing an add command
-        String addCommand = AddCommandMessages.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
-                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY + NOTE_DESC_AMY;
-        Person expectedPerson = new PersonBuilder(AMY).withTags().build();
-        ModelManager expectedModel = new ModelManager();
-        expectedModel.addPerson(expectedPerson);
-        assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
+        return new StorageManager(addressBookStorage, userPrefsStorage);
     }
 }
@@ -0,0 +1,70 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class QrCodeExporterTest {
+
+    private static final byte[] PNG_SIGNATURE = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void export_morePersonsThanPendingLimit_allExportedInOrder() throws Exception {
+        int personCount = 2 * QrCodeExporter.MAX_PENDING_QR_CODES + 1;
+        List<Person> persons = IntStream.range(0, personCount)
+                .mapToObj(i -> new PersonBuilder().withName("Person " + i).withPhone(String.valueOf(10000000 + i))
+                        .build())
+                .collect(Collectors.toList());
+        Path zipFile = this.testFolder.resolve("exports").resolve("qrcodes.zip");
+        List<Integer> progress = new ArrayList<>();
+
+        new QrCodeExporter().export(persons, zipFile, (exportedCount, totalCount) -> {
+            assertEquals(personCount, totalCount);
+            progress.add(exportedCount);
+        });
+
+        assertEquals(IntStream.rangeClosed(1, personCount).boxed().collect(Collectors.toList()), progress);
+        try (ZipInputStream zip = new ZipInputStream(Files.newInputStream(zipFile))) {
+            for (int i = 0; i < personCount; i++) {
+                ZipEntry entry = zip.getNextEntry();
+                assertEquals(QrCodeExporter.getEntryName(i, persons.get(i)), entry.getName());
+                assertArrayEquals(PNG_SIGNATURE, Arrays.copyOf(zip.readAllBytes(), PNG_SIGNATURE.length));
+            }
+            assertEquals(null, zip.getNextEntry());
+        }
+    }
+
+    @Test
+    public void export_folderIsFile_throwsIoException() throws Exception {
+        Path file = Files.createFile(this.testFolder.resolve("file"));
+
+        assertThrows(IOException.class, () -> new QrCodeExporter().export(List.of(ALICE),
+                file.resolve("qrcodes.zip"), (exportedCount, totalCount) -> { }));
+    }
+
+    @Test
+    public void getEntryName_personWithSpaces_underscoresAndOneBasedIndex() {
+        assertEquals("3_Alice_Pauline.png", QrCodeExporter.getEntryName(2, ALICE));
+    }
+}
@@ -0,0 +1,155 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class QrCodeServiceTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private QrCodeService qrCodeService;
+
+    @BeforeEach
+    public void setUp() {
+        this.qrCodeService = new QrCodeService(this.testFolder);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        this.qrCodeService.shutdown();
+    }
+
+    @Test
+    public void requestQrCode_nullPerson_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> this.qrCodeService.requestQrCode(null));
+    }
+
+    @Test
+    public void requestQrCode_missingQrCode_generated() throws Exception {
+        Path qrCodePath = this.qrCodeService.requestQrCode(ALICE).get();
+
+        assertEquals(QrCodeGenerator.getQrCodePath(ALICE, this.testFolder), qrCodePath);
+        assertTrue(Files.size(qrCodePath) > 0);
+    }
+
+    @Test
+    public void requestQrCode_existingQrCode_notGeneratedAgain() throws Exception {
+        Path qrCodePath = QrCodeGenerator.getQrCodePath(ALICE, this.testFolder);
+        byte[] existingContents = {1, 2, 3};
+        Files.write(qrCodePath, existingContents);
+
+        assertEquals(qrCodePath, this.qrCodeService.requestQrCode(ALICE).get());
+        assertArrayEquals(existingContents, Files.readAllBytes(qrCodePath));
+    }
+
+    @Test
+    public void requestQrCode_severalPersons_allGenerated() throws Exception {
+        Path aliceQrCodePath = this.qrCodeService.requestQrCode(ALICE).get();
+        Path bensonQrCodePath = this.qrCodeService.requestQrCode(BENSON).get();
+
+        assertTrue(Files.exists(aliceQrCodePath));
+        assertTrue(Files.exists(bensonQrCodePath));
+        assertNotEquals(aliceQrCodePath, bensonQrCodePath);
+    }
+
+    @Test
+    public void requestQrCode_earlierQrCodesOfPerson_deleted() throws Exception {
+        Person earlierAlice = new PersonBuilder(ALICE).withNote("Earlier note").build();
+        Path earlierQrCode = this.qrCodeService.requestQrCode(earlierAlice).get();
+        Path otherQrCode = this.qrCodeService.requestQrCode(BENSON).get();
+
+        Path currentQrCode = this.qrCodeService.requestQrCode(ALICE).get();
+
+        assertTrue(Files.exists(currentQrCode));
+        assertFalse(Files.exists(earlierQrCode));
+        assertTrue(Files.exists(otherQrCode));
+    }
+
+    @Test
+    public void requestQrCode_unwritableFolder_completesExceptionally() throws Exception {
+        Path fileAsFolder = Files.createFile(this.testFolder.resolve("notAFolder"));
+        QrCodeService unwritableService = new QrCodeService(fileAsFolder);
+        try {
+            assertThrows(ExecutionException.class, () -> unwritableService.requestQrCode(ALICE).get());
+        } finally {
+            unwritableService.shutdown();
+        }
+    }
+
+    @Test
+    public void removeOrphanedQrCodes_oldOrphans_deleted() throws Exception {
+        FileTime longAgo = FileTime.from(Instant.now().minus(Duration.ofDays(1)));
+        Path currentQrCode = this.qrCodeService.requestQrCode(ALICE).get();
+        Path orphanedQrCode = this.qrCodeService.requestQrCode(BENSON).get();
+        Path interruptedWrite = Files.createFile(this.testFolder.resolve("interrupted.png123.tmp"));
+        Path otherFile = Files.createFile(this.testFolder.resolve("notes.txt"));
+        for (Path file : List.of(currentQrCode, orphanedQrCode, interruptedWrite, otherFile)) {
+            Files.setLastModifiedTime(file, longAgo);
+        }
+        Path recentOrphanedQrCode = this.qrCodeService.requestQrCode(CARL).get();
+
+        assertEquals(2, this.qrCodeService.removeOrphanedQrCodes(List.of(ALICE)).get().intValue());
+
+        assertTrue(Files.exists(currentQrCode));
+        assertFalse(Files.exists(orphanedQrCode));
+        assertFalse(Files.exists(interruptedWrite));
+        assertTrue(Files.exists(otherFile));
+        assertTrue(Files.exists(recentOrphanedQrCode));
+    }
+
+    @Test
+    public void removeOrphanedQrCodes_detailsNotLoaded_qrCodesOfPersonKept() throws Exception {
+        FileTime longAgo = FileTime.from(Instant.now().minus(Duration.ofDays(1)));
+        Path currentQrCode = this.qrCodeService.requestQrCode(ALICE).get();
+        Path orphanedQrCode = this.qrCodeService.requestQrCode(BENSON).get();
+        Path interruptedWrite = Files.createFile(this.testFolder.resolve(currentQrCode.getFileName() + "123.tmp"));
+        for (Path file : List.of(currentQrCode, orphanedQrCode, interruptedWrite)) {
+            Files.setLastModifiedTime(file, longAgo);
+        }
+        Person unloadedAlice = new Person(ALICE.getName(), ALICE.getPhone(), ALICE.getEmail(), ALICE.getAddress(),
+                ALICE.getHeight(), ALICE.getTags(), () -> {
+                    throw new AssertionError("The details of persons should not be loaded by the sweep.");
+                });
+
+        assertEquals(2, this.qrCodeService.removeOrphanedQrCodes(List.of(unloadedAlice)).get().intValue());
+
+        assertFalse(unloadedAlice.hasLoadedDetails());
+        assertTrue(Files.exists(currentQrCode));
+        assertFalse(Files.exists(orphanedQrCode));
+        assertFalse(Files.exists(interruptedWrite));
+    }
+
+    @Test
+    public void removeOrphanedQrCodes_missingFolder_nothingDeleted() throws Exception {
+        QrCodeService missingFolderService = new QrCodeService(this.testFolder.resolve("missing"));
+        try {
+            assertEquals(0, missingFolderService.removeOrphanedQrCodes(List.of(ALICE)).get().intValue());
+        } finally {
+            missingFolderService.shutdown();
+        }
+    }
+}
@@ -0,0 +1,231 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.logic.messages.ImportCommandMessages.MESSAGE_DUPLICATE_IN_FILE;
+import static seedu.address.logic.messages.ImportCommandMessages.MESSAGE_DUPLICATE_PERSON;
+import static seedu.address.logic.messages.ImportCommandMessages.MESSAGE_INVALID_HEADER;
+import static seedu.address.logic.messages.ImportCommandMessages.MESSAGE_LINES_SKIPPED;
+import static seedu.address.logic.messages.ImportCommandMessages.MESSAGE_LINE_ERROR;
+import static seedu.address.logic.messages.ImportCommandMessages.MESSAGE_MISSING_COLUMNS;
+import static seedu.address.logic.messages.ImportCommandMessages.MESSAGE_MORE_LINES_SKIPPED;
+import static seedu.address.logic.messages.ImportCommandMessages.MESSAGE_NO_HEADER;
+import static seedu.address.logic.messages.ImportCommandMessages.MESSAGE_READ_FAILED;
+import static seedu.address.logic.messages.ImportCommandMessages.MESSAGE_SUCCESS;
+import static seedu.address.logic.messages.ImportCommandMessages.MESSAGE_UNCLOSED_QUOTE;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.messages.PhoneMessages;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for ImportCommand.
+ */
+public class ImportCommandTest {
+
+    private static final String HEADER = "name,phone,email,address,tags";
+
+    @TempDir
+    public Path testFolder;
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_validFile_allClientsImported() throws Exception {
+        Path csvFile = this.writeCsv("", HEADER, toCsvRow(AMY), "", toCsvRow(BOB));
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        expectedModel.addPerson(AMY);
+        expectedModel.addPerson(BOB);
+
+        assertCommandSuccess(new ImportCommand(csvFile), this.model, String.format(MESSAGE_SUCCESS, 2, csvFile),
+                expectedModel);
+    }
+
+    @Test
+    public void execute_invalidAndDuplicateLines_skippedAndReported() throws Exception {
+        Path csvFile = this.writeCsv(HEADER, toCsvRow(AMY), "Bob Choo,phone,,,", toCsvRow(ALICE), toCsvRow(AMY),
+                toCsvRow(BOB));
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        expectedModel.addPerson(AMY);
+        expectedModel.addPerson(BOB);
+        String expectedMessage = String.join("\n", String.format(MESSAGE_SUCCESS, 2, csvFile),
+                String.format(MESSAGE_LINES_SKIPPED, 3),
+                String.format(MESSAGE_LINE_ERROR, 3, PhoneMessages.MESSAGE_CONSTRAINTS),
+                String.format(MESSAGE_LINE_ERROR, 4, MESSAGE_DUPLICATE_PERSON),
+                String.format(MESSAGE_LINE_ERROR, 5, MESSAGE_DUPLICATE_IN_FILE));
+
+        assertCommandSuccess(new ImportCommand(csvFile), this.model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_quotedFieldWithLineBreaks_rowSpansLines() throws Exception {
+        Path csvFile = this.writeCsv("name,phone,note", "Amy Bee,85355255,\"Prefers mornings", "", "Knee injury\"",
+                "Bob Choo,phone,");
+
+        CommandResult result = new ImportCommand(csvFile).execute(this.model);
+
+        Person amy = this.model.getAddressBook().getPersonList().stream()
+                .filter(person -> person.getName().getValue().equals("Amy Bee"))
+                .findFirst().get();
+        assertEquals("Prefers mornings\n\nKnee injury", amy.getNote().getValue());
+        assertTrue(result.getFeedbackToUser().endsWith(
+                String.format(MESSAGE_LINE_ERROR, 5, PhoneMessages.MESSAGE_CONSTRAINTS)));
+    }
+
+    @Test
+    public void execute_strayQuote_onlyItsLineSkipped() throws Exception {
+        Path csvFile = this.writeCsv("name,phone", "\"Bob Choo,91234567", "Amy Bee,85355255", "", "Cody Lim,93210283");
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        expectedModel.addPerson(new PersonBuilder().withName("Amy Bee").withPhone("85355255").withEmail("")
+                .withAddress("").withTags().build());
+        expectedModel.addPerson(new PersonBuilder().withName("Cody Lim").withPhone("93210283").withEmail("")
+                .withAddress("").withTags().build());
+        String expectedMessage = String.join("\n", String.format(MESSAGE_SUCCESS, 2, csvFile),
+                String.format(MESSAGE_LINES_SKIPPED, 1),
+                String.format(MESSAGE_LINE_ERROR, 2, MESSAGE_UNCLOSED_QUOTE));
+
+        assertCommandSuccess(new ImportCommand(csvFile), this.model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_strayQuoteClosedAfterTooManyLines_onlyItsLineSkipped() throws Exception {
+        List<String> lines = new ArrayList<>(List.of("name,phone,note", "\"Bob Choo,91234567,"));
+        for (int i = 0; i < ImportCommand.MAX_ROW_LINES; i++) {
+            lines.add("Client " + i + "," + (80000000 + i) + ",");
+        }
+        lines.add("Amy Bee,85355255,Says \"hi\"");
+        Path csvFile = Files.write(this.testFolder.resolve("clients.csv"), lines);
+
+        CommandResult result = new ImportCommand(csvFile).execute(this.model);
+
+        int importedCount = this.model.getAddressBook().getPersonList().size()
+                - getTypicalAddressBook().getPersonList().size();
+        assertEquals(ImportCommand.MAX_ROW_LINES + 1, importedCount);
+        assertTrue(result.getFeedbackToUser().endsWith(String.format(MESSAGE_LINE_ERROR, 2, MESSAGE_UNCLOSED_QUOTE)));
+    }
+
+    @Test
+    public void execute_noValidLines_addressBookUnchanged() throws Exception {
+        Path csvFile = this.writeCsv(HEADER, toCsvRow(ALICE));
+        long version = this.model.getAddressBookVersion();
+
+        CommandResult result = new ImportCommand(csvFile).execute(this.model);
+
+        assertTrue(result.getFeedbackToUser().startsWith(String.format(MESSAGE_SUCCESS, 0, csvFile)));
+        assertEquals(version, this.model.getAddressBookVersion());
+    }
+
+    @Test
+    public void execute_manyLines_importedInOrderAsSingleModification() throws Exception {
+        List<String> lines = new ArrayList<>();
+        lines.add("name,phone");
+        int clientCount = ImportCommand.BATCH_SIZE + ImportCommand.PARALLEL_THRESHOLD + 1;
+        for (int i = 0; i < clientCount; i++) {
+            lines.add("Client " + i + "," + (80000000 + i));
+        }
+        lines.add("Client 0,80000000");
+        Path csvFile = Files.write(this.testFolder.resolve("clients.csv"), lines);
+        Model emptyModel = new ModelManager();
+        long version = emptyModel.getAddressBookVersion();
+
+        CommandResult result = new ImportCommand(csvFile).execute(emptyModel);
+
+        List<Person> persons = emptyModel.getAddressBook().getPersonList();
+        assertEquals(clientCount, persons.size());
+        for (int i = 0; i < clientCount; i++) {
+            assertEquals("Client " + i, persons.get(i).getName().getValue());
+        }
+        assertEquals(version + 1, emptyModel.getAddressBookVersion());
+        assertTrue(result.getFeedbackToUser().endsWith(
+                String.format(MESSAGE_LINE_ERROR, clientCount + 2, MESSAGE_DUPLICATE_IN_FILE)));
+    }
+
+    @Test
+    public void execute_manyInvalidLines_reportedErrorsLimited() throws Exception {
+        List<String> lines = new ArrayList<>(List.of("name,phone"));
+        for (int i = 0; i < ImportCommand.MAX_REPORTED_ERRORS + 2; i++) {
+            lines.add("Client " + i + ",phone");
+        }
+        Path csvFile = Files.write(this.testFolder.resolve("clients.csv"), lines);
+
+        CommandResult result = new ImportCommand(csvFile).execute(this.model);
+
+        String[] resultLines = result.getFeedbackToUser().split("\n");
+        assertEquals(ImportCommand.MAX_REPORTED_ERRORS + 3, resultLines.length);
+        assertEquals(String.format(MESSAGE_MORE_LINES_SKIPPED, 2), resultLines[resultLines.length - 1]);
+    }
+
+    @Test
+    public void execute_invalidHeader_throwsCommandException() throws Exception {
+        Path csvFile = this.writeCsv("name,email", toCsvRow(AMY));
+
+        assertCommandFailure(new ImportCommand(csvFile), this.model, String.format(MESSAGE_INVALID_HEADER, csvFile,
+                String.format(MESSAGE_MISSING_COLUMNS, "name, phone")));
+    }
+
+    @Test
+    public void execute_emptyFile_throwsCommandException() throws Exception {
+        Path csvFile = this.writeCsv("", " ");
+
+        assertCommandFailure(new ImportCommand(csvFile), this.model, String.format(MESSAGE_NO_HEADER, csvFile));
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        Path csvFile = this.testFolder.resolve("missing.csv");
+
+        assertCommandFailure(new ImportCommand(csvFile), this.model,
+                String.format(MESSAGE_READ_FAILED, csvFile, csvFile));
+    }
+
+    @Test
+    public void equals() {
+        ImportCommand importCommand = new ImportCommand(Paths.get("a.csv"));
+
+        // same object -> returns true
+        assertTrue(importCommand.equals(importCommand));
+
+        // same values -> returns true
+        assertTrue(importCommand.equals(new ImportCommand(Paths.get("a.csv"))));
+
+        // different types -> returns false
+        assertFalse(importCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(importCommand.equals(null));
+
+        // different file -> returns false
+        assertFalse(importCommand.equals(new ImportCommand(Paths.get("b.csv"))));
+    }
+
+    private static String toCsvRow(Person person) {
+        List<String> tagNames = new ArrayList<>();
+        person.getTags().forEach(tag -> tagNames.add(tag.getValue()));
+        return String.join(",", person.getName().getValue(), person.getPhone().getValue(),
+                person.getEmail().getValue(), "\"" + person.getAddress().getValue() + "\"",
+                String.join(";", tagNames));
+    }
+
+    private Path writeCsv(String... lines) throws Exception {
+        return Files.write(this.testFolder.resolve("clients.csv"), List.of(lines));
+    }
+}
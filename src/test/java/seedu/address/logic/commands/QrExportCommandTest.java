@@ -0,0 +1,125 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.logic.messages.QrExportCommandMessages.MESSAGE_DATA_FILE;
+import static seedu.address.logic.messages.QrExportCommandMessages.MESSAGE_EXPORT_SUCCESS;
+import static seedu.address.logic.messages.QrExportCommandMessages.MESSAGE_FILE_EXISTS;
+import static seedu.address.logic.messages.QrExportCommandMessages.MESSAGE_NOT_REPLACEABLE_FILE;
+import static seedu.address.logic.messages.QrExportCommandMessages.MESSAGE_NO_CLIENTS_TO_EXPORT;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBookWithNothing;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for QrExportCommand.
+ */
+public class QrExportCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void execute_nonEmptyList_exportsAllDisplayedClients() {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Path exportFile = this.testFolder.resolve("qrcodes.zip");
+        String expectedMessage = String.format(MESSAGE_EXPORT_SUCCESS,
+                model.getFilteredPersonList().size(), exportFile);
+
+        assertCommandSuccess(new QrExportCommand(exportFile, false), model, expectedMessage, expectedModel);
+        assertTrue(Files.exists(exportFile));
+    }
+
+    @Test
+    public void execute_emptyList_nothingExported() {
+        Model model = new ModelManager(getTypicalAddressBookWithNothing(), new UserPrefs());
+        Model expectedModel = new ModelManager(getTypicalAddressBookWithNothing(), new UserPrefs());
+        Path exportFile = this.testFolder.resolve("qrcodes.zip");
+
+        assertCommandSuccess(new QrExportCommand(exportFile, false), model, MESSAGE_NO_CLIENTS_TO_EXPORT,
+                expectedModel);
+        assertFalse(Files.exists(exportFile));
+    }
+
+    @Test
+    public void execute_existingFile_replacedOnlyIfZipAndAllowed() throws Exception {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Path exportFile = this.testFolder.resolve("qrcodes.zip");
+        String expectedMessage = String.format(MESSAGE_EXPORT_SUCCESS, model.getFilteredPersonList().size(),
+                exportFile);
+        assertCommandSuccess(new QrExportCommand(exportFile, false), model, expectedMessage, expectedModel);
+
+        // overwrite not allowed -> not replaced
+        assertCommandFailure(new QrExportCommand(exportFile, false), model,
+                String.format(MESSAGE_FILE_EXISTS, exportFile));
+
+        // overwrite allowed -> replaced
+        assertCommandSuccess(new QrExportCommand(exportFile, true), model, expectedMessage, expectedModel);
+
+        // not a ZIP file -> never replaced
+        Path textFile = Files.writeString(this.testFolder.resolve("notes.zip"), "Not a ZIP file");
+        assertCommandFailure(new QrExportCommand(textFile, true), model,
+                String.format(MESSAGE_NOT_REPLACEABLE_FILE, textFile));
+        assertEquals("Not a ZIP file", Files.readString(textFile));
+    }
+
+    @Test
+    public void execute_dataFile_throwsCommandException() {
+        UserPrefs userPrefs = new UserPrefs();
+        Path dataFile = this.testFolder.resolve("addressbook.zip");
+        userPrefs.setAddressBookFilePath(dataFile);
+        Model model = new ModelManager(getTypicalAddressBook(), userPrefs);
+
+        assertCommandFailure(new QrExportCommand(dataFile, true), model, String.format(MESSAGE_DATA_FILE, dataFile));
+        assertFalse(Files.exists(dataFile));
+    }
+
+    @Test
+    public void execute_unwritableFile_throwsCommandException() throws Exception {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Path file = Files.createFile(this.testFolder.resolve("file"));
+        QrExportCommand command = new QrExportCommand(file.resolve("qrcodes.zip"), false);
+
+        assertThrows(CommandException.class, () -> command.execute(model));
+    }
+
+    @Test
+    public void equals() {
+        QrExportCommand exportCommand = new QrExportCommand(Paths.get("a.zip"), false);
+
+        // same object -> returns true
+        assertTrue(exportCommand.equals(exportCommand));
+
+        // same values -> returns true
+        assertTrue(exportCommand.equals(new QrExportCommand(Paths.get("a.zip"), false)));
+
+        // different types -> returns false
+        assertFalse(exportCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(exportCommand.equals(null));
+
+        // different file -> returns false
+        assertFalse(exportCommand.equals(new QrExportCommand(Paths.get("b.zip"), false)));
+
+        // different overwrite flag -> returns false
+        assertFalse(exportCommand.equals(new QrExportCommand(Paths.get("a.zip"), true)));
+    }
+}
@@ -0,0 +1,123 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.logic.messages.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.logic.messages.RunCommandMessages.MESSAGE_COMMAND_FAILED;
+import static seedu.address.logic.messages.RunCommandMessages.MESSAGE_NESTED_SCRIPT;
+import static seedu.address.logic.messages.RunCommandMessages.MESSAGE_READ_FAILED;
+import static seedu.address.logic.messages.RunCommandMessages.MESSAGE_SUCCESS;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.messages.DeleteCommandMessages;
+import seedu.address.logic.messages.FindCommandMessages;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonUtil;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for RunCommand.
+ */
+public class RunCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_validScript_allCommandsRun() throws Exception {
+        Path scriptFile = this.writeScript("# Onboarding", PersonUtil.getAddCommand(AMY), "",
+                "   " + PersonUtil.getAddCommand(BOB), DeleteCommandMessages.COMMAND_WORD + " 1");
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        expectedModel.addPerson(AMY);
+        expectedModel.addPerson(BOB);
+        expectedModel.deletePerson(ALICE);
+
+        assertCommandSuccess(new RunCommand(scriptFile), this.model, String.format(MESSAGE_SUCCESS, 3, scriptFile),
+                expectedModel);
+    }
+
+    @Test
+    public void execute_failingCommand_rolledBack() throws Exception {
+        Path scriptFile = this.writeScript(PersonUtil.getAddCommand(AMY), "unknownCommand",
+                PersonUtil.getAddCommand(BOB));
+
+        assertCommandFailure(new RunCommand(scriptFile), this.model,
+                String.format(MESSAGE_COMMAND_FAILED, 2, scriptFile, MESSAGE_UNKNOWN_COMMAND));
+        assertFalse(this.model.hasPerson(AMY));
+    }
+
+    @Test
+    public void execute_unexpectedException_rolledBack() throws Exception {
+        Model failingModel = new ModelManager(getTypicalAddressBook(), new UserPrefs()) {
+            @Override
+            public void deletePerson(Person target) {
+                throw new IllegalStateException("Unexpected failure");
+            }
+        };
+        Path scriptFile = this.writeScript(PersonUtil.getAddCommand(AMY), FindCommandMessages.COMMAND_WORD + " n/Amy",
+                DeleteCommandMessages.COMMAND_WORD + " 1");
+
+        assertThrows(IllegalStateException.class, () -> new RunCommand(scriptFile).execute(failingModel));
+        assertFalse(failingModel.hasPerson(AMY));
+        assertEquals(getTypicalAddressBook().getPersonList(), failingModel.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_nestedScript_rolledBack() throws Exception {
+        Path scriptFile = this.writeScript(PersonUtil.getAddCommand(AMY), "run other.txt");
+
+        assertCommandFailure(new RunCommand(scriptFile), this.model,
+                String.format(MESSAGE_COMMAND_FAILED, 2, scriptFile, MESSAGE_NESTED_SCRIPT));
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        Path scriptFile = this.testFolder.resolve("missing.txt");
+
+        assertCommandFailure(new RunCommand(scriptFile), this.model,
+                String.format(MESSAGE_READ_FAILED, scriptFile, scriptFile));
+    }
+
+    @Test
+    public void equals() {
+        RunCommand runCommand = new RunCommand(Paths.get("a.txt"));
+
+        // same object -> returns true
+        assertTrue(runCommand.equals(runCommand));
+
+        // same values -> returns true
+        assertTrue(runCommand.equals(new RunCommand(Paths.get("a.txt"))));
+
+        // different types -> returns false
+        assertFalse(runCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(runCommand.equals(null));
+
+        // different file -> returns false
+        assertFalse(runCommand.equals(new RunCommand(Paths.get("b.txt"))));
+    }
+
+    private Path writeScript(String... lines) throws Exception {
+        return Files.write(this.testFolder.resolve("script.txt"), List.of(lines));
+    }
+}
@@ -2,12 +2,16 @@ package seedu.address.logic.parser;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.messages.AddressBookParserMessages.MESSAGE_AMBIGUOUS_COMMAND;
 import static seedu.address.logic.messages.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.messages.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
+import java.nio.file.Paths;
+import java.util.Set;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.AddCommand;
@@ -18,14 +22,25 @@ import seedu.address.logic.commands.EditCommand.EditPersonDescriptor;
 import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ImportCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.QrExportCommand;
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.logic.messages.AddCommandMessages;
 import seedu.address.logic.messages.ClearCommandMessages;
 import seedu.address.logic.messages.DeleteCommandMessages;
 import seedu.address.logic.messages.EditCommandMessages;
 import seedu.address.logic.messages.ExitCommandMessages;
 import seedu.address.logic.messages.FindCommandMessages;
+import seedu.address.logic.messages.FitAddCommandMessages;
+import seedu.address.logic.messages.FitDeleteCommandMessages;
 import seedu.address.logic.messages.HelpCommandMessages;
+import seedu.address.logic.messages.ImportCommandMessages;
 import seedu.address.logic.messages.ListCommandMessages;
+import seedu.address.logic.messages.NoteCommandMessages;
+import seedu.address.logic.messages.QrExportCommandMessages;
+import seedu.address.logic.messages.RunCommandMessages;
+import seedu.address.logic.messages.WeightCommandMessages;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.predicates.AlwaysTruePredicate;
@@ -40,6 +55,19 @@ public class AddressBookParserTest {
 
     private final AddressBookParser parser = new AddressBookParser();
 
+    @Test
+    public void createDefaultRegistry_everyCommandRegistered() {
+        Set<String> expectedCommandWords = Set.of(AddCommandMessages.COMMAND_WORD, EditCommandMessages.COMMAND_WORD,
+                DeleteCommandMessages.COMMAND_WORD, ClearCommandMessages.COMMAND_WORD, FindCommandMessages.COMMAND_WORD,
+                NoteCommandMessages.COMMAND_WORD, WeightCommandMessages.COMMAND_WORD,
+                FitAddCommandMessages.COMMAND_WORD, FitDeleteCommandMessages.COMMAND_WORD,
+                QrExportCommandMessages.COMMAND_WORD, RunCommandMessages.COMMAND_WORD,
+                ImportCommandMessages.COMMAND_WORD, ListCommandMessages.COMMAND_WORD, HelpCommandMessages.COMMAND_WORD,
+                ExitCommandMessages.COMMAND_WORD);
+
+        assertEquals(expectedCommandWords, AddressBookParser.createDefaultRegistry().getCommandWords());
+    }
+
     @Test
     public void parseCommand_add() throws Exception {
         Person person = new PersonBuilder().build();
@@ -106,6 +134,58 @@ public class AddressBookParserTest {
         assertTrue(this.parser.parseCommand(ListCommandMessages.COMMAND_WORD + " 3") instanceof ListCommand);
     }
 
+    @Test
+    public void parseCommand_qrExport() throws Exception {
+        QrExportCommand command = (QrExportCommand) this.parser.parseCommand(
+                QrExportCommandMessages.COMMAND_WORD + " cohort.zip");
+        assertEquals(new QrExportCommand(Paths.get("cohort.zip"), false), command);
+    }
+
+    @Test
+    public void parseCommand_run() throws Exception {
+        RunCommand command = (RunCommand) this.parser.parseCommand(RunCommandMessages.COMMAND_WORD + " script.txt");
+        assertEquals(new RunCommand(Paths.get("script.txt")), command);
+    }
+
+    @Test
+    public void parseCommand_import() throws Exception {
+        ImportCommand command = (ImportCommand) this.parser.parseCommand(
+                ImportCommandMessages.COMMAND_WORD + " clients.csv");
+        assertEquals(new ImportCommand(Paths.get("clients.csv")), command);
+    }
+
+    @Test
+    public void parseCommand_abbreviationOrAlias() throws Exception {
+        assertTrue(this.parser.parseCommand("lis") instanceof ListCommand);
+        assertTrue(this.parser.parseCommand("EXI") instanceof ExitCommand);
+        assertTrue(this.parser.parseCommand("quit") instanceof ExitCommand);
+    }
+
+    @Test
+    public void parseCommand_abbreviatedDestructiveCommand_throwsParseException() {
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () ->
+                this.parser.parseCommand("del " + INDEX_FIRST_PERSON.getOneBased()));
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> this.parser.parseCommand("cle"));
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> this.parser.parseCommand("imp a.csv"));
+    }
+
+    @Test
+    public void parseCommand_ambiguousAbbreviation_throwsParseException() {
+        assertThrows(ParseException.class, String.format(MESSAGE_AMBIGUOUS_COMMAND, "fit", "fitadd, fitdelete"), () ->
+                this.parser.parseCommand("fit 1"));
+    }
+
+    @Test
+    public void parseCommand_customRegistry() throws Exception {
+        CommandRegistry registry = new CommandRegistry();
+        registry.register("bye", arguments -> new ExitCommand());
+        AddressBookParser customParser = new AddressBookParser(registry);
+
+        assertTrue(customParser.parseCommand("bye") instanceof ExitCommand);
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () ->
+                customParser.parseCommand(ListCommandMessages.COMMAND_WORD));
+    }
+
     @Test
     public void parseCommand_unrecognisedInput_throwsParseException() {
         assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT,
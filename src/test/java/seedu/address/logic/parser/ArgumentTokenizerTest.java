@@ -140,6 +140,40 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, this.hatQ);
     }
 
+    @Test
+    public void tokenize_prefixesSharingCharacters_longestPrefixMatched() {
+        Prefix nSlash = new Prefix("n/");
+        Prefix ntSlash = new Prefix("nt/");
+        Prefix tSlash = new Prefix("t/");
+        Prefix slashA = new Prefix("/a");
+        Prefix slashAll = new Prefix("/all");
+
+        String argsString = "preamble NT/ a note n/name\tt/tag t/ /ALL /a /alls /al";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, nSlash, ntSlash, tSlash, slashA,
+                slashAll);
+        assertPreamblePresent(argMultimap, "preamble");
+        assertArgumentPresent(argMultimap, ntSlash, "a note");
+        assertArgumentPresent(argMultimap, nSlash, "name\tt/tag");
+        assertArgumentPresent(argMultimap, tSlash, "");
+        assertArgumentPresent(argMultimap, slashAll, "", "s");
+        assertArgumentPresent(argMultimap, slashA, "", "l");
+    }
+
+    @Test
+    public void tokenize_manyRepeatedArguments_allValuesInOrder() {
+        StringBuilder argsString = new StringBuilder("preamble");
+        String[] expectedValues = new String[1000];
+        for (int i = 0; i < expectedValues.length; i++) {
+            expectedValues[i] = "value " + i;
+            argsString.append(" p/ ").append(expectedValues[i]).append(' ');
+        }
+
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString.toString(), this.pSlash, this.dashT);
+        assertPreamblePresent(argMultimap, "preamble");
+        assertArgumentPresent(argMultimap, this.pSlash, expectedValues);
+        assertArgumentAbsent(argMultimap, this.dashT);
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
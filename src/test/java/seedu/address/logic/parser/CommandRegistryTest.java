@@ -0,0 +1,127 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.logic.messages.AddressBookParserMessages.MESSAGE_AMBIGUOUS_COMMAND;
+import static seedu.address.logic.messages.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+public class CommandRegistryTest {
+
+    private final Parser<ListCommand> listParser = arguments -> new ListCommand();
+    private final Parser<ExitCommand> exitParser = arguments -> new ExitCommand();
+    private final Parser<ExitCommand> editParser = arguments -> new ExitCommand();
+    private final Parser<ExitCommand> fitAddParser = arguments -> new ExitCommand();
+    private final Parser<ExitCommand> fitParser = arguments -> new ExitCommand();
+    private final Parser<ExitCommand> fitDeleteParser = arguments -> new ExitCommand();
+    private final Parser<ExitCommand> existsParser = arguments -> new ExitCommand();
+
+    private CommandRegistry registry;
+
+    @BeforeEach
+    public void setUp() {
+        this.registry = new CommandRegistry();
+        this.registry.registerWithAbbreviations("list", this.listParser, "ls");
+        this.registry.registerWithAbbreviations("exit", this.exitParser, "quit");
+        this.registry.registerWithAbbreviations("edit", this.editParser);
+        this.registry.registerWithAbbreviations("fitadd", this.fitAddParser);
+        this.registry.registerWithAbbreviations("fit", this.fitParser);
+        this.registry.register("fitdelete", this.fitDeleteParser);
+        this.registry.registerWithAbbreviations("exists", this.existsParser);
+    }
+
+    @Test
+    public void register_duplicateWord_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> this.registry.register("list", this.listParser));
+        assertThrows(IllegalArgumentException.class, () -> this.registry.register("LS", this.listParser));
+        assertThrows(IllegalArgumentException.class, () -> this.registry.register("clear", this.listParser, "quit"));
+        assertThrows(IllegalArgumentException.class, () -> this.registry.register(" ", this.listParser));
+    }
+
+    @Test
+    public void register_duplicateWordRejected_registryUnchanged() throws Exception {
+        assertThrows(IllegalArgumentException.class, () -> this.registry.register("clear", this.listParser, "quit"));
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> this.registry.resolveCommandWord("clear"));
+    }
+
+    @Test
+    public void resolveCommandWord_commandWordOrAlias_returnsCommandWord() throws Exception {
+        assertEquals("list", this.registry.resolveCommandWord("list"));
+        assertEquals("list", this.registry.resolveCommandWord("LiSt"));
+        assertEquals("list", this.registry.resolveCommandWord("ls"));
+        assertEquals("exit", this.registry.resolveCommandWord("quit"));
+        assertEquals("fitdelete", this.registry.resolveCommandWord("FitDelete"));
+    }
+
+    @Test
+    public void resolveCommandWord_unambiguousAbbreviation_returnsCommandWord() throws Exception {
+        assertEquals("list", this.registry.resolveCommandWord("lis"));
+        assertEquals("exit", this.registry.resolveCommandWord("exit"));
+        assertEquals("edit", this.registry.resolveCommandWord("EDI"));
+        assertEquals("exit", this.registry.resolveCommandWord("qui"));
+        assertEquals("fitadd", this.registry.resolveCommandWord("fita"));
+        assertEquals("exists", this.registry.resolveCommandWord("EXIS"));
+    }
+
+    @Test
+    public void resolveCommandWord_abbreviationTooShort_throwsParseException() {
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> this.registry.resolveCommandWord("l"));
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> this.registry.resolveCommandWord("ED"));
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> this.registry.resolveCommandWord("qu"));
+    }
+
+    @Test
+    public void resolveCommandWord_abbreviationOfCommandWithoutAbbreviations_throwsParseException() {
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> this.registry.resolveCommandWord("fitd"));
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () ->
+                this.registry.resolveCommandWord("fitdelet"));
+    }
+
+    @Test
+    public void resolveCommandWord_commandWithoutAbbreviationsRegistered_abbreviationBecomesAmbiguous() {
+        this.registry.register("editall", this.editParser);
+
+        assertThrows(ParseException.class, String.format(MESSAGE_AMBIGUOUS_COMMAND, "edi", "edit, editall"), () ->
+                this.registry.resolveCommandWord("edi"));
+    }
+
+    @Test
+    public void resolveCommandWord_wordOfOneCommandAndAbbreviationOfAnother_returnsExactCommand() throws Exception {
+        assertEquals("fit", this.registry.resolveCommandWord("fit"));
+    }
+
+    @Test
+    public void resolveCommandWord_ambiguousAbbreviation_throwsParseException() {
+        assertThrows(ParseException.class, String.format(MESSAGE_AMBIGUOUS_COMMAND, "exi", "exists, exit"), () ->
+                this.registry.resolveCommandWord("exi"));
+    }
+
+    @Test
+    public void resolveCommandWord_unknownWord_throwsParseException() {
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> this.registry.resolveCommandWord("lists"));
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> this.registry.resolveCommandWord("x"));
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> this.registry.resolveCommandWord(""));
+    }
+
+    @Test
+    public void getParser_registeredCommand_returnsSameParser() throws Exception {
+        assertSame(this.listParser, this.registry.getParser("ls"));
+        assertSame(this.listParser, this.registry.getParser("list"));
+        assertSame(this.exitParser, this.registry.getParser("qui"));
+    }
+
+    @Test
+    public void getCommandWords() {
+        assertEquals(Set.of("list", "exit", "edit", "fitadd", "fit", "fitdelete", "exists"),
+                this.registry.getCommandWords());
+    }
+}
@@ -0,0 +1,146 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.messages.ImportCommandMessages.MESSAGE_DUPLICATE_COLUMN;
+import static seedu.address.logic.messages.ImportCommandMessages.MESSAGE_DUPLICATE_WEIGH_IN_DATE;
+import static seedu.address.logic.messages.ImportCommandMessages.MESSAGE_INVALID_WEIGH_IN_DATE;
+import static seedu.address.logic.messages.ImportCommandMessages.MESSAGE_MISSING_COLUMNS;
+import static seedu.address.logic.messages.ImportCommandMessages.MESSAGE_MULTIPLE_UNDATED_WEIGH_INS;
+import static seedu.address.logic.messages.ImportCommandMessages.MESSAGE_UNCLOSED_QUOTE;
+import static seedu.address.logic.messages.ImportCommandMessages.MESSAGE_UNKNOWN_COLUMN;
+import static seedu.address.logic.messages.ImportCommandMessages.MESSAGE_WRONG_FIELD_COUNT;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Height;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.messages.PhoneMessages;
+import seedu.address.model.person.messages.TagMessages;
+import seedu.address.model.person.weight.Weight;
+import seedu.address.testutil.PersonBuilder;
+
+public class CsvPersonParserTest {
+
+    private static final String HEADER = "name,phone,email,address,height,weights,note,tags";
+
+    @Test
+    public void constructor_validHeader_columnsInAnyOrderAndCase() throws Exception {
+        CsvPersonParser parser = new CsvPersonParser("\uFEFF Phone , NAME");
+        Person expectedPerson = new PersonBuilder().withName("Amy Bee").withPhone("85355255").withEmail("")
+                .withAddress("").withTags().build();
+
+        assertEquals(expectedPerson, parser.parse("85355255,Amy Bee"));
+    }
+
+    @Test
+    public void constructor_unknownColumn_throwsParseException() {
+        assertThrows(ParseException.class, String.format(MESSAGE_UNKNOWN_COLUMN, "age",
+                String.join(", ", CsvPersonParser.COLUMNS)), () -> new CsvPersonParser("name,phone,age"));
+    }
+
+    @Test
+    public void constructor_duplicateColumn_throwsParseException() {
+        assertThrows(ParseException.class, String.format(MESSAGE_DUPLICATE_COLUMN, "name"), () ->
+                new CsvPersonParser("name,phone,Name"));
+    }
+
+    @Test
+    public void constructor_missingColumn_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_MISSING_COLUMNS, "name, phone");
+        assertThrows(ParseException.class, expectedMessage, () -> new CsvPersonParser("name,email"));
+        assertThrows(ParseException.class, expectedMessage, () -> new CsvPersonParser("phone"));
+    }
+
+    @Test
+    public void parse_allColumns_returnsPerson() throws Exception {
+        CsvPersonParser parser = new CsvPersonParser(HEADER);
+        Person person = parser.parse("Amy Bee,85355255,amy@gmail.com,\"123, Jurong West Ave 6, #08-111\",165.5,"
+                + "2024-01-31=70.5; 2024-02-29=69,\"Prefers \"\"early\"\" sessions\",friends;owesMoney");
+
+        Person expectedPerson = new PersonBuilder().withNote("Prefers \"early\" sessions")
+                .withTags("friends", "owesMoney").build();
+        assertEquals(expectedPerson, person);
+        assertEquals(new Height(165.5f), person.getHeight());
+        assertEquals(List.of(new Weight(70.5f), new Weight(69f)), List.copyOf(person.getWeights().values()));
+        assertEquals(LocalDate.of(2024, 2, 29).atStartOfDay(), person.getWeights().lastKey());
+    }
+
+    @Test
+    public void parse_blankOptionalFields_defaultsUsed() throws Exception {
+        CsvPersonParser parser = new CsvPersonParser(HEADER);
+        Person person = parser.parse("Amy Bee,85355255, ,,,,,");
+
+        assertEquals(new PersonBuilder().withEmail("").withAddress("").withTags().build(), person);
+        assertTrue(person.getHeight().isZero());
+        assertTrue(person.getWeights().isEmpty());
+    }
+
+    @Test
+    public void parse_weighInWithoutDate_recordedNow() throws Exception {
+        CsvPersonParser parser = new CsvPersonParser("name,phone,weights");
+        Person person = parser.parse("Amy Bee,85355255,72");
+
+        assertEquals(new Weight(72f), person.getLatestWeight().get().getValue());
+    }
+
+    @Test
+    public void parse_weighInsAtSameTime_throwsParseException() throws Exception {
+        CsvPersonParser parser = new CsvPersonParser("name,phone,weights");
+
+        assertThrows(ParseException.class, MESSAGE_MULTIPLE_UNDATED_WEIGH_INS, () ->
+                parser.parse("Amy Bee,85355255,70;69"));
+        assertThrows(ParseException.class, String.format(MESSAGE_DUPLICATE_WEIGH_IN_DATE, "2024-01-31"), () ->
+                parser.parse("Amy Bee,85355255,2024-01-31=70;2024-01-31=69"));
+    }
+
+    @Test
+    public void parse_invalidRow_throwsParseException() throws Exception {
+        CsvPersonParser parser = new CsvPersonParser(HEADER);
+
+        assertThrows(ParseException.class, String.format(MESSAGE_WRONG_FIELD_COUNT, 8, 2), () ->
+                parser.parse("Amy Bee,85355255"));
+        assertThrows(ParseException.class, MESSAGE_UNCLOSED_QUOTE, () ->
+                parser.parse("Amy Bee,85355255,,\"123 Jurong,,,,"));
+        assertThrows(ParseException.class, PhoneMessages.MESSAGE_CONSTRAINTS, () ->
+                parser.parse("Amy Bee,phone,,,,,,"));
+        assertThrows(ParseException.class, TagMessages.MESSAGE_CONSTRAINTS, () ->
+                parser.parse("Amy Bee,85355255,,,,,,friends;best friend"));
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_WEIGH_IN_DATE, "31-01-2024"), () ->
+                parser.parse("Amy Bee,85355255,,,,31-01-2024=70,,"));
+    }
+
+    @Test
+    public void parse_quotedFieldWithLineBreak_lineBreakKept() throws Exception {
+        CsvPersonParser parser = new CsvPersonParser("name,phone,note");
+        Person person = parser.parse("Amy Bee,85355255,\"Prefers mornings\nKnee injury\"");
+
+        assertEquals("Prefers mornings\nKnee injury", person.getNote().getValue());
+    }
+
+    @Test
+    public void hasUnclosedQuote() {
+        // quotes closed -> returns false
+        assertFalse(CsvPersonParser.hasUnclosedQuote("a,\"b,c\",d"));
+        assertFalse(CsvPersonParser.hasUnclosedQuote("a,\"say \"\"hi\"\"\""));
+        assertFalse(CsvPersonParser.hasUnclosedQuote("a,5'10\",b"));
+
+        // quoted field not closed -> returns true
+        assertTrue(CsvPersonParser.hasUnclosedQuote("a,\"b"));
+        assertTrue(CsvPersonParser.hasUnclosedQuote("a,\"say \"\"hi"));
+        assertTrue(CsvPersonParser.hasUnclosedQuote("a,\"b\nc"));
+    }
+
+    @Test
+    public void splitFields_quotedFields_quotesRemoved() throws Exception {
+        assertEquals(List.of("a", "", "b,c", "say \"hi\"", ""),
+                CsvPersonParser.splitFields("a,,\"b,c\",\"say \"\"hi\"\"\","));
+        assertEquals(List.of(""), CsvPersonParser.splitFields(""));
+    }
+}
@@ -17,7 +17,7 @@ import java.util.HashSet;
 
 import org.junit.jupiter.api.Test;
 
-import javafx.util.Pair;
+import seedu.address.commons.core.Range;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.messages.FindCommandMessages;
 import seedu.address.model.person.predicates.AddressContainsSubstringPredicate;
@@ -51,9 +51,9 @@ public class FindCommandParserTest {
     private static final AddressContainsSubstringPredicate ADDRESS_PREDICATE = new AddressContainsSubstringPredicate(
             ADDRESS);
     private static final WeightMapContainsWeightRangePredicate WEIGHT_PREDICATE =
-            new WeightMapContainsWeightRangePredicate(new Pair<>(0f, 1000f));
+            new WeightMapContainsWeightRangePredicate(new Range(0f, 1000f));
     private static final HeightContainsRangePredicate HEIGHT_PREDICATE = new HeightContainsRangePredicate(
-            new Pair<>(0f, 500f));
+            new Range(0f, 500f));
     private static final NoteContainsSubstringPredicate NOTE_PREDICATE = new NoteContainsSubstringPredicate(NOTE);
     private static final TagSetContainsAllTagsPredicate TAGS_PREDICATE = new TagSetContainsAllTagsPredicate(
             new HashSet<Tag>(Arrays.asList(new Tag(TAG))));
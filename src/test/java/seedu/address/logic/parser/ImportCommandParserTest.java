@@ -0,0 +1,32 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.messages.ImportCommandMessages.MESSAGE_INVALID_FILE;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ImportCommand;
+
+public class ImportCommandParserTest {
+
+    private ImportCommandParser parser = new ImportCommandParser();
+
+    @Test
+    public void parse_validFile_returnsImportCommand() {
+        assertParseSuccess(this.parser, " data/gym clients.csv ",
+                new ImportCommand(Paths.get("data", "gym clients.csv")));
+    }
+
+    @Test
+    public void parse_emptyArgs_throwsParseException() {
+        assertParseFailure(this.parser, "   ", MESSAGE_INVALID_FILE);
+    }
+
+    @Test
+    public void parse_invalidFile_throwsParseException() {
+        assertParseFailure(this.parser, "clients\0.csv", MESSAGE_INVALID_FILE);
+    }
+}
@@ -0,0 +1,45 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.messages.QrExportCommandMessages.MESSAGE_INVALID_FILE_EXPORT;
+import static seedu.address.logic.messages.QrExportCommandMessages.MESSAGE_NOT_ZIP_FILE;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.QrExportCommand;
+
+public class QrExportCommandParserTest {
+
+    private QrExportCommandParser parser = new QrExportCommandParser();
+
+    @Test
+    public void parse_emptyArgs_returnsQrExportCommandWithDefaultFile() {
+        assertParseSuccess(this.parser, "", new QrExportCommand(QrExportCommand.DEFAULT_EXPORT_FILE, false));
+        assertParseSuccess(this.parser, "   ", new QrExportCommand(QrExportCommand.DEFAULT_EXPORT_FILE, false));
+        assertParseSuccess(this.parser, " /overwrite", new QrExportCommand(QrExportCommand.DEFAULT_EXPORT_FILE, true));
+    }
+
+    @Test
+    public void parse_validFile_returnsQrExportCommand() {
+        assertParseSuccess(this.parser, " exports/gym cohort.zip ",
+                new QrExportCommand(Paths.get("exports", "gym cohort.zip"), false));
+        assertParseSuccess(this.parser, " exports/cohort.ZIP /overwrite ",
+                new QrExportCommand(Paths.get("exports", "cohort.ZIP"), true));
+    }
+
+    @Test
+    public void parse_invalidFile_throwsParseException() {
+        assertParseFailure(this.parser, "cohort\0.zip", MESSAGE_INVALID_FILE_EXPORT);
+        assertParseFailure(this.parser, " cohort.zip /overwrite now", MESSAGE_INVALID_FILE_EXPORT);
+    }
+
+    @Test
+    public void parse_notZipFile_throwsParseException() {
+        assertParseFailure(this.parser, " data/addressbook.json", MESSAGE_NOT_ZIP_FILE);
+        assertParseFailure(this.parser, " preferences.json /overwrite", MESSAGE_NOT_ZIP_FILE);
+        assertParseFailure(this.parser, " data/addressbook.json.journal", MESSAGE_NOT_ZIP_FILE);
+    }
+}
@@ -0,0 +1,32 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.messages.RunCommandMessages.MESSAGE_INVALID_FILE;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.RunCommand;
+
+public class RunCommandParserTest {
+
+    private RunCommandParser parser = new RunCommandParser();
+
+    @Test
+    public void parse_validFile_returnsRunCommand() {
+        assertParseSuccess(this.parser, " scripts/gym onboarding.txt ",
+                new RunCommand(Paths.get("scripts", "gym onboarding.txt")));
+    }
+
+    @Test
+    public void parse_emptyArgs_throwsParseException() {
+        assertParseFailure(this.parser, "   ", MESSAGE_INVALID_FILE);
+    }
+
+    @Test
+    public void parse_invalidFile_throwsParseException() {
+        assertParseFailure(this.parser, "script\0.txt", MESSAGE_INVALID_FILE);
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
@@ -78,6 +79,40 @@ public class AddressBookTest {
         assertTrue(this.addressBook.hasPerson(editedAlice));
     }
 
+    @Test
+    public void getVersion_modifications_versionChanges() {
+        long version = this.addressBook.getVersion();
+
+        this.addressBook.addPerson(ALICE);
+        assertNotEquals(version, this.addressBook.getVersion());
+        version = this.addressBook.getVersion();
+
+        this.addressBook.setPerson(ALICE, new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build());
+        assertNotEquals(version, this.addressBook.getVersion());
+        version = this.addressBook.getVersion();
+
+        this.addressBook.resetData(getTypicalAddressBook());
+        assertNotEquals(version, this.addressBook.getVersion());
+        version = this.addressBook.getVersion();
+
+        this.addressBook.removePerson(ALICE);
+        assertNotEquals(version, this.addressBook.getVersion());
+        version = this.addressBook.getVersion();
+
+        this.addressBook.addPersons(List.of(ALICE));
+        assertNotEquals(version, this.addressBook.getVersion());
+    }
+
+    @Test
+    public void getVersion_queries_versionUnchanged() {
+        this.addressBook.addPerson(ALICE);
+        long version = this.addressBook.getVersion();
+
+        this.addressBook.hasPerson(ALICE);
+        this.addressBook.getPersonList();
+        assertEquals(version, this.addressBook.getVersion());
+    }
+
     @Test
     public void getPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> this.addressBook.getPersonList().remove(0));
@@ -7,15 +7,22 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.predicates.CombinedPredicates;
+import seedu.address.model.person.predicates.EmailContainsSubstringPredicate;
 import seedu.address.model.person.predicates.NameContainsSubstringPredicate;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
@@ -87,11 +94,61 @@ public class ModelManagerTest {
         assertTrue(this.modelManager.hasPerson(ALICE));
     }
 
+    @Test
+    public void addPersons_filteredList_allPersonsShown() {
+        this.modelManager.addPerson(ALICE);
+        this.modelManager.updateFilteredPersonList(new CombinedPredicates(new NameContainsSubstringPredicate("Bob")));
+
+        this.modelManager.addPersons(List.of(BENSON));
+
+        assertTrue(this.modelManager.hasPerson(BENSON));
+        assertEquals(List.of(ALICE, BENSON), this.modelManager.getFilteredPersonList());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> this.modelManager.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void updateFilteredPersonList_indexedPredicate_sameAsTestingEveryPerson() {
+        this.modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        CombinedPredicates predicate = new CombinedPredicates(new NameContainsSubstringPredicate("Meier"),
+                new EmailContainsSubstringPredicate("example"));
+        List<Person> expectedPersons = this.modelManager.getAddressBook().getPersonList().stream()
+                .filter(predicate).collect(Collectors.toList());
+
+        this.modelManager.updateFilteredPersonList(predicate);
+
+        assertEquals(expectedPersons, this.modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void getFilteredPersonListPredicate_updated_returnsLastPredicate() {
+        assertEquals(PREDICATE_SHOW_ALL_PERSONS, this.modelManager.getFilteredPersonListPredicate());
+
+        CombinedPredicates predicate = new CombinedPredicates(new NameContainsSubstringPredicate("Meier"));
+        this.modelManager.updateFilteredPersonList(predicate);
+        assertEquals(predicate, this.modelManager.getFilteredPersonListPredicate());
+    }
+
+    @Test
+    public void updateFilteredPersonList_indexedPredicateThenEdit_editedPersonsTested() {
+        this.modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        this.modelManager.updateFilteredPersonList(new CombinedPredicates(new NameContainsSubstringPredicate("Meier")));
+        Person benson = this.modelManager.getFilteredPersonList().get(0);
+
+        // still matches -> still shown
+        Person editedBenson = new PersonBuilder(benson).withEmail("benson@example.com").build();
+        this.modelManager.setPerson(benson, editedBenson);
+        assertTrue(this.modelManager.getFilteredPersonList().contains(editedBenson));
+
+        // no longer matches -> hidden
+        Person renamedBenson = new PersonBuilder(editedBenson).withName("Benson Smith").build();
+        this.modelManager.setPerson(editedBenson, renamedBenson);
+        assertFalse(this.modelManager.getFilteredPersonList().contains(renamedBenson));
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
@@ -1,9 +1,12 @@
 package seedu.address.model;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.core.DataFileFormat;
+
 public class UserPrefsTest {
 
     @Test
@@ -18,4 +21,20 @@ public class UserPrefsTest {
         assertThrows(NullPointerException.class, () -> userPrefs.setAddressBookFilePath(null));
     }
 
+    @Test
+    public void setAddressBookFileFormat_nullFormat_throwsNullPointerException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(NullPointerException.class, () -> userPrefs.setAddressBookFileFormat(null));
+    }
+
+    @Test
+    public void resetData_differentFileFormat_fileFormatCopied() {
+        UserPrefs binaryUserPrefs = new UserPrefs();
+        binaryUserPrefs.setAddressBookFileFormat(DataFileFormat.BINARY);
+
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.resetData(binaryUserPrefs);
+        assertEquals(binaryUserPrefs, userPrefs);
+    }
+
 }
@@ -6,7 +6,7 @@ import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
 
-import javafx.util.Pair;
+import seedu.address.commons.core.Range;
 
 public class HeightTest {
 
@@ -41,24 +41,19 @@ public class HeightTest {
         Height height = new Height(192.5f);
 
         // Exact range -> returns true
-        assertTrue(height.isMatch(new Pair<Float, Float>(192.5f, 192.5f)));
+        assertTrue(height.isMatch(new Range(192.5f, 192.5f)));
 
         // Falls within range -> returns true
-        assertTrue(height.isMatch(new Pair<Float, Float>(190f, 200f)));
+        assertTrue(height.isMatch(new Range(190f, 200f)));
 
         // Falls outside of range -> returns false
-        assertFalse(height.isMatch(new Pair<Float, Float>(180f, 190f)));
+        assertFalse(height.isMatch(new Range(180f, 190f)));
 
-        // Incorrect generic types -> returns false
-        assertFalse(height.isMatch(new Pair<Object, Object>("foo", "bar")));
-        assertFalse(height.isMatch(new Pair<Float, Object>(180f, "bar")));
-        assertFalse(height.isMatch(new Pair<Object, Object>("foo", 180f)));
+        // Not a range -> returns false
+        assertFalse(height.isMatch("foo"));
+        assertFalse(height.isMatch(180f));
 
-        // Null pair -> returns false
-        assertFalse(height.isMatch(new Pair<Float, Float>(null, null)));
-
-        // Either value is null -> returns false
-        assertFalse(height.isMatch(new Pair<Float, Float>(190f, null)));
-        assertFalse(height.isMatch(new Pair<Float, Float>(null, 200f)));
+        // Null -> returns false
+        assertFalse(height.isMatch(null));
     }
 }
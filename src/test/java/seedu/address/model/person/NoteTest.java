@@ -1,6 +1,8 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -59,4 +61,18 @@ public class NoteTest {
         // Different type
         assertFalse(note.isMatch(1));
     }
+
+    @Test
+    public void containsNormalized() {
+        Note note = new Note("  Likes to EAT ");
+
+        assertSame(note.getSearchKey(), note.getSearchKey());
+        assertEquals("likes to eat", note.getSearchKey());
+        assertTrue(note.containsNormalized("to eat"));
+        assertTrue(note.containsNormalized(TextAttribute.normalize(" Likes ")));
+        assertTrue(note.containsNormalized(""));
+
+        // Not normalized -> returns false
+        assertFalse(note.containsNormalized("EAT"));
+    }
 }
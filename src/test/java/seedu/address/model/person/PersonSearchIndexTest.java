@@ -0,0 +1,241 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.Range;
+import seedu.address.model.person.Person.PersonAttribute;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonSearchIndexTest {
+
+    private final UniquePersonList uniquePersonList = new UniquePersonList();
+    private final PersonSearchIndex searchIndex = this.uniquePersonList.getSearchIndex();
+
+    @BeforeEach
+    public void setUp() {
+        this.uniquePersonList.setPersons(getTypicalPersons());
+    }
+
+    @Test
+    public void findSubstringCandidates_nullArguments_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                this.searchIndex.findSubstringCandidates(null, "meier"));
+        assertThrows(NullPointerException.class, () ->
+                this.searchIndex.findSubstringCandidates(PersonAttribute.NAME, null));
+    }
+
+    @Test
+    public void findSubstringCandidates_shortSubstring_returnsEmpty() {
+        assertEquals(Optional.empty(), this.searchIndex.findSubstringCandidates(PersonAttribute.NAME, ""));
+        assertEquals(Optional.empty(), this.searchIndex.findSubstringCandidates(PersonAttribute.NAME, " me "));
+    }
+
+    @Test
+    public void findSubstringCandidates_attributeNotIndexed_returnsEmpty() {
+        assertEquals(Optional.empty(), this.searchIndex.findSubstringCandidates(PersonAttribute.TAGS, "friends"));
+    }
+
+    @Test
+    public void findSubstringCandidates_indexedAttributes_containsAllMatches() {
+        String[][] searches = {{"NAME", " MEIER "}, {"NAME", "alice"}, {"PHONE", "9482"}, {"EMAIL", "example.com"},
+            {"ADDRESS", "street"}, {"NOTE", "best"}, {"NAME", "nobody"}};
+        for (String[] search : searches) {
+            assertCandidatesContainMatches(PersonAttribute.valueOf(search[0]), search[1]);
+        }
+    }
+
+    @Test
+    public void findSubstringCandidates_rareSubstring_excludesPersonsWithoutTrigrams() {
+        Set<Person> candidates = this.searchIndex.findSubstringCandidates(PersonAttribute.NAME, "pauline").get();
+        assertEquals(Set.of(ALICE), candidates);
+    }
+
+    @Test
+    public void findSubstringCandidates_afterChanges_reflectsChanges() {
+        // Builds the name index, which must then be kept in sync
+        this.searchIndex.findSubstringCandidates(PersonAttribute.NAME, "meier");
+
+        Person editedBenson = new PersonBuilder(BENSON).withName("Benson Smith").build();
+        this.uniquePersonList.setPerson(BENSON, editedBenson);
+        this.uniquePersonList.remove(DANIEL);
+        Person newPerson = new PersonBuilder().withName("Zed Meier").withPhone("81234567").build();
+        this.uniquePersonList.add(newPerson);
+
+        Set<Person> candidates = this.searchIndex.findSubstringCandidates(PersonAttribute.NAME, "meier").get();
+        assertTrue(candidates.contains(newPerson));
+        assertTrue(candidates.stream().noneMatch(person -> person.isSamePerson(BENSON)));
+        assertTrue(candidates.stream().noneMatch(person -> person.isSamePerson(DANIEL)));
+        assertCandidatesContainMatches(PersonAttribute.NAME, "meier");
+        assertCandidatesContainMatches(PersonAttribute.NAME, "smith");
+    }
+
+    @Test
+    public void findSubstringCandidates_afterManyRemovals_containsAllMatches() {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) {
+            persons.add(new PersonBuilder().withName("Client " + i).withPhone(String.valueOf(80000000 + i)).build());
+        }
+        this.uniquePersonList.setPersons(persons);
+        this.searchIndex.findSubstringCandidates(PersonAttribute.NAME, "client");
+
+        // Removing most persons frees enough slots for the index to be compacted
+        for (int i = 0; i < 2900; i++) {
+            this.uniquePersonList.remove(persons.get(i));
+        }
+
+        Set<Person> candidates = this.searchIndex.findSubstringCandidates(PersonAttribute.NAME, "client").get();
+        assertEquals(Set.copyOf(persons.subList(2900, 3000)), candidates);
+        assertCandidatesContainMatches(PersonAttribute.NAME, "t 29");
+    }
+
+    @Test
+    public void trigramIndex_afterManyRemovals_compacted() {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) {
+            persons.add(new PersonBuilder().withName("Client " + i).withPhone(String.valueOf(80000000 + i)).build());
+        }
+        TrigramIndex trigramIndex = new TrigramIndex(PersonAttribute.NAME, persons);
+        for (int i = 0; i < 1500; i++) {
+            trigramIndex.remove(persons.get(i));
+        }
+        assertEquals(3000, trigramIndex.getSlotCount());
+
+        // More freed slots than persons left
+        trigramIndex.remove(persons.get(1500));
+        assertEquals(1499, trigramIndex.getSlotCount());
+    }
+
+    @Test
+    public void findRangeCandidates_attributeNotIndexed_returnsEmpty() {
+        assertEquals(Optional.empty(), this.searchIndex.findRangeCandidates(PersonAttribute.NAME, 0f, 100f));
+    }
+
+    @Test
+    public void findRangeCandidates_height_sameAsMatches() {
+        List<Person> persons = new ArrayList<>();
+        float[] heights = {0f, 150f, 160f, 160f, 170.5f, 160f};
+        for (int i = 0; i < heights.length; i++) {
+            persons.add(new PersonBuilder().withName("Client " + i).withPhone(String.valueOf(80000000 + i))
+                    .withHeight(heights[i]).build());
+        }
+        this.uniquePersonList.setPersons(persons);
+
+        float[][] ranges = {{0f, 0f}, {0f, 1000f}, {150f, 160f}, {160f, 160f}, {160.5f, 170.5f}, {171f, 200f}};
+        for (float[] range : ranges) {
+            assertRangeCandidatesEqualMatches(PersonAttribute.HEIGHT, range[0], range[1]);
+        }
+    }
+
+    @Test
+    public void findRangeCandidates_weightAfterChanges_sameAsMatches() {
+        assertRangeCandidatesEqualMatches(PersonAttribute.WEIGHT, 80f, 90f);
+
+        // New latest weight, as recorded by the weight command
+        Person heavierAlice = new PersonBuilder(ALICE)
+                .withWeights("2024-01-20T10:15:33=85f", "2024-03-01T10:00:00=95f").build();
+        this.uniquePersonList.setPerson(ALICE, heavierAlice);
+        // Weight removed
+        Person bensonWithoutWeight = new PersonBuilder(BENSON).withWeights(new String[0]).build();
+        this.uniquePersonList.setPerson(BENSON, bensonWithoutWeight);
+        Person newPerson = new PersonBuilder().withName("Zed Meier").withPhone("81234567")
+                .withWeights("2024-01-01T10:00:00=85f").build();
+        this.uniquePersonList.add(newPerson);
+
+        assertRangeCandidatesEqualMatches(PersonAttribute.WEIGHT, 80f, 90f);
+        assertRangeCandidatesEqualMatches(PersonAttribute.WEIGHT, 95f, 95f);
+        assertTrue(this.searchIndex.findRangeCandidates(PersonAttribute.WEIGHT, 80f, 90f).get().contains(newPerson));
+    }
+
+    @Test
+    public void findRangeCandidates_equalKeysRemoved_otherPersonsKept() {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            persons.add(new PersonBuilder().withName("Client " + i).withPhone(String.valueOf(80000000 + i))
+                    .withHeight(170f).build());
+        }
+        this.uniquePersonList.setPersons(persons);
+        this.searchIndex.findRangeCandidates(PersonAttribute.HEIGHT, 170f, 170f);
+
+        for (int i = 0; i < 50; i += 2) {
+            this.uniquePersonList.remove(persons.get(i));
+        }
+
+        assertRangeCandidatesEqualMatches(PersonAttribute.HEIGHT, 170f, 170f);
+        assertEquals(25, this.searchIndex.findRangeCandidates(PersonAttribute.HEIGHT, 170f, 170f).get().size());
+    }
+
+    @Test
+    public void findTagCandidates_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> this.searchIndex.findTagCandidates(null));
+    }
+
+    @Test
+    public void findTagCandidates_typicalPersons_sameAsMatches() {
+        assertTagCandidatesEqualMatches("friends");
+        assertTagCandidatesEqualMatches("FRIENDS", "owesmoney");
+        assertTagCandidatesEqualMatches("friends", "unknown");
+        assertTagCandidatesEqualMatches();
+    }
+
+    @Test
+    public void findTagCandidates_afterChanges_sameAsMatches() {
+        // Builds the tag index, which must then be kept in sync
+        assertTagCandidatesEqualMatches("friends");
+
+        Person editedBenson = new PersonBuilder(BENSON).withTags("gym").build();
+        this.uniquePersonList.setPerson(BENSON, editedBenson);
+        this.uniquePersonList.remove(ALICE);
+        Person newPerson = new PersonBuilder().withName("Zed Meier").withPhone("81234567")
+                .withTags("Gym", "friends").build();
+        this.uniquePersonList.add(newPerson);
+
+        assertTagCandidatesEqualMatches("friends");
+        assertTagCandidatesEqualMatches("gym", "friends");
+        assertTagCandidatesEqualMatches("owesMoney");
+        assertTagCandidatesEqualMatches();
+        assertEquals(Set.of(newPerson), this.searchIndex.findTagCandidates(Set.of(new Tag("GYM"), new Tag("friends"))));
+    }
+
+    private void assertTagCandidatesEqualMatches(String... tagNames) {
+        Set<Tag> tags = Set.of(tagNames).stream().map(Tag::new).collect(Collectors.toSet());
+        Set<Person> matches = this.uniquePersonList.asUnmodifiableObservableList().stream()
+                .filter(person -> tags.isEmpty() ? !person.getTags().isEmpty()
+                        : person.getAttribute(PersonAttribute.TAGS).isMatch(tags))
+                .collect(Collectors.toSet());
+        Set<Person> candidates = this.searchIndex.findTagCandidates(tags);
+        assertEquals(matches, candidates, tags.toString());
+    }
+
+    private void assertRangeCandidatesEqualMatches(PersonAttribute attribute, float min, float max) {
+        Range range = new Range(min, max);
+        Set<Person> matches = this.uniquePersonList.asUnmodifiableObservableList().stream()
+                .filter(person -> person.getAttribute(attribute).isMatch(range))
+                .collect(Collectors.toSet());
+        Set<Person> candidates = this.searchIndex.findRangeCandidates(attribute, min, max).get();
+        assertEquals(matches, candidates, attribute + " " + range);
+    }
+
+    private void assertCandidatesContainMatches(PersonAttribute attribute, String substring) {
+        Set<Person> matches = this.uniquePersonList.asUnmodifiableObservableList().stream()
+                .filter(person -> person.getAttribute(attribute).isMatch(substring))
+                .collect(Collectors.toSet());
+        Set<Person> candidates = this.searchIndex.findSubstringCandidates(attribute, substring).get();
+        assertTrue(candidates.containsAll(matches), attribute + " " + substring);
+    }
+}
@@ -13,6 +13,8 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.testutil.PersonBuilder;
@@ -101,6 +103,30 @@ public class PersonTest {
         assertFalse(ALICE.equals(editedAlice));
     }
 
+    @Test
+    public void detailsLoader_detailsAccessed_loadedOnce() {
+        AtomicInteger loadCount = new AtomicInteger();
+        Person person = new Person(ALICE.getName(), ALICE.getPhone(), ALICE.getEmail(), ALICE.getAddress(),
+                ALICE.getHeight(), ALICE.getTags(), () -> {
+                    loadCount.incrementAndGet();
+                    return new PersonDetails(ALICE.getWeights(), ALICE.getNote(), ALICE.getExerciseSet());
+                });
+
+        // identity fields, address, height and tags -> details not loaded
+        assertEquals(ALICE.getName(), person.getName());
+        assertEquals(ALICE.getTags(), person.getTags());
+        assertEquals(ALICE.hashCode(), person.hashCode());
+        assertFalse(person.hasLoadedDetails());
+        assertEquals(0, loadCount.get());
+
+        // details accessed repeatedly -> loaded once
+        assertEquals(ALICE.getNote(), person.getNote());
+        assertEquals(ALICE.getWeights(), person.getWeights());
+        assertEquals(ALICE, person);
+        assertTrue(person.hasLoadedDetails());
+        assertEquals(1, loadCount.get());
+    }
+
     @Test
     public void toStringMethod() {
         String expected = Person.class.getCanonicalName() + "{name=" + ALICE.getName() + ", phone=" + ALICE.getPhone()
@@ -108,37 +134,4 @@ public class PersonTest {
                 + ", tags=" + ALICE.getTags() + "}";
         assertEquals(expected, ALICE.toString());
     }
-
-    /**
-     * Generate a QR code using the ALICE instance and verify its existence.
-     */
-    @Test
-    void generateQrCode_validPerson_success() {
-        ALICE.generateQrCode();
-        assertTrue(ALICE.getQrCodePath().toFile().exists());
-    }
-
-    /**
-     * Delete the QR code using the ALICE instance and verify its absence.
-     */
-    @Test
-    void deleteQrCode_qrCodeExists_returnsTrue() {
-        ALICE.generateQrCode();
-        boolean result = ALICE.deleteQrCode();
-
-        assertTrue(result);
-        assertFalse(ALICE.getQrCodePath().toFile().exists());
-    }
-
-    /**
-     * Delete the QR code using the ALICE instance and verify its absence.
-     */
-    @Test
-    void deleteQrCode_qrCodeDoesNotExist_returnsFalse() {
-        ALICE.deleteQrCode(); // To delete the one generated
-
-        boolean result = ALICE.deleteQrCode(); // Try to delete a non-existent QR code
-        assertFalse(result);
-        assertFalse(ALICE.getQrCodePath().toFile().exists());
-    }
 }
@@ -12,6 +12,7 @@ import static seedu.address.testutil.TypicalPersons.BOB;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
@@ -47,6 +48,39 @@ public class UniquePersonListTest {
         assertTrue(this.uniquePersonList.contains(editedAlice));
     }
 
+    @Test
+    public void contains_removedPerson_returnsFalse() {
+        this.uniquePersonList.add(ALICE);
+        this.uniquePersonList.remove(ALICE);
+        assertFalse(this.uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void find_nullFields_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> this.uniquePersonList.find(null, ALICE.getPhone()));
+        assertThrows(NullPointerException.class, () -> this.uniquePersonList.find(ALICE.getName(), null));
+    }
+
+    @Test
+    public void find_personInList_returnsPerson() {
+        this.uniquePersonList.add(ALICE);
+        assertEquals(Optional.of(ALICE), this.uniquePersonList.find(ALICE.getName(), ALICE.getPhone()));
+    }
+
+    @Test
+    public void find_personNotInList_returnsEmpty() {
+        this.uniquePersonList.add(ALICE);
+        assertEquals(Optional.empty(), this.uniquePersonList.find(ALICE.getName(), BOB.getPhone()));
+    }
+
+    @Test
+    public void find_afterSetPerson_returnsEditedPerson() {
+        this.uniquePersonList.add(ALICE);
+        this.uniquePersonList.setPerson(ALICE, BOB);
+        assertEquals(Optional.empty(), this.uniquePersonList.find(ALICE.getName(), ALICE.getPhone()));
+        assertEquals(Optional.of(BOB), this.uniquePersonList.find(BOB.getName(), BOB.getPhone()));
+    }
+
     @Test
     public void add_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> this.uniquePersonList.add(null));
@@ -58,6 +92,35 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> this.uniquePersonList.add(ALICE));
     }
 
+    @Test
+    public void addAll_nullList_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> this.uniquePersonList.addAll(null));
+    }
+
+    @Test
+    public void addAll_newPersons_addedInOrder() {
+        this.uniquePersonList.add(ALICE);
+        this.uniquePersonList.addAll(List.of(BOB));
+
+        assertEquals(List.of(ALICE, BOB), this.uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(Optional.of(BOB), this.uniquePersonList.find(BOB.getName(), BOB.getPhone()));
+    }
+
+    @Test
+    public void addAll_personAlreadyInList_throwsDuplicatePersonException() {
+        this.uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+
+        assertThrows(DuplicatePersonException.class, () -> this.uniquePersonList.addAll(List.of(BOB, editedAlice)));
+        assertEquals(List.of(ALICE), this.uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void addAll_listWithDuplicatePersons_throwsDuplicatePersonException() {
+        assertThrows(DuplicatePersonException.class, () -> this.uniquePersonList.addAll(List.of(BOB, BOB)));
+        assertFalse(this.uniquePersonList.contains(BOB));
+    }
+
     @Test
     public void setPerson_nullTargetPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> this.uniquePersonList.setPerson(null, ALICE));
@@ -162,6 +225,14 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> this.uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_listWithSameIdentityPersons_throwsDuplicatePersonException() {
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        List<Person> listWithDuplicatePersons = Arrays.asList(ALICE, BOB, editedAlice);
+        assertThrows(DuplicatePersonException.class, () -> this.uniquePersonList.setPersons(listWithDuplicatePersons));
+        assertFalse(this.uniquePersonList.contains(BOB));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -11,7 +11,7 @@ import java.util.TreeMap;
 
 import org.junit.jupiter.api.Test;
 
-import javafx.util.Pair;
+import seedu.address.commons.core.Range;
 import seedu.address.model.person.weight.Weight;
 import seedu.address.model.person.weight.WeightEntry;
 import seedu.address.model.person.weight.WeightMap;
@@ -30,25 +30,20 @@ public class WeightMapTest {
         WeightMap weightMap = new WeightMap(treeMap);
 
         // Exact range -> returns true
-        assertTrue(weightMap.isMatch(new Pair<>(182f, 182f)));
+        assertTrue(weightMap.isMatch(new Range(182f, 182f)));
 
         // Falls within range -> returns true
-        assertTrue(weightMap.isMatch(new Pair<>(180f, 185f)));
+        assertTrue(weightMap.isMatch(new Range(180f, 185f)));
 
         // Falls outside of range -> returns false
-        assertFalse(weightMap.isMatch(new Pair<>(160f, 169f)));
+        assertFalse(weightMap.isMatch(new Range(160f, 169f)));
 
-        // Incorrect generic types -> returns false
-        assertFalse(weightMap.isMatch(new Pair<Object, Object>("foo", "bar")));
-        assertFalse(weightMap.isMatch(new Pair<Float, Object>(182f, "bar")));
-        assertFalse(weightMap.isMatch(new Pair<Object, Float>("foo", 182f)));
+        // Not a range -> returns false
+        assertFalse(weightMap.isMatch("foo"));
+        assertFalse(weightMap.isMatch(180f));
 
-        // Null pair -> returns false
-        assertFalse(weightMap.isMatch(new Pair<Float, Float>(null, null)));
-
-        // Either value is null -> returns false
-        assertFalse(weightMap.isMatch(new Pair<Float, Float>(180f, null)));
-        assertFalse(weightMap.isMatch(new Pair<Float, Float>(null, 180f)));
+        // Null -> returns false
+        assertFalse(weightMap.isMatch(null));
     }
 
     @Test
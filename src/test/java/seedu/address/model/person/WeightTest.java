@@ -6,7 +6,7 @@ import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
 
-import javafx.util.Pair;
+import seedu.address.commons.core.Range;
 import seedu.address.model.person.weight.Weight;
 
 public class WeightTest {
@@ -42,24 +42,19 @@ public class WeightTest {
         Height weight = new Height(92.5f);
 
         // Exact range -> returns true
-        assertTrue(weight.isMatch(new Pair<Float, Float>(92.5f, 92.5f)));
+        assertTrue(weight.isMatch(new Range(92.5f, 92.5f)));
 
         // Falls within range -> returns true
-        assertTrue(weight.isMatch(new Pair<Float, Float>(90f, 100f)));
+        assertTrue(weight.isMatch(new Range(90f, 100f)));
 
         // Falls outside of range -> returns false
-        assertFalse(weight.isMatch(new Pair<Float, Float>(80f, 90f)));
+        assertFalse(weight.isMatch(new Range(80f, 90f)));
 
-        // Incorrect generic types -> returns false
-        assertFalse(weight.isMatch(new Pair<Object, Object>("foo", "bar")));
-        assertFalse(weight.isMatch(new Pair<Float, Object>(80f, "bar")));
-        assertFalse(weight.isMatch(new Pair<Object, Object>("foo", 80f)));
+        // Not a range -> returns false
+        assertFalse(weight.isMatch("foo"));
+        assertFalse(weight.isMatch(180f));
 
-        // Null pair -> returns false
-        assertFalse(weight.isMatch(new Pair<Float, Float>(null, null)));
-
-        // Either value is null -> returns false
-        assertFalse(weight.isMatch(new Pair<Float, Float>(90f, null)));
-        assertFalse(weight.isMatch(new Pair<Float, Float>(null, 100f)));
+        // Null -> returns false
+        assertFalse(weight.isMatch(null));
     }
 }
@@ -1,11 +1,22 @@
 package seedu.address.model.person.predicates;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.core.Range;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSearchIndex;
+import seedu.address.model.tag.Tag;
 import seedu.address.testutil.PersonBuilder;
 
 public class CombinedPredicatesTest {
@@ -97,4 +108,125 @@ public class CombinedPredicatesTest {
         assertFalse(combinedPredicates
                 .equals(new CombinedPredicates(namePredicate, new PhoneContainsSubstringPredicate("invalid"))));
     }
+
+    @Test
+    public void explain_alwaysTruePredicates_dropped() {
+        NameContainsSubstringPredicate namePredicate = new NameContainsSubstringPredicate("meier");
+        CombinedPredicates combinedPredicate = new CombinedPredicates(new AlwaysTruePredicate(), namePredicate,
+                new AlwaysTruePredicate());
+
+        String explanation = combinedPredicate.explain();
+        assertTrue(explanation.contains("2 always-true predicate(s) dropped"), explanation);
+        assertTrue(explanation.contains("1. " + namePredicate), explanation);
+        assertFalse(explanation.contains("2. "), explanation);
+
+        assertTrue(new CombinedPredicates(new AlwaysTruePredicate()).test(new PersonBuilder().build()));
+    }
+
+    @Test
+    public void queryPlan_estimates_selectiveAndCheapPredicatesFirst() {
+        NoteContainsSubstringPredicate notePredicate = new NoteContainsSubstringPredicate("");
+        PhoneContainsSubstringPredicate phonePredicate = new PhoneContainsSubstringPredicate("94351253");
+        AddressContainsSubstringPredicate addressPredicate = new AddressContainsSubstringPredicate("jurong west");
+        QueryPlan plan = new QueryPlan(List.of(notePredicate, addressPredicate, phonePredicate));
+
+        assertEquals(List.of(phonePredicate, addressPredicate, notePredicate), plan.getPredicates());
+    }
+
+    @Test
+    public void queryPlan_statistics_reordersPredicates() {
+        NameContainsSubstringPredicate namePredicate = new NameContainsSubstringPredicate("e");
+        TagSetContainsAllTagsPredicate tagsPredicate = new TagSetContainsAllTagsPredicate(Tag.EMPTY_TAG_SET);
+        QueryPlan plan = new QueryPlan(List.of(tagsPredicate, namePredicate));
+        assertEquals(List.of(namePredicate, tagsPredicate), plan.getPredicates());
+
+        // Every person passes the name predicate, but none has a tag
+        Person person = new PersonBuilder().withName("Client e").withTags().build();
+        for (int i = 0; i < QueryPlan.REPLAN_INTERVAL; i++) {
+            assertFalse(plan.test(person));
+        }
+
+        assertEquals(List.of(tagsPredicate, namePredicate), plan.getPredicates());
+        assertFalse(plan.test(person));
+    }
+
+    @Test
+    public void isNarrowingOf() {
+        CombinedPredicates anyName = new CombinedPredicates(new NameContainsSubstringPredicate(""),
+                new AlwaysTruePredicate());
+        CombinedPredicates nameMe = new CombinedPredicates(new NameContainsSubstringPredicate(" ME"),
+                new AlwaysTruePredicate());
+        CombinedPredicates nameMeier = new CombinedPredicates(new NameContainsSubstringPredicate("meier"),
+                new TagSetContainsAllTagsPredicate(Set.of(new Tag("friends"), new Tag("owesMoney"))));
+        CombinedPredicates nameMeierFriends = new CombinedPredicates(new NameContainsSubstringPredicate("meier"),
+                new TagSetContainsAllTagsPredicate(Set.of(new Tag("FRIENDS"))));
+        CombinedPredicates phoneMe = new CombinedPredicates(new PhoneContainsSubstringPredicate("me"));
+
+        // Longer substring, more tags -> returns true
+        assertTrue(nameMe.isNarrowingOf(anyName));
+        assertTrue(nameMeier.isNarrowingOf(nameMe));
+        assertTrue(nameMeier.isNarrowingOf(nameMeierFriends));
+        assertTrue(nameMeier.isNarrowingOf(new CombinedPredicates(new AlwaysTruePredicate())));
+
+        // Broader or different attribute -> returns false
+        assertFalse(anyName.isNarrowingOf(nameMe));
+        assertFalse(nameMeierFriends.isNarrowingOf(nameMeier));
+        assertFalse(phoneMe.isNarrowingOf(nameMe));
+
+        CombinedPredicates narrowRange = new CombinedPredicates(
+                new HeightContainsRangePredicate(new Range(160f, 170f)));
+        CombinedPredicates wideRange = new CombinedPredicates(
+                new HeightContainsRangePredicate(new Range(150f, 170f)));
+        assertTrue(narrowRange.isNarrowingOf(wideRange));
+        assertFalse(wideRange.isNarrowingOf(narrowRange));
+    }
+
+    @Test
+    public void findCandidates_indexedPredicates_intersectsCandidates() {
+        PersonSearchIndex index = getTypicalAddressBook().getSearchIndex();
+        CombinedPredicates combinedPredicate = new CombinedPredicates(new NameContainsSubstringPredicate("meier"),
+                new NoteContainsSubstringPredicate("best"), new AlwaysTruePredicate());
+
+        assertEquals(Optional.of(Set.of(DANIEL)), combinedPredicate.findCandidates(index));
+
+        combinedPredicate = new CombinedPredicates(new NameContainsSubstringPredicate("meier"),
+                new EmailContainsSubstringPredicate("johnd"));
+        assertEquals(Optional.of(Set.of(BENSON)), combinedPredicate.findCandidates(index));
+    }
+
+    @Test
+    public void findCandidates_rangePredicates_intersectsCandidates() {
+        PersonSearchIndex index = getTypicalAddressBook().getSearchIndex();
+        CombinedPredicates combinedPredicate = new CombinedPredicates(
+                new WeightMapContainsWeightRangePredicate(new Range(84f, 86f)),
+                new HeightContainsRangePredicate(new Range(0f, 1000f)));
+
+        Set<Person> candidates = combinedPredicate.findCandidates(index).get();
+        assertTrue(candidates.stream().allMatch(combinedPredicate));
+        assertTrue(getTypicalAddressBook().getPersonList().stream().filter(combinedPredicate)
+                .allMatch(candidates::contains));
+    }
+
+    @Test
+    public void findCandidates_tagPredicates_intersectsCandidates() {
+        PersonSearchIndex index = getTypicalAddressBook().getSearchIndex();
+        CombinedPredicates combinedPredicate = new CombinedPredicates(
+                new TagSetContainsAllTagsPredicate(Set.of(new Tag("FRIENDS"), new Tag("owesMoney"))),
+                new NameContainsSubstringPredicate("meier"));
+        assertEquals(Optional.of(Set.of(BENSON)), combinedPredicate.findCandidates(index));
+
+        // Persons with any tag
+        Set<Person> candidates = new TagSetContainsAllTagsPredicate(Tag.EMPTY_TAG_SET).findCandidates(index).get();
+        assertTrue(candidates.contains(BENSON));
+        assertTrue(candidates.stream().noneMatch(person -> person.getTags().isEmpty()));
+    }
+
+    @Test
+    public void findCandidates_noIndexedPredicates_returnsEmpty() {
+        PersonSearchIndex index = getTypicalAddressBook().getSearchIndex();
+        CombinedPredicates combinedPredicate = new CombinedPredicates(new NameContainsSubstringPredicate("me"),
+                new AlwaysTruePredicate());
+
+        assertEquals(Optional.empty(), combinedPredicate.findCandidates(index));
+    }
 }
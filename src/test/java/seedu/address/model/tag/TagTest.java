@@ -3,6 +3,7 @@ package seedu.address.model.tag;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -50,6 +51,16 @@ public class TagTest {
         assertFalse(tag.isMatch(1));
     }
 
+    @Test
+    public void getSearchKey() {
+        Tag tag = new Tag("LoVer");
+
+        assertSame(tag.getSearchKey(), tag.getSearchKey());
+        assertEquals("lover", tag.getSearchKey());
+        assertEquals(tag.getSearchKey(), Tag.normalize(" lOVER\n"));
+        assertEquals(new Tag("lover").getSearchKey(), tag.getSearchKey());
+    }
+
     @Test
     public void equals() {
         Tag tag1 = new Tag("taggy1");
@@ -0,0 +1,139 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.DataFileFormat;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+
+public class AddressBookFileConverterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void createStorage_eachFormat_matchingStorage() {
+        Path filePath = this.testFolder.resolve("addressBook");
+        assertTrue(AddressBookFileConverter.createStorage(DataFileFormat.JSON, filePath)
+                instanceof JsonAddressBookStorage);
+        assertTrue(AddressBookFileConverter.createStorage(DataFileFormat.BINARY, filePath)
+                instanceof BinaryAddressBookStorage);
+        assertThrows(NullPointerException.class, () -> AddressBookFileConverter.createStorage(null, filePath));
+    }
+
+    @Test
+    public void convert_jsonToBinaryAndBack_sameAddressBook() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        Path jsonFilePath = this.testFolder.resolve("addressBook.json");
+        Path binaryFilePath = this.testFolder.resolve("addressBook.fbk");
+        Path convertedJsonFilePath = this.testFolder.resolve("converted.json");
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(original);
+
+        assertTrue(AddressBookFileConverter.convert(jsonFilePath, binaryFilePath, DataFileFormat.BINARY));
+        assertEquals(DataFileFormat.BINARY, AddressBookFileConverter.detectFormat(binaryFilePath));
+        assertEquals(original, new AddressBook(new BinaryAddressBookStorage(binaryFilePath).readAddressBook().get()));
+
+        assertTrue(AddressBookFileConverter.convert(binaryFilePath, convertedJsonFilePath, DataFileFormat.JSON));
+        assertEquals(DataFileFormat.JSON, AddressBookFileConverter.detectFormat(convertedJsonFilePath));
+        assertEquals(FileUtil.readFromFile(jsonFilePath), FileUtil.readFromFile(convertedJsonFilePath));
+    }
+
+    @Test
+    public void convert_missingFile_returnsFalse() throws Exception {
+        assertFalse(AddressBookFileConverter.convert(this.testFolder.resolve("missing.json"),
+                this.testFolder.resolve("missing.fbk"), DataFileFormat.BINARY));
+    }
+
+    @Test
+    public void convertIfNeeded_fileWithJournal_convertedToSiblingWithJournalChanges() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        Path filePath = this.testFolder.resolve("addressBook.json");
+        JournaledAddressBookStorage jsonStorage = new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath));
+        jsonStorage.saveAddressBook(original);
+        original.addPerson(HOON);
+        jsonStorage.saveAddressBook(original);
+
+        assertTrue(AddressBookFileConverter.convertIfNeeded(filePath, DataFileFormat.BINARY));
+
+        Path binaryFilePath = this.testFolder.resolve("addressBook.fbk");
+        assertEquals(DataFileFormat.BINARY, AddressBookFileConverter.detectFormat(binaryFilePath));
+        assertEquals(original, new AddressBook(new BinaryAddressBookStorage(binaryFilePath).readAddressBook().get()));
+        assertFalse(FileUtil.isFileExists(filePath));
+        assertFalse(FileUtil.isFileExists(jsonStorage.getJournalFilePath()));
+    }
+
+    @Test
+    public void convertIfNeeded_binaryFileNamedAsJson_movedToBinarySibling() throws Exception {
+        Path filePath = this.testFolder.resolve("addressBook.json");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+
+        assertTrue(AddressBookFileConverter.convertIfNeeded(filePath, DataFileFormat.BINARY));
+
+        Path binaryFilePath = this.testFolder.resolve("addressBook.fbk");
+        assertEquals(getTypicalAddressBook(),
+                new AddressBook(new BinaryAddressBookStorage(binaryFilePath).readAddressBook().get()));
+        assertFalse(FileUtil.isFileExists(filePath));
+    }
+
+    @Test
+    public void convertIfNeeded_fileNameWithoutFormat_convertedInPlace() throws Exception {
+        Path filePath = this.testFolder.resolve("addressBook.dat");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+
+        assertTrue(AddressBookFileConverter.convertIfNeeded(filePath, DataFileFormat.BINARY));
+
+        assertEquals(DataFileFormat.BINARY, AddressBookFileConverter.detectFormat(filePath));
+        assertEquals(getTypicalAddressBook(),
+                new AddressBook(new BinaryAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void convertIfNeeded_fileAlreadyInFormat_notConverted() throws Exception {
+        Path filePath = this.testFolder.resolve("addressBook.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        String contents = FileUtil.readFromFile(filePath);
+
+        assertFalse(AddressBookFileConverter.convertIfNeeded(filePath, DataFileFormat.JSON));
+        assertFalse(AddressBookFileConverter.convertIfNeeded(this.testFolder.resolve("missing.fbk"),
+                DataFileFormat.BINARY));
+        assertEquals(contents, FileUtil.readFromFile(filePath));
+    }
+
+    @Test
+    public void openStorage_convertibleFile_storageOfConvertedFile() throws Exception {
+        Path filePath = this.testFolder.resolve("addressBook.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+
+        AddressBookStorage storage = AddressBookFileConverter.openStorage(filePath, DataFileFormat.BINARY);
+
+        assertTrue(storage instanceof BinaryAddressBookStorage);
+        assertEquals(this.testFolder.resolve("addressBook.fbk"), storage.getAddressBookFilePath());
+        assertEquals(getTypicalAddressBook(), new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void openStorage_unreadableFile_storageOfUnreadableFile() throws Exception {
+        Path filePath = this.testFolder.resolve("addressBook.json");
+        Files.writeString(filePath, "{ \"persons\": [ { ");
+
+        AddressBookStorage storage = AddressBookFileConverter.openStorage(filePath, DataFileFormat.BINARY);
+
+        // the invalid data file is still reported instead of a missing one
+        assertTrue(storage instanceof JsonAddressBookStorage);
+        assertEquals(filePath, storage.getAddressBookFilePath());
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+        assertFalse(FileUtil.isFileExists(this.testFolder.resolve("addressBook.fbk")));
+    }
+}
@@ -0,0 +1,132 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class AsyncAddressBookSaverTest {
+
+    private static final IOException DUMMY_IO_EXCEPTION = new IOException("dummy IO exception");
+
+    @TempDir
+    public Path testFolder;
+
+    private final List<ReadOnlyAddressBook> savedAddressBooks = Collections.synchronizedList(new ArrayList<>());
+    private final CountDownLatch saveStarted = new CountDownLatch(1);
+
+    @Test
+    public void constructor_nullStorage_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new AsyncAddressBookSaver(null));
+    }
+
+    @Test
+    public void requestSave_nullAddressBook_throwsNullPointerException() {
+        AsyncAddressBookSaver saver = new AsyncAddressBookSaver(createStorage(new CountDownLatch(0), null));
+        assertThrows(NullPointerException.class, () -> saver.requestSave(null));
+        saver.shutdown();
+    }
+
+    @Test
+    public void requestSave_flush_addressBookSaved() throws Exception {
+        Path filePath = this.testFolder.resolve("addressBook.json");
+        StorageManager storage = new StorageManager(new JsonAddressBookStorage(filePath),
+                new JsonUserPrefsStorage(this.testFolder.resolve("userPrefs.json")));
+        AsyncAddressBookSaver saver = new AsyncAddressBookSaver(storage);
+        AddressBook addressBook = getTypicalAddressBook();
+
+        saver.requestSave(addressBook);
+        saver.flush();
+
+        assertEquals(addressBook, new AddressBook(storage.readAddressBook().get()));
+        saver.shutdown();
+    }
+
+    @Test
+    public void requestSave_whileSaveInProgress_laterRequestsCoalesced() throws Exception {
+        CountDownLatch blockSaves = new CountDownLatch(1);
+        AsyncAddressBookSaver saver = new AsyncAddressBookSaver(createStorage(blockSaves, null));
+        AddressBook first = new AddressBook();
+        AddressBook second = getTypicalAddressBook();
+        AddressBook third = getTypicalAddressBook();
+        third.addPerson(HOON);
+
+        // The first save blocks the background thread while the later requests pile up
+        saver.requestSave(first);
+        this.saveStarted.await();
+        saver.requestSave(second);
+        saver.requestSave(third);
+        blockSaves.countDown();
+        saver.flush();
+
+        assertEquals(2, this.savedAddressBooks.size());
+        assertSame(first, this.savedAddressBooks.get(0));
+        assertSame(third, this.savedAddressBooks.get(1));
+        saver.shutdown();
+    }
+
+    @Test
+    public void requestSave_saveFails_failureHandlerNotified() {
+        AsyncAddressBookSaver saver = new AsyncAddressBookSaver(createStorage(new CountDownLatch(0),
+                DUMMY_IO_EXCEPTION));
+        List<IOException> failures = Collections.synchronizedList(new ArrayList<>());
+        saver.setFailureHandler(failures::add);
+
+        saver.requestSave(new AddressBook());
+        saver.flush();
+
+        assertEquals(List.of(DUMMY_IO_EXCEPTION), failures);
+        saver.shutdown();
+    }
+
+    @Test
+    public void shutdown_pendingSave_addressBookSaved() {
+        AsyncAddressBookSaver saver = new AsyncAddressBookSaver(createStorage(new CountDownLatch(0), null));
+        AddressBook addressBook = getTypicalAddressBook();
+
+        saver.requestSave(addressBook);
+        saver.shutdown();
+
+        assertEquals(List.of(addressBook), this.savedAddressBooks);
+    }
+
+    /**
+     * Returns a {@code StorageManager} that waits for {@code blockSaves} to be released whenever it saves, and then
+     * throws {@code exception} if it is not null, or records the saved address book otherwise.
+     */
+    private StorageManager createStorage(CountDownLatch blockSaves, IOException exception) {
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(this.testFolder.resolve("addressBook.json")) {
+                    @Override
+                    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath)
+                            throws IOException {
+                        AsyncAddressBookSaverTest.this.saveStarted.countDown();
+                        try {
+                            blockSaves.await();
+                        } catch (InterruptedException e) {
+                            throw new AssertionError(e);
+                        }
+                        if (exception != null) {
+                            throw exception;
+                        }
+                        AsyncAddressBookSaverTest.this.savedAddressBooks.add(addressBook);
+                    }
+                };
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(this.testFolder.resolve("userPrefs.json"));
+        return new StorageManager(addressBookStorage, userPrefsStorage);
+    }
+}
@@ -0,0 +1,239 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> createStorage().readAddressBook(null));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(createStorage().readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = this.testFolder.resolve("TempAddressBook.bin");
+        AddressBook original = getTypicalAddressBook();
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+
+        // Save in new file and read back
+        storage.saveAddressBook(original, filePath);
+        ReadOnlyAddressBook readBack = storage.readAddressBook(filePath).get();
+        assertEquals(original, new AddressBook(readBack));
+
+        // Modify data, overwrite exiting file, and read back
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original, filePath);
+        readBack = storage.readAddressBook(filePath).get();
+        assertEquals(original, new AddressBook(readBack));
+
+        // Save and read without specifying file path
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+        readBack = storage.readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_weightsWithFractionalSeconds_preserved() throws Exception {
+        // The default weight of a built person is recorded at the current time, which has fractional seconds
+        Person person = new PersonBuilder().withNote("Ünïcödé note ✓").build();
+        AddressBook original = new AddressBook();
+        original.addPerson(person);
+
+        BinaryAddressBookStorage storage = createStorage();
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_details_loadedOnAccess() throws Exception {
+        BinaryAddressBookStorage storage = createStorage();
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        Person person = storage.readAddressBook().get().getPersonList().get(0);
+        assertFalse(person.hasLoadedDetails());
+        assertEquals(ALICE.getNote(), person.getNote());
+        assertTrue(person.hasLoadedDetails());
+    }
+
+    @Test
+    public void isBinaryFile() throws Exception {
+        BinaryAddressBookStorage storage = createStorage();
+        storage.saveAddressBook(getTypicalAddressBook());
+        assertTrue(BinaryAddressBookStorage.isBinaryFile(storage.getAddressBookFilePath()));
+
+        Path jsonFilePath = this.testFolder.resolve("addressBook.json");
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(getTypicalAddressBook());
+        assertFalse(BinaryAddressBookStorage.isBinaryFile(jsonFilePath));
+
+        Path emptyFilePath = Files.createFile(this.testFolder.resolve("empty"));
+        assertFalse(BinaryAddressBookStorage.isBinaryFile(emptyFilePath));
+    }
+
+    @Test
+    public void readAddressBook_jsonFile_throwsDataLoadingException() throws Exception {
+        Path filePath = this.testFolder.resolve("addressBook.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_truncatedFile_throwsDataLoadingException() throws Exception {
+        BinaryAddressBookStorage storage = createStorage();
+        storage.saveAddressBook(getTypicalAddressBook());
+        byte[] data = Files.readAllBytes(storage.getAddressBookFilePath());
+        Files.write(storage.getAddressBookFilePath(), Arrays.copyOf(data, data.length - 1));
+
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+    }
+
+    @Test
+    public void readPersons_unsupportedVersion_throwsIllegalValueException() throws Exception {
+        ByteBuffer data = encode(BinaryAddressBookStorage.MAGIC_NUMBER, BinaryAddressBookStorage.FORMAT_VERSION + 1,
+                0);
+        assertThrows(IllegalValueException.class, String.format(BinaryAddressBookStorage.MESSAGE_UNSUPPORTED_VERSION,
+                BinaryAddressBookStorage.FORMAT_VERSION + 1), () -> BinaryAddressBookStorage.readPersons(data));
+    }
+
+    @Test
+    public void readPersons_invalidRecordLength_throwsIllegalValueException() throws Exception {
+        ByteBuffer data = encode(BinaryAddressBookStorage.MAGIC_NUMBER, BinaryAddressBookStorage.FORMAT_VERSION,
+                1, -1);
+        assertThrows(IllegalValueException.class, BinaryAddressBookStorage.MESSAGE_TRUNCATED_FILE, () ->
+                BinaryAddressBookStorage.readPersons(data));
+    }
+
+    @Test
+    public void readPersons_invalidStringLength_throwsIllegalValueException() throws Exception {
+        // A single record whose name claims to be longer than the record itself
+        ByteBuffer data = encode(BinaryAddressBookStorage.MAGIC_NUMBER, BinaryAddressBookStorage.FORMAT_VERSION,
+                1, Integer.BYTES, Integer.MAX_VALUE);
+        assertThrows(IllegalValueException.class, BinaryAdaptedPerson.MESSAGE_INVALID_LENGTH, () ->
+                BinaryAddressBookStorage.readPersons(data));
+    }
+
+    @Test
+    public void readPersons_duplicatePersons_throwsIllegalValueException() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(ALICE);
+        BinaryAddressBookStorage storage = createStorage();
+        storage.saveAddressBook(addressBook);
+
+        // Repeats the only record and bumps the person count
+        ByteBuffer original = ByteBuffer.wrap(Files.readAllBytes(storage.getAddressBookFilePath()));
+        int headerLength = 3 * Integer.BYTES;
+        ByteBuffer duplicated = ByteBuffer.allocate(2 * original.capacity() - headerLength);
+        duplicated.putInt(original.getInt()).putInt(original.getInt()).putInt(original.getInt() + 1);
+        ByteBuffer record = original.slice();
+        duplicated.put(record.duplicate()).put(record).flip();
+
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                BinaryAddressBookStorage.readPersons(duplicated));
+    }
+
+    @Test
+    public void readPersons_invalidPerson_throwsIllegalValueException() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(ALICE);
+        BinaryAddressBookStorage storage = createStorage();
+        storage.saveAddressBook(addressBook);
+
+        // Overwrites the first character of the name, which follows the header, record length and name length
+        byte[] data = Files.readAllBytes(storage.getAddressBookFilePath());
+        data[5 * Integer.BYTES] = '@';
+
+        assertThrows(IllegalValueException.class, () -> BinaryAddressBookStorage.readPersons(ByteBuffer.wrap(data)));
+    }
+
+    @Test
+    public void readPersons_corruptedDetails_throwsIllegalValueException() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(ALICE);
+        BinaryAddressBookStorage storage = createStorage();
+        storage.saveAddressBook(addressBook);
+
+        // The details end the only record, and so the file
+        byte[] data = Files.readAllBytes(storage.getAddressBookFilePath());
+        data[data.length - 1]++;
+
+        assertThrows(IllegalValueException.class, BinaryAdaptedPerson.MESSAGE_CORRUPTED_DETAILS, () ->
+                BinaryAddressBookStorage.readPersons(ByteBuffer.wrap(data)));
+    }
+
+    @Test
+    public void readPersons_invalidDetailsWithValidChecksum_emptyDetailsOnAccess() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(new PersonBuilder().withNote("").build());
+        BinaryAddressBookStorage storage = createStorage();
+        storage.saveAddressBook(addressBook);
+
+        // The details end the only record, and so the file. They are an empty note, one weight and no exercises, and
+        // are preceded by their checksum.
+        ByteBuffer data = ByteBuffer.wrap(Files.readAllBytes(storage.getAddressBookFilePath()));
+        int detailsLength = 4 * Integer.BYTES + Long.BYTES + Float.BYTES;
+        int detailsStart = data.capacity() - detailsLength;
+        data.putFloat(data.capacity() - Integer.BYTES - Float.BYTES, -1f);
+        CRC32 checksum = new CRC32();
+        checksum.update(data.array(), detailsStart, detailsLength);
+        data.putInt(detailsStart - Integer.BYTES, (int) checksum.getValue());
+
+        // only the checksum is checked on load -> details discarded on access
+        Person person = BinaryAddressBookStorage.readPersons(data).getPersonList().get(0);
+        assertFalse(person.hasLoadedDetails());
+        assertTrue(person.getWeights().isEmpty());
+        assertEquals("", person.getNote().getValue());
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> createStorage().saveAddressBook(null));
+    }
+
+    private BinaryAddressBookStorage createStorage() {
+        return new BinaryAddressBookStorage(this.testFolder.resolve("addressBook.bin"));
+    }
+
+    private ByteBuffer encode(int... values) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        for (int value : values) {
+            out.writeInt(value);
+        }
+        return ByteBuffer.wrap(bytes.toByteArray());
+    }
+}
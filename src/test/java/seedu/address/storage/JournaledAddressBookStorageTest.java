@@ -0,0 +1,238 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournaledAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private Path journalFilePath;
+
+    @BeforeEach
+    public void setUp() {
+        this.filePath = this.testFolder.resolve("TempAddressBook.json");
+        this.journalFilePath = JournaledAddressBookStorage.getJournalFilePath(this.filePath);
+    }
+
+    @Test
+    public void constructor_nullStorage_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new JournaledAddressBookStorage(null));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(createStorage().readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_firstSave_writesDataFileOnly() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = createStorage();
+
+        storage.saveAddressBook(original);
+
+        assertTrue(FileUtil.isFileExists(this.filePath));
+        assertFalse(FileUtil.isFileExists(this.journalFilePath));
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_changedPersons_appendsOnlyChanges() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = createStorage();
+        storage.saveAddressBook(original);
+        String snapshot = FileUtil.readFromFile(this.filePath);
+
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        Person editedBenson = new PersonBuilder(BENSON).withNote("Prefers morning sessions").build();
+        original.setPerson(BENSON, editedBenson);
+        storage.saveAddressBook(original);
+
+        // The data file is left untouched and the journal only holds the changed persons
+        assertEquals(snapshot, FileUtil.readFromFile(this.filePath));
+        List<String> journal = readJournal();
+        assertEquals(1, journal.size());
+        assertTrue(journal.get(0).contains(HOON.getName().toString()));
+        assertTrue(journal.get(0).contains(BENSON.getName().toString()));
+        assertFalse(journal.get(0).contains(IDA.getName().toString()));
+
+        // A fresh storage sees the same data as the one that saved it
+        assertEquals(original, new AddressBook(createStorage().readAddressBook().get()));
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_noChanges_nothingWritten() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = createStorage();
+        storage.saveAddressBook(original);
+
+        storage.saveAddressBook(original);
+        storage.saveAddressBook(new AddressBook(original));
+
+        assertFalse(FileUtil.isFileExists(this.journalFilePath));
+    }
+
+    @Test
+    public void saveAddressBook_afterRead_appendsToExistingJournal() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = createStorage();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        // A restarted storage continues the journal from where the previous one left off
+        JournaledAddressBookStorage restartedStorage = createStorage();
+        AddressBook readBack = new AddressBook(restartedStorage.readAddressBook().get());
+        readBack.addPerson(IDA);
+        restartedStorage.saveAddressBook(readBack);
+
+        assertEquals(2, readJournal().size());
+        assertEquals(readBack, new AddressBook(createStorage().readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_reachesCompactionThreshold_compactsJournal() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(
+                new JsonAddressBookStorage(this.filePath), 2);
+        storage.saveAddressBook(original);
+
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+        assertEquals(2, readJournal().size());
+
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        assertFalse(FileUtil.isFileExists(this.journalFilePath));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(this.filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_reorderedPersons_compactsJournal() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = createStorage();
+        storage.saveAddressBook(original);
+
+        List<Person> reversedPersons = new ArrayList<>(original.getPersonList());
+        Collections.reverse(reversedPersons);
+        AddressBook reordered = new AddressBook();
+        reordered.setPersons(reversedPersons);
+        storage.saveAddressBook(reordered);
+
+        assertFalse(FileUtil.isFileExists(this.journalFilePath));
+        assertEquals(reordered, new AddressBook(createStorage().readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_staleJournalEntries_ignored() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = createStorage();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        List<String> staleJournal = readJournal();
+
+        // Simulates a crash after the data file was compacted but before the journal was deleted
+        original.addPerson(IDA);
+        new JsonAddressBookStorage(this.filePath).saveAddressBook(original);
+        Files.write(this.journalFilePath, staleJournal, StandardCharsets.UTF_8);
+
+        assertEquals(original, new AddressBook(createStorage().readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastEntry_ignored() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = createStorage();
+        storage.saveAddressBook(original);
+        AddressBook expected = new AddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        // Simulates a crash while the entry was being appended
+        String entry = readJournal().get(0);
+        Files.write(this.journalFilePath, List.of(entry.substring(0, entry.length() / 2)), StandardCharsets.UTF_8);
+
+        JournaledAddressBookStorage restartedStorage = createStorage();
+        ReadOnlyAddressBook readBack = restartedStorage.readAddressBook().get();
+        assertEquals(expected, new AddressBook(readBack));
+
+        // The next save rewrites the data file and discards the incomplete entry
+        restartedStorage.saveAddressBook(readBack);
+        assertFalse(FileUtil.isFileExists(this.journalFilePath));
+    }
+
+    @Test
+    public void readAddressBook_invalidEntryInMiddleOfJournal_throwsDataLoadingException() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = createStorage();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+
+        List<String> journal = readJournal();
+        journal.set(0, "{ not an entry");
+        Files.write(this.journalFilePath, journal, StandardCharsets.UTF_8);
+
+        assertThrows(DataLoadingException.class, () -> createStorage().readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_otherFilePath_writesDataFileOnly() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        Path otherFilePath = this.testFolder.resolve("OtherAddressBook.json");
+        JournaledAddressBookStorage storage = createStorage();
+
+        storage.saveAddressBook(original, otherFilePath);
+
+        assertFalse(FileUtil.isFileExists(JournaledAddressBookStorage.getJournalFilePath(otherFilePath)));
+        assertEquals(original, new AddressBook(storage.readAddressBook(otherFilePath).get()));
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> createStorage().saveAddressBook(null));
+    }
+
+    private JournaledAddressBookStorage createStorage() {
+        return new JournaledAddressBookStorage(new JsonAddressBookStorage(this.filePath));
+    }
+
+    private List<String> readJournal() throws Exception {
+        return Files.readAllLines(this.journalFilePath, StandardCharsets.UTF_8);
+    }
+}
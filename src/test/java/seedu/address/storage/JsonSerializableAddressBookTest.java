@@ -3,14 +3,23 @@ package seedu.address.storage;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
 import org.junit.jupiter.api.Test;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.testutil.TypicalPersons;
 
 public class JsonSerializableAddressBookTest {
@@ -44,4 +53,62 @@ public class JsonSerializableAddressBookTest {
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void readFrom_typicalPersonsFile_success() throws Exception {
+        AddressBook addressBookFromFile = readFrom(FileUtil.readFromFile(TYPICAL_PERSONS_FILE));
+        assertEquals(TypicalPersons.getTypicalAddressBook(), addressBookFromFile);
+    }
+
+    @Test
+    public void readFrom_invalidPersonFile_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, () -> readFrom(FileUtil.readFromFile(INVALID_PERSON_FILE)));
+    }
+
+    @Test
+    public void readFrom_duplicatePersons_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                readFrom(FileUtil.readFromFile(DUPLICATE_PERSON_FILE)));
+    }
+
+    @Test
+    public void readFrom_unknownFields_ignored() throws Exception {
+        assertEquals(new AddressBook(), readFrom("{ \"version\" : { \"major\" : 1 }, \"persons\" : [ ] }"));
+    }
+
+    @Test
+    public void readFrom_invalidFormat_throwsIoException() {
+        assertThrows(IOException.class, () -> readFrom("[ ]"));
+        assertThrows(IOException.class, () -> readFrom("{ \"persons\" : { } }"));
+        assertThrows(IOException.class, () -> readFrom("{ \"persons\" : [ {"));
+    }
+
+    @Test
+    public void writeTo_typicalPersons_sameAsSerializedAddressBook() throws Exception {
+        AddressBook typicalPersonsAddressBook = TypicalPersons.getTypicalAddressBook();
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableAddressBook(typicalPersonsAddressBook)),
+                writeTo(typicalPersonsAddressBook));
+        assertEquals(typicalPersonsAddressBook, readFrom(writeTo(typicalPersonsAddressBook)));
+    }
+
+    @Test
+    public void writeTo_emptyAddressBook_sameAsSerializedAddressBook() throws Exception {
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableAddressBook(new AddressBook())),
+                writeTo(new AddressBook()));
+    }
+
+    private AddressBook readFrom(String json) throws Exception {
+        try (JsonParser parser = JsonUtil.createParser(
+                new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)))) {
+            return JsonSerializableAddressBook.readFrom(parser);
+        }
+    }
+
+    private String writeTo(ReadOnlyAddressBook addressBook) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (JsonGenerator generator = JsonUtil.createGenerator(out)) {
+            JsonSerializableAddressBook.writeTo(generator, addressBook);
+        }
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
 }
@@ -0,0 +1,84 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class ParallelPersonConverterTest {
+
+    private static final int PERSON_COUNT = 4 * ParallelPersonConverter.PARALLEL_THRESHOLD;
+
+    @Test
+    public void addAll_validPersons_addedInOrder() throws Exception {
+        List<Integer> sources = IntStream.range(0, PERSON_COUNT).boxed().collect(Collectors.toList());
+        AddressBook addressBook = new AddressBook();
+
+        ParallelPersonConverter.addAll(addressBook, sources, ParallelPersonConverterTest::toPerson);
+
+        assertEquals(PERSON_COUNT, addressBook.getPersonList().size());
+        for (int i = 0; i < PERSON_COUNT; i++) {
+            assertEquals(toPerson(i), addressBook.getPersonList().get(i));
+        }
+    }
+
+    @Test
+    public void addAll_severalInvalidPersons_firstErrorReported() {
+        List<Integer> sources = IntStream.range(0, PERSON_COUNT).boxed().collect(Collectors.toList());
+        int firstInvalid = PERSON_COUNT / 2;
+
+        // Every person from the first invalid one onwards fails with a message naming its position
+        assertThrows(IllegalValueException.class, "invalid " + firstInvalid, () ->
+                ParallelPersonConverter.addAll(new AddressBook(), sources, i -> {
+                    if (i >= firstInvalid) {
+                        throw new IllegalValueException("invalid " + i);
+                    }
+                    return toPerson(i);
+                }));
+    }
+
+    @Test
+    public void addAll_duplicateBeforeInvalidPerson_duplicateReported() {
+        List<Integer> sources = IntStream.range(0, PERSON_COUNT).boxed().collect(Collectors.toList());
+        sources.set(1, 0);
+
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                ParallelPersonConverter.addAll(new AddressBook(), sources, i -> {
+                    if (i == PERSON_COUNT - 1) {
+                        throw new IllegalValueException("invalid " + i);
+                    }
+                    return toPerson(i);
+                }));
+    }
+
+    @Test
+    public void addAll_invalidPersonBeforeDuplicate_invalidPersonReported() {
+        List<Integer> sources = new ArrayList<>(List.of(0, -1, 0));
+        AddressBook addressBook = new AddressBook();
+
+        assertThrows(IllegalValueException.class, "invalid -1", () ->
+                ParallelPersonConverter.addAll(addressBook, sources, i -> {
+                    if (i < 0) {
+                        throw new IllegalValueException("invalid " + i);
+                    }
+                    return toPerson(i);
+                }));
+        assertTrue(addressBook.hasPerson(toPerson(0)));
+        assertEquals(1, addressBook.getPersonList().size());
+    }
+
+    private static Person toPerson(int index) {
+        return new PersonBuilder().withName("Person " + index).withPhone(String.valueOf(10000000 + index)).build();
+    }
+}